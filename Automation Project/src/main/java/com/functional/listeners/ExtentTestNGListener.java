@@ -4,14 +4,11 @@ import com.aventstack.extentreports.*;
 import com.functional.utilities.ExtentManager;
 import org.openqa.selenium.*;
 import org.testng.*;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.text.SimpleDateFormat;
-import java.util.Base64;
-import java.util.Date;
-import java.lang.reflect.Field;
 import com.product.Base.BaseTest;
+import com.ui.base.DriverLocator;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
+import com.ui.utilities.ScreenshotService;
 
 /**
  * TestNG Listener for ExtentReports
@@ -20,26 +17,27 @@ import com.product.Base.BaseTest;
  */
 public class ExtentTestNGListener implements ITestListener, ISuiteListener, ITestNGListener {
 
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> testThread = new ThreadLocal<>();
+    private static final String REPORT_NAME = "ContactUsReport.html";
+
+    private static volatile ExtentReports extent;
+    private static ThreadLocal<TestNode> testThread = new ThreadLocal<>();
 
     // CRITICAL: Removed the static WebDriver variable from here
     // public static WebDriver driver; 
 
     @Override
     public void onStart(ISuite suite) {
-        String reportName = "ContactUsReport.html";
-        extent = ExtentManager.getInstance(reportName);
+        extent = ExtentManager.getInstance(REPORT_NAME);
     }
 
     @Override
     public void onFinish(ISuite suite) {
-        ExtentManager.flushReport();
+        ExtentManager.flushReport(REPORT_NAME);
     }
 
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest test = extent.createTest(result.getMethod().getMethodName(),
+        TestNode test = ReportFacade.createTest(extent, result.getMethod().getMethodName(),
                 result.getMethod().getDescription());
         testThread.set(test);
     }
@@ -51,43 +49,24 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener, ITes
 
     @Override
     public void onTestFailure(ITestResult result) {
-        ExtentTest test = testThread.get();
+        TestNode test = testThread.get();
         test.log(Status.FAIL, "❌ Test Failed: " + result.getThrowable());
 
-        try {
-            // Get the instance of the test class that failed
-            Object testClassInstance = result.getInstance();
-
-            // Use Java Reflection to get the 'driver' field from the test instance
-            Field driverField = testClassInstance.getClass().getDeclaredField("driver");
-            driverField.setAccessible(true);
-            WebDriver driver = (WebDriver) driverField.get(testClassInstance);
-
-            if (driver != null) {
-                try {
-                    // Take screenshot
-                    TakesScreenshot ts = (TakesScreenshot) driver;
-                    byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
-
-                    // Attach as Base64 so it’s embedded in the report
-                    String base64 = Base64.getEncoder().encodeToString(screenshot);
-                    test.addScreenCaptureFromBase64String(base64, "Screenshot on Failure");
-
-                    // Also save to file (optional)
-                    String fileName = "screenshot_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".png";
-                    File dest = new File(System.getProperty("user.dir") + "/reports/screenshots/" + fileName);
-                    dest.getParentFile().mkdirs();
-                    Files.write(dest.toPath(), screenshot);
-
-                } catch (IOException e) {
-                    test.log(Status.WARNING, "⚠️ Failed to save screenshot: " + e.getMessage());
+        // The driver field may be declared on a base class; the locator also falls back to the thread's context
+        WebDriver driver = DriverLocator.locate(result);
+        if (driver != null) {
+            try {
+                // Link the stored file instead of embedding Base64, so the report model
+                // held in memory until the last flush does not carry every image
+                String stored = ScreenshotService.store(driver, result.getMethod().getMethodName());
+                if (stored != null) {
+                    test.addScreenCaptureFromPath("../test-output/screenshots/" + stored, "Screenshot on Failure");
                 }
-            } else {
-                 test.log(Status.WARNING, "⚠️ WebDriver instance was not available. Likely already quit.");
+            } catch (WebDriverException e) {
+                test.log(Status.WARNING, "⚠️ Failed to save screenshot: " + e.getMessage());
             }
-        } catch (Exception e) {
-            // This is for cases where reflection fails
-            test.log(Status.WARNING, "⚠️ Failed to get WebDriver instance via reflection: " + e.getMessage());
+        } else {
+             test.log(Status.WARNING, "⚠️ WebDriver instance was not available. Likely already quit.");
         }
     }
 
@@ -107,7 +86,7 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener, ITes
     @Override
     public void onFinish(ITestContext context) {}
 
-    public static ExtentTest getTest() {
+    public static TestNode getTest() {
         return testThread.get();
     }
 }
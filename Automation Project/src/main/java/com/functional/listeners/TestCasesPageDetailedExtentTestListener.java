@@ -7,18 +7,18 @@ import org.testng.ITestContext;
 import com.functional.utilities.ExtentManager;
 import com.functional.utilities.ScreenshotUtilities;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.base.DriverLocator;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
+import com.ui.utilities.ReportFlusher;
 
 import org.openqa.selenium.WebDriver;
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import com.ui.utilities.TestMetaRegistry;
 
 public class TestCasesPageDetailedExtentTestListener implements ITestListener {
 
-    private static final Map<String, String> testDescriptions = new HashMap<>();
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static volatile ExtentReports extent;
+    private static ThreadLocal<TestNode> test = new ThreadLocal<>();
     private static TestCasesPageDetailedExtentTestListener instance;
 
     public TestCasesPageDetailedExtentTestListener() {
@@ -31,28 +31,10 @@ public class TestCasesPageDetailedExtentTestListener implements ITestListener {
     }
 
     // Allow other classes to access the current ExtentTest
-    public static ExtentTest getTest() {
+    public static TestNode getTest() {
         return test.get();
     }
 
-    static {
-        testDescriptions.put("TC01_RegisterUser", "Verify 'Register User' link opens correct detailed test steps");
-        testDescriptions.put("TC02_LoginCorrect", "Verify 'Login User with correct email and password' link");
-        testDescriptions.put("TC03_LoginIncorrect", "Verify 'Login User with incorrect email and password' link");
-        testDescriptions.put("TC04_LogoutUser", "Verify 'Logout User' link");
-        testDescriptions.put("TC05_RegisterExisting", "Verify 'Register User with existing email' link");
-        testDescriptions.put("TC06_ContactUsForm", "Verify 'Contact Us Form' link");
-        testDescriptions.put("TC27_AllLinksCorrectScenarios", "Verify every test case link opens the correct scenario steps");
-        testDescriptions.put("TC28_NoBrokenLinks", "Verify that test case links are not broken (no 404/500 error)");
-        testDescriptions.put("TC29_VerticalScrollSupport", "Verify page supports vertical scroll if test case list is long");
-        testDescriptions.put("TC30_FeedbackMailtoLink", "Verify feedback mailto link opens mail client prompt");
-        testDescriptions.put("TC31_ValidEmailSubscription", "Verify email subscription with valid email");
-        testDescriptions.put("TC32_InvalidEmailSubscription", "Verify email subscription with invalid email");
-        testDescriptions.put("TC33_BlankEmailSubscription", "Verify email subscription with blank email");
-        testDescriptions.put("TC34_DuplicateEmailSubscription", "Verify email subscription with duplicated email");
-        testDescriptions.put("TC35_LongEmailSubscription", "Verify entering more than 100 characters in the email subscription field");
-    }
-
     @Override
     public void onStart(ITestContext context) {
         System.out.println("Starting Test Suite: " + context.getName());
@@ -63,17 +45,18 @@ public class TestCasesPageDetailedExtentTestListener implements ITestListener {
     public void onFinish(ITestContext context) {
         System.out.println("Finishing Test Suite: " + context.getName());
         if (extent != null) {
-            extent.flush();
+            ReportFlusher.flush(extent);
         }
     }
 
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        String description = testDescriptions.getOrDefault(testName, "Detailed Test: " + testName);
-        ExtentTest extentTest = extent.createTest(testName, description)
-            .assignCategory("Test Cases Page Detailed Tests")
-            .assignAuthor("QA Team");
+        TestMetaRegistry.Entry meta = TestMetaRegistry.get(result.getMethod());
+        String description = meta.getDescription("Detailed Test: " + testName);
+        TestNode extentTest = ReportFacade.createTest(extent, testName, description)
+            .assignCategory(meta.getCategories("Test Cases Page Detailed Tests"))
+            .assignAuthor(meta.getAuthors("QA Team"));
         test.set(extentTest);
         test.get().info("Starting test: " + testName);
         System.out.println("Starting test: " + testName);
@@ -84,7 +67,7 @@ public class TestCasesPageDetailedExtentTestListener implements ITestListener {
         String testName = result.getMethod().getMethodName();
         test.get().pass("Test Passed: " + testName);
 
-        WebDriver driver = getDriverFromTest(result);
+        WebDriver driver = DriverLocator.locate(result);
         if (driver != null) {
             String screenshotPath = ScreenshotUtilities.captureScreenshotOnPass(driver, testName, "testcasespage");
             if (screenshotPath != null) {
@@ -101,7 +84,7 @@ public class TestCasesPageDetailedExtentTestListener implements ITestListener {
         test.get().fail("Test Failed: " + testName);
         test.get().fail("Error: " + errorMessage);
 
-        WebDriver driver = getDriverFromTest(result);
+        WebDriver driver = DriverLocator.locate(result);
         if (driver != null) {
             String screenshotPath = ScreenshotUtilities.captureScreenshotOnFailure(driver, testName, "testcasespage");
             if (screenshotPath != null) {
@@ -119,16 +102,4 @@ public class TestCasesPageDetailedExtentTestListener implements ITestListener {
         test.get().skip("Reason: " + skipReason);
         System.out.println("SKIP: " + testName + " - " + skipReason);
     }
-
-    private WebDriver getDriverFromTest(ITestResult result) {
-        try {
-            Object testInstance = result.getInstance();
-            Field driverField = testInstance.getClass().getDeclaredField("driver");
-            driverField.setAccessible(true);
-            return (WebDriver) driverField.get(testInstance);
-        } catch (Exception e) {
-            System.err.println("Could not get driver instance: " + e.getMessage());
-            return null;
-        }
-    }
 }
@@ -1,11 +1,12 @@
 package com.functional.pages;
 
 import org.openqa.selenium.By;
+import com.ui.utilities.Site;
 
 public class TestCasesPage {
 
     // Main page elements
-    public static final String TEST_CASES_URL = "https://automationexercise.com/test_cases";
+    public static final String TEST_CASES_URL = Site.url("/test_cases");
     public static final By TEST_CASES_HEADER = By.xpath("//h2[contains(text(),'Test Cases')]");
 
     // Locators for the first 26 test cases (links)
@@ -1,29 +1,21 @@
 package com.functional.utilities;
 
-import org.apache.poi.ss.usermodel.*;
-import java.io.File;
-import java.io.FileInputStream;
+import com.ui.utilities.TestDataRepository;
+import com.ui.utilities.TestDataTable;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class ExcelUtilities {
 
     public static List<String[]> getData(String filePath) {
         List<String[]> data = new ArrayList<>();
-        try (FileInputStream fis = new FileInputStream(new File(filePath));
-             Workbook workbook = WorkbookFactory.create(fis)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
-            Iterator<Row> rows = sheet.iterator();
-
-            // Skip header row
-            if (rows.hasNext()) rows.next();
-
-            while (rows.hasNext()) {
-                Row row = rows.next();
-                String username = row.getCell(0) != null ? row.getCell(0).toString().trim() : "";
-                String password = row.getCell(1) != null ? row.getCell(1).toString().trim() : "";
+        try {
+            // Header row is not part of the cached table
+            TestDataTable table = TestDataRepository.get(filePath, null);
+            for (int r = 0; r < table.getRowCount(); r++) {
+                String[] cells = table.getRow(r);
+                String username = cells.length > 0 ? cells[0] : "";
+                String password = cells.length > 1 ? cells[1] : "";
                 data.add(new String[] { username, password });
             }
         } catch (Exception e) {
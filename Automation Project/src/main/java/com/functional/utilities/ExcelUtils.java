@@ -1,47 +1,118 @@
 package com.functional.utilities;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import java.io.FileInputStream;
+import com.ui.utilities.ExcelStreamReader;
+import com.ui.utilities.TestDataSnapshot;
+
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only handle on one sheet of an Excel file.
+ *
+ * A handle is immutable once opened: the header index is built once and the cell values are
+ * either read from the workbook's compiled snapshot or streamed out of the sheet in a single
+ * pass. Both give the same DataFormatter text and the same row numbers (row 0 is the header,
+ * gaps in the sheet are blank rows). All getters are therefore
+ * safe to call from any number of threads without locking, and handles are shared between
+ * callers that open the same sheet of the same file version.
+ */
+public final class ExcelUtils {
 
-public class ExcelUtils {
+    private static final Map<String, ExcelUtils> handles = new ConcurrentHashMap<>();
 
-    private static Workbook workbook;
-    private static Sheet sheet;
-    private static Map<String, Integer> columnMap = new HashMap<>();
+    private final Map<String, Integer> columnMap;
+    private final TestDataSnapshot.Sheet snapshot;
+    private final String[][] cells;
+    private final int totalRows;
+
+    private ExcelUtils(Map<String, Integer> columnMap, TestDataSnapshot.Sheet snapshot, String[][] cells, int totalRows) {
+        this.columnMap = Collections.unmodifiableMap(columnMap);
+        this.snapshot = snapshot;
+        this.cells = cells;
+        this.totalRows = totalRows;
+    }
 
     /**
-     * Loads an Excel file and selects a sheet.
-     * It also populates a map of column headers to their index.
+     * Returns the handle for a sheet, loading it on first use.
+     * The sheet is read from the workbook's compiled snapshot when one matches the file;
+     * the sheet is only streamed directly if the snapshot cannot be built.
      * @param path The path to the Excel file.
      * @param sheetName The name of the sheet to read.
-     * @throws IOException If the file is not found or cannot be read.
+     * @return The shared handle for the sheet.
+     * @throws IOException If the file or the sheet is not found or cannot be read.
      */
-    public static void setExcelFile(String path, String sheetName) throws IOException {
-        FileInputStream fis = new FileInputStream(path);
-        workbook = new XSSFWorkbook(fis);
-        sheet = workbook.getSheet(sheetName);
-        loadColumnHeaders();
+    public static ExcelUtils open(String path, String sheetName) throws IOException {
+        File file = new File(path).getCanonicalFile();
+        if (!file.isFile()) {
+            throw new IOException("Excel file not found: " + path);
+        }
+        String key = file.getPath() + "|" + sheetName + "|" + file.lastModified();
+        try {
+            return handles.computeIfAbsent(key, k -> {
+                try {
+                    return load(file, sheetName);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Drops all cached handles, e.g. after test data files were rewritten.
+     */
+    public static void clearCache() {
+        handles.clear();
+    }
+
+    private static ExcelUtils load(File file, String sheetName) throws IOException {
+        TestDataSnapshot.Sheet snapshot = null;
+        try {
+            snapshot = TestDataSnapshot.loadOrCompile(file).getSheet(sheetName);
+        } catch (IOException e) {
+            System.out.println("No test data snapshot for " + file + ", streaming the sheet: " + e.getMessage());
+        }
+        if (snapshot != null) {
+            Map<String, Integer> columnMap = new HashMap<>();
+            String[] headers = snapshot.getHeaders();
+            for (int i = 0; i < headers.length; i++) {
+                if (!headers[i].isEmpty()) {
+                    columnMap.put(headers[i], i);
+                }
+            }
+            return new ExcelUtils(columnMap, snapshot, null, snapshot.getRowCount() + 1);
+        }
+
+        // Same reader the snapshot is compiled with, so both paths give the same rows and text
+        List<String[]> rows = new ArrayList<>();
+        ExcelStreamReader.open(file.getPath(), sheetName).forEachRow((rowNum, cells) -> rows.add(cells));
+        String[][] cells = rows.toArray(new String[0][]);
+        return new ExcelUtils(loadColumnHeaders(cells), null, cells, Math.max(1, cells.length));
     }
 
     /**
      * Reads the first row of the sheet and populates a map with column names and their respective indices.
      * This allows for easy data retrieval by column name.
      */
-    private static void loadColumnHeaders() {
-        Row headerRow = sheet.getRow(0);
-        if (headerRow != null) {
-            int colCount = headerRow.getLastCellNum();
-            for (int i = 0; i < colCount; i++) {
-                Cell cell = headerRow.getCell(i);
-                if (cell != null) {
-                    columnMap.put(getCellValue(cell), i);
+    private static Map<String, Integer> loadColumnHeaders(String[][] cells) {
+        Map<String, Integer> columnMap = new HashMap<>();
+        if (cells.length > 0 && cells[0] != null) {
+            for (int i = 0; i < cells[0].length; i++) {
+                if (!cells[0][i].isEmpty()) {
+                    columnMap.put(cells[0][i], i);
                 }
             }
         }
+        return columnMap;
     }
 
     /**
@@ -50,7 +121,7 @@ public class ExcelUtils {
      * @param columnName The name of the column.
      * @return The cell value as a String, or an empty string if not found.
      */
-    public static String getCellData(int rowNum, String columnName) {
+    public String getCellData(int rowNum, String columnName) {
         Integer colNum = columnMap.get(columnName);
         if (colNum == null) {
             return "";
@@ -64,62 +135,19 @@ public class ExcelUtils {
      * @param colNum The column number (0-based).
      * @return The cell value as a String, or an empty string if the row or cell is null.
      */
-    public static String getCellData(int rowNum, int colNum) {
-        Row row = sheet.getRow(rowNum);
-        if (row == null) {
-            return "";
+    public String getCellData(int rowNum, int colNum) {
+        if (snapshot != null) {
+            if (rowNum == 0) {
+                String[] headers = snapshot.getHeaders();
+                return colNum >= 0 && colNum < headers.length ? headers[colNum] : "";
+            }
+            return snapshot.getCell(rowNum - 1, colNum);
         }
-        Cell cell = row.getCell(colNum);
-        return getCellValue(cell);
-    }
-
-    /**
-     * A generic method to get the value of a cell, handling different cell types.
-     * @param cell The cell object.
-     * @return The cell value as a String.
-     */
-    private static String getCellValue(Cell cell) {
-        if (cell == null) {
+        if (rowNum < 0 || rowNum >= cells.length || cells[rowNum] == null) {
             return "";
         }
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                }
-                return String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue()).toUpperCase();
-            case FORMULA:
-                return evaluateFormulaCell(cell);
-            case BLANK:
-                return "";
-            default:
-                return "";
-        }
-    }
-
-    /**
-     * Evaluates a formula cell and returns its result as a String.
-     * @param cell The cell containing the formula.
-     * @return The evaluated formula result as a String.
-     */
-    private static String evaluateFormulaCell(Cell cell) {
-        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-        CellValue cellValue = evaluator.evaluate(cell);
-        switch (cellValue.getCellType()) {
-            case STRING:
-                return cellValue.getStringValue();
-            case NUMERIC:
-                return String.valueOf((long) cellValue.getNumberValue());
-            case BOOLEAN:
-                return String.valueOf(cellValue.getBooleanValue()).toUpperCase();
-            default:
-                return "";
-        }
+        String[] row = cells[rowNum];
+        return colNum >= 0 && colNum < row.length ? row[colNum] : "";
     }
 
     /**
@@ -128,39 +156,27 @@ public class ExcelUtils {
      * @param rowNum The row number (0-based).
      * @return A Map containing the row's data.
      */
-    public static Map<String, String> getRowDataAsMap(int rowNum) {
+    public Map<String, String> getRowDataAsMap(int rowNum) {
         Map<String, String> rowData = new HashMap<>();
         for (Map.Entry<String, Integer> entry : columnMap.entrySet()) {
             rowData.put(entry.getKey(), getCellData(rowNum, entry.getValue()));
         }
         return rowData;
     }
-    
 
     /**
      * Gets the number of rows containing data, excluding the header row.
      * @return The number of data rows.
      */
-    public static int getRowCount() {
-        return sheet.getPhysicalNumberOfRows() - 1;
+    public int getRowCount() {
+        return totalRows - 1;
     }
 
     /**
      * Gets the total number of rows, including the header.
      * @return The total number of rows.
      */
-    public static int getTotalRowCount() {
-        return sheet.getPhysicalNumberOfRows();
-    }
-
-    /**
-     * Closes the workbook and clears the column map.
-     * @throws IOException If an I/O error occurs.
-     */
-    public static void closeExcel() throws IOException {
-        if (workbook != null) {
-            workbook.close();
-            columnMap.clear();
-        }
+    public int getTotalRowCount() {
+        return totalRows;
     }
-}
\ No newline at end of file
+}
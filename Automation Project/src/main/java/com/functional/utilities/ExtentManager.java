@@ -2,13 +2,19 @@ package com.functional.utilities;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.ui.utilities.ReportFlusher;
+
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ExtentManager {
 
-    private static final ThreadLocal<ExtentReports> extent = new ThreadLocal<>();
-    private static String reportFilePath;
+    // One report per report name, shared by every thread that writes to it. Tests are created
+    // and logged only through ReportFacade, whose writer thread is also the one that renders it.
+    private static final Map<String, ExtentReports> reports = new ConcurrentHashMap<>();
+    private static final Map<String, String> reportPaths = new ConcurrentHashMap<>();
 
     private ExtentManager() {
         // prevent instantiation
@@ -16,30 +22,33 @@ public class ExtentManager {
     
     // Generates a unique report name with a timestamp
     public static String getReportPath(String reportName) {
-        if (reportFilePath == null) {
+        return reportPaths.computeIfAbsent(reportName, name -> {
             String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
             String projectPath = System.getProperty("user.dir");
-            reportFilePath = projectPath + "/reports/" + reportName.replace(".html", "") + "_" + timestamp + ".html";
-        }
-        return reportFilePath;
+            return projectPath + "/reports/" + name.replace(".html", "") + "_" + timestamp + ".html";
+        });
     }
 
     public static ExtentReports getInstance(String reportName) {
-        if (extent.get() == null) {
-            String fullPath = getReportPath(reportName);
-            ExtentSparkReporter spark = new ExtentSparkReporter(fullPath);
+        return reports.computeIfAbsent(reportName, name -> {
+            String fullPath = getReportPath(name);
+            ExtentSparkReporter spark = ReportFlusher.sparkReporter(fullPath);
             ExtentReports ext = new ExtentReports();
             ext.attachReporter(spark);
-            extent.set(ext);
-        }
-        return extent.get();
+            ReportFlusher.register(ext, fullPath);
+            return ext;
+        });
     }
 
-    public static void flushReport() {
-        if (extent.get() != null) {
-            extent.get().flush();
-            extent.remove();
-            reportFilePath = null; // Reset for the next run
+    /**
+     * Writes a report one last time and forgets it, leaving the reports of other suites open.
+     * @param reportName The name the report was created with.
+     */
+    public static void flushReport(String reportName) {
+        ExtentReports report = reports.remove(reportName);
+        if (report != null) {
+            ReportFlusher.close(report);
         }
+        reportPaths.remove(reportName); // The next run of this suite gets a new timestamp
     }
-}
\ No newline at end of file
+}
@@ -1,45 +1,18 @@
 package com.functional.utilities;
 
 import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+import com.ui.utilities.ScreenshotService;
+
 public class ScreenshotUtilities {
 
     private static String capture(WebDriver driver, String screenshotName, String folderName) {
-        try {
-            // Add timestamp to avoid overwriting
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-
-            // Save screenshots inside test-output/screenshots/<folderName>
-            String baseDir = System.getProperty("user.dir") + File.separator + "test-output" + File.separator + "screenshots";
-            String dirPath = baseDir + File.separator + folderName;
-            File dir = new File(dirPath);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-
-            // Full file path
-            String fileName = screenshotName + "_" + timestamp + ".png";
-            String filePath = dirPath + File.separator + fileName;
-
-            // Capture screenshot
-            TakesScreenshot ts = (TakesScreenshot) driver;
-            File source = ts.getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(source, new File(filePath));
-
-            // Return relative path (important for ExtentReports)
-            return "./screenshots/" + folderName.replace(File.separator, "/") + "/" + fileName;
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        // Saved once per distinct image in test-output/screenshots/store; index.tsv records the name
+        String storedPath = ScreenshotService.store(driver, folderName.replace(File.separator, "/") + "/" + screenshotName);
+
+        // Return relative path (important for ExtentReports)
+        return storedPath != null ? "./screenshots/" + storedPath : null;
     }
 
     // Generic method
@@ -1,18 +1,22 @@
 package com.product.Base;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.functional.utilities.ExtentManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.base.CommandLatency;
+import com.ui.base.DriverPool;
+import com.ui.base.ExecutionContext;
+import com.ui.base.SessionCache;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
+import com.ui.utilities.ReportFlusher;
+import com.ui.utilities.ScreenshotService;
+import com.ui.utilities.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -22,15 +26,17 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.ui.utilities.Site;
 
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
+    // Both fields route to the session bound to the calling thread (see ExecutionContext)
+    protected final WebDriver driver = ExecutionContext.threadDriver();
+    protected final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     protected static ExtentReports extent;
-    protected ExtentTest test;
-    protected static final String BASE_URL = "https://automationexercise.com";
+    protected static final String BASE_URL = Site.baseUrl();
 
-    private static int testCaseCounter = 1;
+    private static final AtomicInteger testCaseCounter = new AtomicInteger(1);
 
     @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
@@ -45,56 +51,70 @@ public class BaseTest {
 
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
+        // Let queued screenshots land before the report that links them is written
+        ScreenshotService.awaitPending(30_000);
         if (extent != null) {
-            extent.flush();
+            CommandLatency.attachTo(extent);
+            ReportFlusher.flush(extent);
         }
+        System.out.println(DriverPool.getMetrics().summary());
+        System.out.println(CommandLatency.summary());
+        CommandLatency.writeJson();
+        System.out.println(WaitEngine.summary());
+        System.out.println(ScreenshotService.summary());
+        System.out.println(NavigationTiming.summary());
+        System.out.println(SessionCache.summary());
     }
 
     @Parameters({"browser"})
     @BeforeMethod(alwaysRun = true)
     public void setUp(@Optional("chrome") String browser, Method method) {
-        if (browser.equalsIgnoreCase("chrome")) {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-            driver = new ChromeDriver(options);
-        } else if (browser.equalsIgnoreCase("edge")) {
-            WebDriverManager.edgedriver().setup();
-            EdgeOptions options = new EdgeOptions();
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            driver = new EdgeDriver(options);
-        } else {
-            throw new IllegalArgumentException("Browser not supported: " + browser);
-        }
+        // Sessions come warm from the shared pool; options are applied once by DriverFactory
+        WebDriver session = DriverPool.lease(browser);
+        session.manage().window().maximize();
+        session.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-        
-        String tcId = "TC" + testCaseCounter++;
-        test = extent.createTest(tcId + " - " + method.getName());
+        String tcId = "TC" + testCaseCounter.getAndIncrement();
+        ExecutionContext.get()
+                .setDriver(session)
+                .setWait(new WebDriverWait(session, Duration.ofSeconds(10)))
+                .setTest(ReportFacade.createTest(extent, tcId + " - " + method.getName(), null));
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        try {
+            if (ExecutionContext.get().hasDriver()) {
+                DriverPool.release(ExecutionContext.getDriver());
+            }
+        } finally {
+            ExecutionContext.clear();
         }
     }
 
     // --- Utility methods below this line ---
+
+    /**
+     * @return The Extent node of the test method running on the calling thread.
+     */
+    protected TestNode getTest() {
+        return ExecutionContext.getTest();
+    }
+
     protected void logInfo(String message) {
+        TestNode test = getTest();
         if (test != null) test.log(Status.INFO, message);
         System.out.println(message);
     }
 
     protected void logPass(String message) {
+        TestNode test = getTest();
         if (test != null) test.log(Status.PASS, message);
         System.out.println("✓ " + message);
     }
 
     protected void logFail(String message) {
+        TestNode test = getTest();
         if (test != null) test.log(Status.FAIL, message);
         System.err.println("✗ " + message);
     }
@@ -146,26 +166,19 @@ public class BaseTest {
         WebElement element = findElementSafely(locator);
         if (element != null) {
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            WaitEngine.scrollSettled(driver);
         }
     }
 
     protected void scrollToEndOfPage() {
         ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        WaitEngine.scrollSettled(driver);
     }
 
     protected void navigateTo(String url) {
         logInfo("→ Navigating to: " + url);
         driver.get(url);
+        NavigationTiming.capture(driver, getClass().getSimpleName());
     }
 
     protected String generateRandomEmail(String template) {
@@ -175,11 +188,8 @@ public class BaseTest {
         return template;
     }
 
+    // Returns as soon as the page is loaded, its requests are done and the DOM is quiet
     protected void waitForPageLoad() {
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        WaitEngine.pageSettled(driver);
     }
 }
\ No newline at end of file
@@ -2,16 +2,10 @@ package com.ui.base;
 
 import java.time.Duration;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.*;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.annotations.*;
@@ -19,8 +13,11 @@ import org.testng.annotations.Optional;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ExcelDataProvider;
 import com.ui.utilities.ExtentManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.utilities.ReportFlusher;
+import com.ui.utilities.TestDataRepository;
+import com.ui.utilities.Site;
 
 public class ApiTestingBaseTest {
     protected WebDriver driver;
@@ -28,8 +25,8 @@ public class ApiTestingBaseTest {
     protected Actions actions;
     protected ExtentReports extent;
     protected ExtentTest test;
-    protected List<Map<String, String>> testData;
-    protected String apiTestingUrl = "https://automationexercise.com/api_list";
+    protected String testDataPath;
+    protected String apiTestingUrl = Site.url("/api_list");
 
     @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
@@ -37,19 +34,8 @@ public class ApiTestingBaseTest {
             extent = ExtentManager.getInstance("ApiTestingExtentReport.html");
             System.out.println("ExtentReports initialized for API Testing Suite");
             
-            // Load test data from Excel with detailed debugging
-            loadTestDataFromExcel();
-            System.out.println("Test data loaded successfully. Total test cases: " + 
-                (testData != null ? testData.size() : 0));
-                
-            // Debug: Print first few test cases
-            if (testData != null && !testData.isEmpty()) {
-                System.out.println("First test case data:");
-                Map<String, String> firstTest = testData.get(0);
-                for (String key : firstTest.keySet()) {
-                    System.out.println("  " + key + ": " + firstTest.get(key));
-                }
-            }
+            // Locate the Excel file; its rows are streamed by the DataProvider
+            testDataPath = findTestDataFile();
         } catch (Exception e) {
             System.err.println("Error in beforeSuite setup: " + e.getMessage());
             e.printStackTrace();
@@ -60,9 +46,14 @@ public class ApiTestingBaseTest {
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
         if (extent != null) {
-            extent.flush();
+            CommandLatency.attachTo(extent);
+            ReportFlusher.flush(extent);
             System.out.println("ExtentReports flushed for API Testing Suite");
         }
+        System.out.println(DriverPool.getMetrics().summary());
+        System.out.println(CommandLatency.summary());
+        CommandLatency.writeJson();
+        System.out.println(TestDataRepository.summary());
     }
 
     @Parameters({"browser"})
@@ -71,37 +62,23 @@ public class ApiTestingBaseTest {
         try {
             System.out.println("Setting up test environment with browser: " + browser);
             
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-                System.out.println("Chrome browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("edge")) {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                System.out.println("Edge browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("firefox")) {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                System.out.println("Firefox browser initialized successfully");
-            } else {
-                throw new IllegalArgumentException("Browser not supported: " + browser);
-            }
+            driver = DriverPool.lease(browser);
+            System.out.println(browser + " session leased from driver pool");
 
             driver.manage().window().maximize();
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
             wait = new WebDriverWait(driver, Duration.ofSeconds(15));
             actions = new Actions(driver);
             
-            System.out.println("Navigating to: https://automationexercise.com/");
-            driver.get("https://automationexercise.com/");
+            System.out.println("Navigating to: " + Site.url("/"));
+            driver.get(Site.url("/"));
             System.out.println("Browser setup completed successfully");
             
         } catch (Exception e) {
             System.err.println("Error in test setup: " + e.getMessage());
             e.printStackTrace();
-            if (driver != null) {
-                driver.quit();
-            }
+            DriverPool.discard(driver);
+            driver = null;
             throw new RuntimeException("Failed to setup browser", e);
         }
     }
@@ -110,8 +87,9 @@ public class ApiTestingBaseTest {
     public void tearDown() {
         if (driver != null) {
             try {
-                System.out.println("Closing browser and cleaning up test environment");
-                driver.quit();
+                System.out.println("Returning browser to driver pool and cleaning up test environment");
+                DriverPool.release(driver);
+                driver = null;
                 System.out.println("Test environment cleanup completed");
             } catch (Exception e) {
                 System.err.println("Error during cleanup: " + e.getMessage());
@@ -119,9 +97,7 @@ public class ApiTestingBaseTest {
         }
     }
 
-    private void loadTestDataFromExcel() throws IOException {
-        testData = new ArrayList<>();
-        
+    private String findTestDataFile() throws IOException {
         // Debug: Print current working directory
         System.out.println("Current working directory: " + System.getProperty("user.dir"));
         
@@ -135,16 +111,10 @@ public class ApiTestingBaseTest {
             "src/main/resources/APITestData.xlsx"
         };
         
-        String filePath = null;
-        System.out.println("Searching for Excel file in the following locations:");
-        for (String path : possiblePaths) {
-            File file = new File(path);
-            System.out.println("  Checking: " + path + " -> Exists: " + file.exists() + ", Can read: " + file.canRead());
-            if (file.exists() && file.canRead()) {
-                filePath = path;
-                System.out.println("Found Excel file at: " + filePath);
-                break;
-            }
+        // The probe result is remembered for the JVM, so later suites skip the file system walk
+        String filePath = TestDataRepository.locate(possiblePaths);
+        if (filePath != null) {
+            System.out.println("Found Excel file at: " + filePath);
         }
         
         if (filePath == null) {
@@ -161,104 +131,7 @@ public class ApiTestingBaseTest {
             throw new IOException("Excel file 'APITestData.xlsx' not found");
         }
         
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            System.out.println("Excel file opened successfully");
-            System.out.println("Number of sheets: " + workbook.getNumberOfSheets());
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            System.out.println("Sheet name: " + sheet.getSheetName());
-            System.out.println("Number of rows: " + (sheet.getLastRowNum() + 1));
-            
-            if (sheet.getLastRowNum() < 1) {
-                throw new IOException("Excel sheet is empty or has no data rows");
-            }
-            
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                throw new IOException("Excel sheet has no header row");
-            }
-            
-            // Get column headers
-            Map<Integer, String> columnHeaders = new HashMap<>();
-            System.out.println("Column headers found:");
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell cell = headerRow.getCell(i);
-                if (cell != null && cell.getCellType() == CellType.STRING) {
-                    String headerValue = cell.getStringCellValue().trim();
-                    if (!headerValue.isEmpty()) {
-                        columnHeaders.put(i, headerValue);
-                        System.out.println("  Column " + i + ": " + headerValue);
-                    }
-                }
-            }
-            
-            // Read data rows
-            int validRowsProcessed = 0;
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Map<String, String> rowData = new HashMap<>();
-                    boolean hasData = false;
-                    
-                    for (int j = 0; j < Math.min(row.getLastCellNum(), columnHeaders.size()); j++) {
-                        Cell cell = row.getCell(j);
-                        String columnName = columnHeaders.get(j);
-                        String cellValue = "";
-                        
-                        if (cell != null && columnName != null) {
-                            switch (cell.getCellType()) {
-                                case STRING:
-                                    cellValue = cell.getStringCellValue().trim();
-                                    break;
-                                case NUMERIC:
-                                    if (DateUtil.isCellDateFormatted(cell)) {
-                                        cellValue = cell.getDateCellValue().toString();
-                                    } else {
-                                        cellValue = String.valueOf((long) cell.getNumericCellValue());
-                                    }
-                                    break;
-                                case BOOLEAN:
-                                    cellValue = String.valueOf(cell.getBooleanCellValue());
-                                    break;
-                                case BLANK:
-                                    cellValue = "";
-                                    break;
-                                default:
-                                    cellValue = "";
-                            }
-                            
-                            if (!cellValue.isEmpty()) {
-                                hasData = true;
-                            }
-                            rowData.put(columnName, cellValue);
-                        }
-                    }
-                    
-                    // Only add rows that have TestCaseID
-                    if (hasData && rowData.containsKey("TestCaseID") && 
-                        !rowData.get("TestCaseID").isEmpty()) {
-                        testData.add(rowData);
-                        validRowsProcessed++;
-                        System.out.println("Processed row " + i + ": " + rowData.get("TestCaseID"));
-                    } else {
-                        System.out.println("Skipped row " + i + ": No valid TestCaseID found");
-                    }
-                }
-            }
-            
-            System.out.println("Valid rows processed: " + validRowsProcessed);
-            
-            if (testData.isEmpty()) {
-                throw new IOException("No valid test data found in Excel file. Check that TestCaseID column exists and has values.");
-            }
-            
-        } catch (IOException e) {
-            System.err.println("Error loading test data from Excel: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
-        }
+        return filePath;
     }
     
     private void listFilesInDirectory(String dirPath) {
@@ -283,21 +156,15 @@ public class ApiTestingBaseTest {
     }
 
     @DataProvider(name = "apiTestData")
-    public Object[][] getTestData() {
-        System.out.println("DataProvider called. Test data size: " + (testData != null ? testData.size() : "null"));
-        
-        if (testData == null || testData.isEmpty()) {
-            System.err.println("Test data is null or empty. Available data: " + 
-                (testData != null ? testData.size() : "null"));
+    public Iterator<Object[]> getTestData() {
+        if (testDataPath == null) {
             throw new RuntimeException("Test data not loaded properly");
         }
         
-        System.out.println("Providing test data for " + testData.size() + " test cases");
-        Object[][] data = new Object[testData.size()][];
-        for (int i = 0; i < testData.size(); i++) {
-            data[i] = new Object[]{testData.get(i)};
-        }
-        return data;
+        // Rows reach TestNG while the sheet is still being read; only rows with a TestCaseID are used
+        System.out.println("Streaming test data from: " + testDataPath);
+        return ExcelDataProvider.rows(testDataPath, null,
+            row -> row.get("TestCaseID") != null && !row.get("TestCaseID").isEmpty());
     }
 
     protected void logResult(String testCase, boolean status) {
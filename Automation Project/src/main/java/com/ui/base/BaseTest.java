@@ -5,20 +5,20 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.*;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.ui.utilities.ExtentManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.ReportFlusher;
+import com.ui.utilities.ScreenshotService;
+import com.ui.utilities.WaitEngine;
 
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
+    // Both fields route to the session bound to the calling thread (see ExecutionContext)
+    protected final WebDriver driver = ExecutionContext.threadDriver();
+    protected final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
     protected ExtentReports extent;
-    protected ExtentTest test;
 
     @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
@@ -27,15 +27,25 @@ public class BaseTest {
         LocalDateTime now = LocalDateTime.now();
         String timestamp = dtf.format(now);
         String reportName = "ExtentReport_" + timestamp + ".html";
-        
+
         extent = ExtentManager.getInstance(reportName);
     }
 
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
+        // Let queued screenshots land before the report that links them is written
+        ScreenshotService.awaitPending(30_000);
         if (extent != null) {
-            extent.flush();
+            CommandLatency.attachTo(extent);
+            ReportFlusher.flush(extent);
         }
+        System.out.println(DriverPool.getMetrics().summary());
+        System.out.println(CommandLatency.summary());
+        CommandLatency.writeJson();
+        System.out.println(WaitEngine.summary());
+        System.out.println(ScreenshotService.summary());
+        System.out.println(NavigationTiming.summary());
+        System.out.println(SessionCache.summary());
     }
 
     @Parameters({"browser"})
@@ -43,40 +53,30 @@ public class BaseTest {
     public void setUp(@Optional("edge") String browser) {
         setupDriver(browser);
     }
-    
-    // Combined setup method
+
+    // Combined setup method - leases a warm session from the shared pool
     public void setupDriver(String browser) {
-        if (browser.equalsIgnoreCase("chrome")) {
-            WebDriverManager.chromedriver().setup();
-            driver = new ChromeDriver();
-        } else if (browser.equalsIgnoreCase("edge")) {
-            WebDriverManager.edgedriver().setup();
-            driver = new EdgeDriver();
-        } else {
-            throw new IllegalArgumentException("Browser not supported: " + browser);
-        }
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        driver.manage().window().maximize();
+        WebDriver session = DriverPool.lease(browser);
+        ExecutionContext.get()
+                .setDriver(session)
+                .setWait(new WebDriverWait(session, Duration.ofSeconds(10)));
+        session.manage().window().maximize();
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        if (driver != null) {
-            try {
-                // driver.quit() closes ALL windows and ends the session
-                driver.quit();
-            } catch (Exception e) {
-                System.out.println("Exception while closing browser: " + e.getMessage());
-            } finally {
-                driver = null; // Set to null to ensure clean state
+        try {
+            // Returns the session to the pool, which resets it or quits it when worn out
+            if (ExecutionContext.get().hasDriver()) {
+                DriverPool.release(ExecutionContext.getDriver());
             }
+        } finally {
+            ExecutionContext.clear(); // Ensure clean state for the next method on this thread
         }
     }
-    
+
     // Combined teardown method
     public void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
+        tearDown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.ui.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Named launch profiles shared by every way the suites start a browser.
+ *
+ * A profile fixes the page-load strategy, headless mode, image and web-font blocking and the
+ * extension/GPU flags. It is chosen per suite by suffixing the TestNG browser parameter
+ * (browser="chrome:fast-headless"), or for the whole run with -Dbrowser.profile=no-images;
+ * the parameter suffix wins. Without either, suites get full-fidelity, a normal headed browser,
+ * unless they pass a different default to {@link #select(String, BrowserProfile)}.
+ */
+public enum BrowserProfile {
+
+    /** Headless, eager, no images or fonts, no extensions or GPU. For fast functional runs. */
+    FAST_HEADLESS("fast-headless", true, PageLoadStrategy.EAGER, true, true, true),
+    /** Headed, returns as soon as the DOM is ready. */
+    EAGER("eager", false, PageLoadStrategy.EAGER, false, false, true),
+    /** Headed, full page loads, but no images or web fonts are downloaded. */
+    NO_IMAGES("no-images", false, PageLoadStrategy.NORMAL, true, true, true),
+    /** Headed with default options; what a user sees. Use it for visual and performance checks. */
+    FULL_FIDELITY("full-fidelity", false, PageLoadStrategy.NORMAL, false, false, false);
+
+    private static final List<String> FONT_PATTERNS = List.of("*.woff2*", "*.woff*", "*.ttf*", "*.otf*", "*.eot*");
+
+    private final String profileName;
+    private final boolean headless;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final boolean blockImages;
+    private final boolean blockFonts;
+    private final boolean lean;
+
+    BrowserProfile(String profileName, boolean headless, PageLoadStrategy pageLoadStrategy,
+                   boolean blockImages, boolean blockFonts, boolean lean) {
+        this.profileName = profileName;
+        this.headless = headless;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.blockImages = blockImages;
+        this.blockFonts = blockFonts;
+        this.lean = lean;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * @param name A profile name, e.g. fast-headless.
+     * @return The profile.
+     * @throws IllegalArgumentException If no profile has that name.
+     */
+    public static BrowserProfile of(String name) {
+        for (BrowserProfile profile : values()) {
+            if (profile.profileName.equalsIgnoreCase(name.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown browser profile '" + name + "', expected one of "
+                + Arrays.stream(values()).map(BrowserProfile::getProfileName).toList());
+    }
+
+    /**
+     * @param browserParameter The TestNG browser parameter, e.g. chrome or chrome:eager; may be null.
+     * @return The selected profile, full-fidelity if none is selected.
+     */
+    public static BrowserProfile select(String browserParameter) {
+        return select(browserParameter, FULL_FIDELITY);
+    }
+
+    /**
+     * @param browserParameter The TestNG browser parameter, e.g. chrome or chrome:eager; may be null.
+     * @param fallback The profile to use when neither the parameter nor browser.profile names one.
+     * @return The selected profile.
+     */
+    public static BrowserProfile select(String browserParameter, BrowserProfile fallback) {
+        int colon = browserParameter == null ? -1 : browserParameter.indexOf(':');
+        if (colon >= 0) {
+            return of(browserParameter.substring(colon + 1));
+        }
+        String property = System.getProperty("browser.profile");
+        return property != null && !property.isBlank() ? of(property) : fallback;
+    }
+
+    /**
+     * @param browserParameter The TestNG browser parameter, e.g. chrome:eager.
+     * @return The browser part, e.g. chrome.
+     */
+    public static String browserOf(String browserParameter) {
+        int colon = browserParameter.indexOf(':');
+        return colon >= 0 ? browserParameter.substring(0, colon) : browserParameter;
+    }
+
+    /**
+     * Applies the profile to Chrome or Edge options.
+     * @param options The options to change.
+     * @return The same options.
+     */
+    public <T extends ChromiumOptions<?>> T applyTo(T options) {
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("--headless=new", "--window-size=1920,1080");
+        }
+        if (lean) {
+            options.addArguments("--disable-extensions", "--disable-gpu");
+        }
+        if (blockImages) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+        }
+        return options;
+    }
+
+    /**
+     * Applies the profile to Firefox options. Firefox blocks fonts through a preference, as it
+     * has no CDP.
+     * @param options The options to change.
+     * @return The same options.
+     */
+    public FirefoxOptions applyTo(FirefoxOptions options) {
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("-headless", "-width=1920", "-height=1080");
+        }
+        if (lean) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (blockImages) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (blockFonts) {
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+        }
+        return options;
+    }
+
+    /**
+     * @return URL patterns to block on Chromium sessions in addition to the ad blocklist.
+     */
+    public List<String> blockedUrlPatterns() {
+        return blockFonts ? FONT_PATTERNS : List.of();
+    }
+}
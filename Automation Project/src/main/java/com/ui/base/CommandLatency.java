@@ -0,0 +1,239 @@
+package com.ui.base;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.ui.utilities.LatencyHistogram;
+import com.ui.utilities.ReportFacade;
+
+/**
+ * Measures how long every WebDriver command takes.
+ *
+ * Sessions created by the {@link DriverPool} are wrapped in Selenium's EventFiringDecorator with
+ * a listener that times each call on the driver, its elements, navigation and options. Durations
+ * go into {@link LatencyHistogram}s per command (e.g. WebElement.click), per page object (the
+ * first com.*.pages class on the call stack), per locator and per test, so the suite can tell
+ * where the time inside a test goes.
+ *
+ * {@link #writeJson()} writes p50/p95/p99 per command and page, the slowest locators and the
+ * driver time per test to latency.report.file (default target/command-latency.json), and
+ * {@link #attachTo(ExtentReports)} adds the same tables to the Extent report.
+ * latency.enabled=false leaves sessions undecorated.
+ */
+public final class CommandLatency {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("latency.enabled", "true"));
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("latency.report.file", "target/command-latency.json"));
+    private static final int TOP_LOCATORS = Integer.getInteger("latency.top.locators", 15);
+    private static final String NONE = "(none)";
+
+    private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byPage = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byLocator = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byTest = new ConcurrentHashMap<>();
+
+    // Locator each element was found with, so element commands can be attributed to it
+    private static final Map<WebElement, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private CommandLatency() {}
+
+    /**
+     * Wraps a new session so its commands are timed.
+     * @param driver The raw session.
+     * @return The decorated session, or the same session when latency.enabled is false.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ENABLED) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new Listener()).decorate(driver);
+    }
+
+    /**
+     * @return A one-line summary of the slowest commands, for the suite log.
+     */
+    public static String summary() {
+        StringBuilder line = new StringBuilder("WebDriver commands:");
+        sorted(byCommand, 5).forEach(entry -> line.append(String.format(" %s n=%d p95=%.1fms;",
+                entry.getKey(), entry.getValue().getCount(),
+                LatencyHistogram.millis(entry.getValue().getPercentileMicros(95)))));
+        return byCommand.isEmpty() ? line.append(" none recorded").toString() : line.toString();
+    }
+
+    /**
+     * Writes the run's latency summary as JSON.
+     * @return The file written, or null if writing failed.
+     */
+    public static Path writeJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commands", toMaps(sorted(byCommand, Integer.MAX_VALUE)));
+        report.put("pages", toMaps(sorted(byPage, Integer.MAX_VALUE)));
+        report.put("slowestLocators", toMaps(sorted(byLocator, TOP_LOCATORS)));
+        report.put("tests", toMaps(sorted(byTest, Integer.MAX_VALUE)));
+        try {
+            Path parent = REPORT_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(REPORT_FILE, StandardCharsets.UTF_8);
+                 JsonOutput out = new Json().newOutput(writer)) {
+                out.write(report);
+            }
+            System.out.println("WebDriver command latency written to " + REPORT_FILE);
+            return REPORT_FILE;
+        } catch (IOException e) {
+            System.err.println("Failed to write command latency report: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Adds a "WebDriver command latency" node with the per-command, per-page and slowest-locator
+     * tables to a report. Does nothing when no command was recorded.
+     * @param report The report.
+     */
+    public static void attachTo(ExtentReports report) {
+        if (report == null || byCommand.isEmpty()) {
+            return;
+        }
+        ReportFacade.TestNode node = ReportFacade.createTest(report, "WebDriver command latency",
+                "p50/p95/p99 of every WebDriver command in this run");
+        node.info("<b>By command</b>" + table(sorted(byCommand, Integer.MAX_VALUE)));
+        node.info("<b>By page object</b>" + table(sorted(byPage, Integer.MAX_VALUE)));
+        node.info("<b>Slowest locators</b>" + table(sorted(byLocator, TOP_LOCATORS)));
+    }
+
+    // Slowest first, by p95
+    private static List<Map.Entry<String, LatencyHistogram>> sorted(Map<String, LatencyHistogram> histograms, int limit) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getPercentileMicros(95)).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Map.Entry<String, LatencyHistogram>> entries) {
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", entry.getKey());
+            map.putAll(entry.getValue().toMap());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private static String table(List<Map.Entry<String, LatencyHistogram>> entries) {
+        String[][] rows = new String[entries.size() + 1][];
+        rows[0] = new String[] { "Name", "Count", "p50 ms", "p95 ms", "p99 ms", "Max ms" };
+        for (int i = 0; i < entries.size(); i++) {
+            LatencyHistogram h = entries.get(i).getValue();
+            rows[i + 1] = new String[] {
+                    entries.get(i).getKey(), String.valueOf(h.getCount()),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(50))),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(95))),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(99))),
+                    String.valueOf(LatencyHistogram.millis(h.getMaxMicros())) };
+        }
+        return MarkupHelper.createTable(rows).getMarkup();
+    }
+
+    private static void record(Object target, Method method, Object[] args, Object result) {
+        Deque<Long> starts = startTimes.get();
+        if (starts.isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - starts.pop();
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        String locator = null;
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            locator = args[0].toString();
+            if (result instanceof WebElement) {
+                elementLocators.put((WebElement) result, locator);
+            } else if (result instanceof List) {
+                for (Object element : (List<?>) result) {
+                    if (element instanceof WebElement) {
+                        elementLocators.put((WebElement) element, locator);
+                    }
+                }
+            }
+        } else if (target instanceof WebElement) {
+            locator = elementLocators.get(target);
+        }
+
+        histogram(byCommand, command).recordNanos(nanos);
+        histogram(byPage, pageObject()).recordNanos(nanos);
+        if (locator != null) {
+            histogram(byLocator, locator + " [" + method.getName() + "]").recordNanos(nanos);
+        }
+        histogram(byTest, currentTest()).recordNanos(nanos);
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    // First page object class on the calling stack
+    private static String pageObject() {
+        Optional<String> page = walker.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(c -> c.getPackageName().endsWith(".pages"))
+                .map(Class::getSimpleName)
+                .findFirst());
+        return page.orElse(NONE);
+    }
+
+    private static String currentTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null ? result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName() : NONE;
+    }
+
+    private static final class Listener implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            startTimes.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            record(target, method, args, result);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            // Failed commands (e.g. a missing element) still took time
+            record(target, method, args, null);
+        }
+    }
+}
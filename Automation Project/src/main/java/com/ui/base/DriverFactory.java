@@ -0,0 +1,100 @@
+package com.ui.base;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Creates raw browser sessions for the {@link DriverPool}, launched with the selected
+ * {@link BrowserProfile} and with ads blocked by the {@link AdBlocker}.
+ * Driver binaries are resolved through WebDriverManager only once per browser type.
+ */
+public final class DriverFactory {
+
+    private static final Set<String> resolvedBinaries = ConcurrentHashMap.newKeySet();
+
+    private DriverFactory() {}
+
+    /**
+     * Normalizes a browser parameter so "Chrome", "chrome " and "CHROME" share one pool, and
+     * resolves its {@link BrowserProfile}, so sessions of different profiles never share one.
+     * "brave" is routed to Firefox, as the home page suite already does.
+     * @param browser The browser name from the TestNG parameter, optionally with a profile suffix
+     *                such as chrome:fast-headless.
+     * @return The pool key for the browser, e.g. chrome:full-fidelity.
+     */
+    public static String normalize(String browser) {
+        String key = browser == null ? "chrome" : BrowserProfile.browserOf(browser).trim().toLowerCase();
+        if (key.equals("brave")) {
+            key = "firefox";
+        }
+        return key + ":" + BrowserProfile.select(browser).getProfileName();
+    }
+
+    /**
+     * Launches a new browser session.
+     * @param key The pool key returned by {@link #normalize(String)}.
+     * @return A new WebDriver instance.
+     */
+    public static WebDriver create(String key) {
+        String browser = BrowserProfile.browserOf(key);
+        BrowserProfile profile = BrowserProfile.select(key);
+        switch (browser) {
+            case "chrome":
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.addArguments("--disable-blink-features=AutomationControlled");
+                chromeOptions.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+                return createChrome(chromeOptions, profile);
+            case "edge":
+                setupBinary(browser);
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.addArguments("--disable-blink-features=AutomationControlled");
+                return AdBlocker.apply(new EdgeDriver(profile.applyTo(edgeOptions)), profile.blockedUrlPatterns());
+            case "firefox":
+                setupBinary(browser);
+                return new FirefoxDriver(profile.applyTo(new FirefoxOptions()));
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+    }
+
+    /**
+     * Launches Chrome with suite-specific options plus a profile, for suites that manage their
+     * own session instead of leasing one from the pool.
+     * @param options The suite's own options; the profile is applied on top.
+     * @param profile The launch profile.
+     * @return A new ChromeDriver with ads (and the profile's blocked resources) blocked.
+     */
+    public static WebDriver createChrome(ChromeOptions options, BrowserProfile profile) {
+        setupBinary("chrome");
+        return AdBlocker.apply(new ChromeDriver(profile.applyTo(options)), profile.blockedUrlPatterns());
+    }
+
+    private static synchronized void setupBinary(String browser) {
+        if (resolvedBinaries.contains(browser)) {
+            return;
+        }
+        switch (browser) {
+            case "chrome":
+                WebDriverManager.chromedriver().setup();
+                break;
+            case "edge":
+                WebDriverManager.edgedriver().setup();
+                break;
+            case "firefox":
+                WebDriverManager.firefoxdriver().setup();
+                break;
+            default:
+                break;
+        }
+        resolvedBinaries.add(browser);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ui.base;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+/**
+ * Finds the WebDriver of a running test for listeners (screenshots, logging).
+ *
+ * The driver field of a test class is looked up once per class: the class and its superclasses
+ * are searched for a field named "driver" (or, failing that, any WebDriver field), and a getter
+ * handle for it is cached in a ClassValue. Later events read the field through the cached handle
+ * without any reflection. Fields inherited from base classes such as com.product.Base.BaseTest
+ * are found as well. Their fields hold {@link ExecutionContext#threadDriver()} proxies, which are
+ * unwrapped to the session bound to the calling thread. When the test class has no such field, or
+ * it is empty, that bound session is used directly.
+ */
+public final class DriverLocator {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<MethodHandle> getters = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return findGetter(type);
+        }
+    };
+
+    private DriverLocator() {}
+
+    /**
+     * @param result The TestNG result of the running test.
+     * @return The test's driver, or null if neither the test instance nor the thread has one.
+     */
+    public static WebDriver locate(ITestResult result) {
+        return locate(result != null ? result.getInstance() : null);
+    }
+
+    /**
+     * @param testInstance The test class instance; may be null.
+     * @return The test's driver, or null if neither the test instance nor the thread has one.
+     */
+    public static WebDriver locate(Object testInstance) {
+        if (testInstance != null) {
+            MethodHandle getter = getters.get(testInstance.getClass());
+            if (getter != null) {
+                try {
+                    // A thread-routing proxy resolves to the bound session, or to null when none is bound
+                    WebDriver driver = ExecutionContext.unwrap((WebDriver) (Object) getter.invokeExact(testInstance));
+                    if (driver != null) {
+                        return driver;
+                    }
+                } catch (Throwable e) {
+                    System.err.println("Could not read the driver of " + testInstance.getClass().getSimpleName() + ": " + e);
+                }
+            }
+        }
+        return ExecutionContext.getDriver();
+    }
+
+    // Walks the hierarchy once per test class; null when no WebDriver field exists
+    private static MethodHandle findGetter(Class<?> type) {
+        Field match = null;
+        Field fallback = null;
+        for (Class<?> c = type; c != null && c != Object.class && match == null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!WebDriver.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                if (field.getName().equals("driver")) {
+                    match = field;
+                    break;
+                }
+                if (fallback == null) {
+                    fallback = field;
+                }
+            }
+        }
+        if (match == null) {
+            match = fallback;
+        }
+        if (match == null) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(match.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle getter = lookup.unreflectGetter(match);
+            if (Modifier.isStatic(match.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            System.err.println("Driver field of " + type.getSimpleName() + " is not accessible: " + e.getMessage());
+            return null;
+        }
+    }
+}
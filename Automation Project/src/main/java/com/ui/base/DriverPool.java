@@ -0,0 +1,196 @@
+package com.ui.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Keeps warm browser sessions and leases them to tests instead of launching a browser per method.
+ *
+ * Each browser type has its own bounded pool. A returned session is reset (extra tabs closed,
+ * storage and cookies cleared, blank page loaded) before it is handed out again, and it is
+ * quit once it reaches the configured number of uses or stops responding.
+ *
+ * Tuning is done with system properties:
+ * driver.pool.size (sessions per browser, default the number of available processors) and
+ * driver.pool.maxUses (default 25). Sessions are only launched when a lease finds no idle one, so
+ * the size is an upper bound; set it to at least the suite's thread-count (e.g.
+ * -Ddriver.pool.size=5 for ui_dd.xml) so no worker waits for a browser, or lower it when the
+ * machine cannot run that many browsers at once.
+ */
+public final class DriverPool {
+
+    private static final int POOL_SIZE = Integer.getInteger("driver.pool.size", Runtime.getRuntime().availableProcessors());
+    private static final int MAX_USES = Integer.getInteger("driver.pool.maxUses", 25);
+
+    private static final Map<String, BrowserPool> pools = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private static final DriverPoolMetrics metrics = new DriverPoolMetrics();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {}
+
+    /**
+     * Leases a session for the given browser, blocking while all sessions of that browser are in use.
+     * @param browser The browser name (chrome, edge, firefox), optionally with a profile suffix such as chrome:eager.
+     * @return A ready-to-use WebDriver. Hand it back with {@link #release(WebDriver)}.
+     */
+    public static WebDriver lease(String browser) {
+        String key = DriverFactory.normalize(browser);
+        BrowserPool pool = pools.computeIfAbsent(key, k -> new BrowserPool());
+
+        long start = System.nanoTime();
+        pool.permits.acquireUninterruptibly();
+        long waited = System.nanoTime() - start;
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = pool.idle.pollFirst()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    break;
+                }
+                metrics.recordRecycle();
+                quit(pooled);
+            }
+            boolean reused = pooled != null;
+            if (!reused) {
+                pooled = new PooledDriver(key, CommandLatency.decorate(DriverFactory.create(key)));
+            }
+            pooled.uses++;
+            leased.put(pooled.driver, pooled);
+            metrics.recordLease(waited, reused);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a leased session to its pool. Sessions that were not leased from the pool are quit.
+     * @param driver The WebDriver obtained from {@link #lease(String)}; null is ignored.
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                System.out.println("Exception while closing browser: " + e.getMessage());
+            }
+            return;
+        }
+        BrowserPool pool = pools.get(pooled.browser);
+        try {
+            if (pooled.uses >= MAX_USES || !reset(driver)) {
+                metrics.recordRecycle();
+                quit(pooled);
+            } else {
+                pool.idle.offerFirst(pooled);
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * Quits a leased session instead of returning it, e.g. after the browser crashed.
+     * @param driver The WebDriver to discard.
+     */
+    public static void discard(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            return;
+        }
+        metrics.recordRecycle();
+        quit(pooled);
+        pools.get(pooled.browser).permits.release();
+    }
+
+    public static DriverPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are left to their owners.
+     */
+    public static void shutdown() {
+        for (BrowserPool pool : pools.values()) {
+            PooledDriver pooled;
+            while ((pooled = pool.idle.pollFirst()) != null) {
+                quit(pooled);
+            }
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            String keep = handles.get(0);
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("Driver reset failed, recycling session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void quit(PooledDriver pooled) {
+        try {
+            pooled.driver.quit();
+        } catch (Exception e) {
+            System.out.println("Exception while closing browser: " + e.getMessage());
+        }
+    }
+
+    private static final class BrowserPool {
+        final Semaphore permits = new Semaphore(POOL_SIZE, true);
+        final ConcurrentLinkedDeque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    }
+
+    private static final class PooledDriver {
+        final String browser;
+        final WebDriver driver;
+        int uses;
+
+        PooledDriver(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ui.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters collected by the {@link DriverPool}: how long tests waited for a session
+ * and how often a warm session was reused instead of launching a new browser.
+ */
+public class DriverPoolMetrics {
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+    private final AtomicLong creations = new AtomicLong();
+    private final AtomicLong recycles = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    void recordLease(long waitNanos, boolean reused) {
+        leases.incrementAndGet();
+        if (reused) {
+            reuses.incrementAndGet();
+        } else {
+            creations.incrementAndGet();
+        }
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    void recordRecycle() {
+        recycles.incrementAndGet();
+    }
+
+    public long getLeases() {
+        return leases.get();
+    }
+
+    public long getReuses() {
+        return reuses.get();
+    }
+
+    public long getCreations() {
+        return creations.get();
+    }
+
+    public long getRecycles() {
+        return recycles.get();
+    }
+
+    /**
+     * @return The share of leases served by an already running session, between 0 and 1.
+     */
+    public double getReuseRate() {
+        long total = leases.get();
+        return total == 0 ? 0.0 : (double) reuses.get() / total;
+    }
+
+    /**
+     * @return The average time a test waited for a free session, in milliseconds.
+     */
+    public double getAverageWaitMillis() {
+        long total = leases.get();
+        return total == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / total;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    public String summary() {
+        return String.format("Driver pool: %d leases, %d new sessions, %d reused (%.1f%%), %d recycled, avg wait %.1f ms, max wait %.1f ms",
+                getLeases(), getCreations(), getReuses(), getReuseRate() * 100, getRecycles(),
+                getAverageWaitMillis(), getMaxWaitMillis());
+    }
+}
@@ -0,0 +1,150 @@
+package com.ui.base;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import com.ui.utilities.ReportFacade.TestNode;
+
+/**
+ * Per-thread state of the test that is currently running: its driver, wait, Extent node
+ * and screenshot folder. Base classes bind it in their setup, listeners and report managers
+ * read it, and teardown clears it, so methods can run in parallel without sharing fields.
+ */
+public final class ExecutionContext {
+
+    private static final ThreadLocal<ExecutionContext> current = ThreadLocal.withInitial(ExecutionContext::new);
+
+    private WebDriver driver;
+    private WebDriverWait wait;
+    private TestNode test;
+    private String screenshotFolder;
+
+    private ExecutionContext() {}
+
+    /**
+     * @return The context of the calling thread.
+     */
+    public static ExecutionContext get() {
+        return current.get();
+    }
+
+    /**
+     * Drops the calling thread's context once its test is over.
+     */
+    public static void clear() {
+        current.remove();
+    }
+
+    public static WebDriver getDriver() {
+        return get().driver;
+    }
+
+    public static WebDriverWait getWait() {
+        return get().wait;
+    }
+
+    /**
+     * The base classes' driver fields are thread-routing proxies and never null, so teardown asks
+     * the context whether a session is actually bound.
+     * @return Whether a driver is bound to the calling thread.
+     */
+    public boolean hasDriver() {
+        return driver != null;
+    }
+
+    public static TestNode getTest() {
+        return get().test;
+    }
+
+    public ExecutionContext setDriver(WebDriver driver) {
+        this.driver = driver;
+        return this;
+    }
+
+    public ExecutionContext setWait(WebDriverWait wait) {
+        this.wait = wait;
+        return this;
+    }
+
+    public ExecutionContext setTest(TestNode test) {
+        this.test = test;
+        return this;
+    }
+
+    public ExecutionContext setScreenshotFolder(String screenshotFolder) {
+        this.screenshotFolder = screenshotFolder;
+        return this;
+    }
+
+    /**
+     * @param defaultFolder The folder used when the running test did not choose one.
+     * @return The screenshot subfolder for the running test.
+     */
+    public String getScreenshotFolder(String defaultFolder) {
+        return screenshotFolder != null ? screenshotFolder : defaultFolder;
+    }
+
+    /**
+     * Creates a WebDriver that forwards every call to the driver bound to the calling thread.
+     * Base classes keep this in their shared {@code driver} field, so existing test code keeps
+     * working while each thread talks to its own browser.
+     * @return A thread-routing WebDriver.
+     */
+    public static WebDriver threadDriver() {
+        return (WebDriver) Proxy.newProxyInstance(
+                ExecutionContext.class.getClassLoader(),
+                new Class<?>[] { WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                        Interactive.class, HasCapabilities.class, WrapsDriver.class },
+                new ThreadDriverHandler());
+    }
+
+    /**
+     * Returns the real browser session behind a driver, unwrapping {@link #threadDriver()} proxies.
+     * @param driver A driver, possibly a thread-routing proxy.
+     * @return The underlying driver, or null if none is bound.
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof ThreadDriverHandler) {
+            return getDriver();
+        }
+        return driver;
+    }
+
+    private static final class ThreadDriverHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ThreadDriver[" + getDriver() + "]";
+                case "getWrappedDriver":
+                    return getDriver();
+                default:
+                    break;
+            }
+            WebDriver target = getDriver();
+            if (target == null) {
+                throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ui.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.ui.pages.SignupLoginPage;
+import com.ui.utilities.Site;
+
+/**
+ * Logs sessions in by restoring a snapshot of an earlier login instead of filling the login form.
+ *
+ * The first {@link #login(WebDriver, String, String)} for a credential performs one real UI login
+ * and captures the resulting cookies and localStorage. Later calls, on any fresh or pooled driver
+ * and any thread, open the site, add the cookies with driver.manage().addCookie, restore
+ * localStorage and reload. The snapshot is dropped and a real login is done again when:
+ * <ul>
+ * <li>it is older than session.cache.ttl.minutes (default 30),</li>
+ * <li>one of its cookies has expired, or</li>
+ * <li>the restored page does not show the Logout link, e.g. because a test logged the account out
+ * on the server.</li>
+ * </ul>
+ * session.cache=false always logs in through the UI.
+ */
+public final class SessionCache {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("session.cache", "true"));
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(Long.getLong("session.cache.ttl.minutes", 30));
+    private static final String BASE_URL = Site.url("/");
+    private static final Duration LOGIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String READ_STORAGE =
+            "var r = {}; for (var i = 0; i < localStorage.length; i++) {"
+            + " var k = localStorage.key(i); r[k] = localStorage.getItem(k); } return r;";
+    private static final String WRITE_STORAGE =
+            "var s = arguments[0]; for (var k in s) { localStorage.setItem(k, s[k]); }";
+
+    private static final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // One lock per credential, so parallel tests wait for a single real login
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger restored = new AtomicInteger();
+    private static final AtomicInteger uiLogins = new AtomicInteger();
+    private static final AtomicInteger expired = new AtomicInteger();
+
+    private SessionCache() {}
+
+    /**
+     * Leaves the driver logged in as the given user, on the home page.
+     * @param driver A fresh or pooled WebDriver.
+     * @param email The account email.
+     * @param password The account password.
+     * @throws IllegalStateException If even a real login through the UI fails.
+     */
+    public static void login(WebDriver driver, String email, String password) {
+        String key = email + "\n" + password;
+        if (ENABLED && restore(driver, key)) {
+            return;
+        }
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            // Another thread may have logged in while this one waited
+            if (ENABLED && snapshots.containsKey(key) && restore(driver, key)) {
+                return;
+            }
+            uiLogins.incrementAndGet();
+            SignupLoginPage loginPage = new SignupLoginPage(driver);
+            loginPage.navigateToSignupLoginPage();
+            loginPage.login(email, password);
+            try {
+                new WebDriverWait(driver, LOGIN_TIMEOUT).until(d -> loginPage.isLoggedIn());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Login through the UI failed for " + email, e);
+            }
+            if (ENABLED) {
+                snapshots.put(key, capture(driver));
+            }
+        }
+    }
+
+    /**
+     * Drops the snapshot of an account, e.g. after a test deleted it or changed its password.
+     * @param email The account email.
+     */
+    public static void invalidate(String email) {
+        snapshots.keySet().removeIf(key -> key.startsWith(email + "\n"));
+    }
+
+    /**
+     * @return A one-line summary of restored sessions and real logins, for the suite log.
+     */
+    public static String summary() {
+        return String.format("Session cache: %d sessions restored, %d UI logins, %d expired snapshots",
+                restored.get(), uiLogins.get(), expired.get());
+    }
+
+    private static boolean restore(WebDriver driver, String key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return false;
+        }
+        if (snapshot.isExpired()) {
+            expired.incrementAndGet();
+            snapshots.remove(key, snapshot);
+            return false;
+        }
+        try {
+            // Cookies can only be added for the domain of the page that is open
+            driver.get(BASE_URL);
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : snapshot.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, snapshot.localStorage);
+            driver.navigate().refresh();
+            if (new SignupLoginPage(driver).isLoggedIn()) {
+                restored.incrementAndGet();
+                return true;
+            }
+        } catch (WebDriverException e) {
+            System.err.println("Restoring cached session failed: " + e.getMessage());
+        }
+        // Rejected by the server, e.g. logged out elsewhere; fall back to a real login
+        expired.incrementAndGet();
+        snapshots.remove(key, snapshot);
+        driver.manage().deleteAllCookies();
+        return false;
+    }
+
+    private static Snapshot capture(WebDriver driver) {
+        Set<Cookie> cookies = driver.manage().getCookies();
+        Map<String, String> storage = new LinkedHashMap<>();
+        Object raw = ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        if (raw instanceof Map) {
+            ((Map<?, ?>) raw).forEach((k, v) -> storage.put(String.valueOf(k), String.valueOf(v)));
+        }
+        return new Snapshot(new ArrayList<>(cookies), storage);
+    }
+
+    private static final class Snapshot {
+
+        private final List<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final long capturedAt = System.currentTimeMillis();
+
+        private Snapshot(List<Cookie> cookies, Map<String, String> localStorage) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+        }
+
+        private boolean isExpired() {
+            long now = System.currentTimeMillis();
+            if (now - capturedAt > TTL_MILLIS) {
+                return true;
+            }
+            Date nowDate = new Date(now);
+            return cookies.stream().anyMatch(c -> c.getExpiry() != null && c.getExpiry().before(nowDate));
+        }
+    }
+}
@@ -2,19 +2,17 @@ package com.ui.listeners;
 
 import com.aventstack.extentreports.ExtentReports;
 
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+
+import com.ui.utilities.ScreenshotService;
 
 /**
  * TestNG Listener to integrate ExtentReports with Selenium.
@@ -25,7 +23,7 @@ public class ExtentTestNGListener implements ITestListener {
     public static WebDriver driver;
 
     private ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static ThreadLocal<TestNode> test = new ThreadLocal<>();
 
     @Override
     public void onStart(ITestContext context) {
@@ -47,7 +45,7 @@ public class ExtentTestNGListener implements ITestListener {
 
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest extentTest = extent.createTest(result.getMethod().getMethodName());
+        TestNode extentTest = ReportFacade.createTest(extent, result.getMethod().getMethodName(), null);
         test.set(extentTest);
     }
 
@@ -61,19 +59,13 @@ public class ExtentTestNGListener implements ITestListener {
         test.get().fail(result.getThrowable());
 
         if (driver != null) {
-            try {
-                TakesScreenshot ts = (TakesScreenshot) driver;
-                File src = ts.getScreenshotAs(OutputType.FILE);
-
-                String screenshotDir = "screenshots" + File.separator + result.getTestClass().getName();
-                Files.createDirectories(Paths.get(screenshotDir));
-
-                String screenshotPath = screenshotDir + File.separator + result.getMethod().getMethodName() + ".png";
-                Files.copy(src.toPath(), Paths.get(screenshotPath));
+            String screenshotDir = "screenshots" + File.separator + result.getTestClass().getName();
+            String screenshotPath = screenshotDir + File.separator + result.getMethod().getMethodName() + ".png";
 
+            if (ScreenshotService.capture(driver, new File(screenshotPath))) {
                 test.get().addScreenCaptureFromPath(screenshotPath);
-            } catch (IOException e) {
-                test.get().warning("Failed to capture screenshot: " + e.getMessage());
+            } else {
+                test.get().warning("Failed to capture screenshot");
             }
         }
     }
@@ -86,7 +78,7 @@ public class ExtentTestNGListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         if (extent != null) {
-            extent.flush();
+            ReportFacade.flush(extent);
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.ui.listeners;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import com.ui.base.DriverLocator;
+import com.ui.utilities.Fixture;
+import com.ui.utilities.FixtureClient;
+
+/**
+ * Applies the {@link Fixture} of each test method right before it runs and tears it down right
+ * after. Registered for all suites through META-INF/services/org.testng.ITestNGListener.
+ */
+public class FixtureListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        Fixture fixture = fixtureOf(method);
+        if (fixture != null) {
+            FixtureClient.setUp(fixture, DriverLocator.locate(testResult));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (fixtureOf(method) != null) {
+            FixtureClient.tearDown();
+        }
+    }
+
+    private static Fixture fixtureOf(IInvokedMethod method) {
+        if (!method.isTestMethod()) {
+            return null;
+        }
+        java.lang.reflect.Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        Fixture fixture = javaMethod.getAnnotation(Fixture.class);
+        return fixture != null ? fixture : javaMethod.getDeclaringClass().getAnnotation(Fixture.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ui.listeners;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.ui.utilities.ResultShards;
+
+/**
+ * Appends every finished test to the running thread's result shard.
+ * Registered for all suites through META-INF/services/org.testng.ITestNGListener.
+ */
+public class ResultShardListener implements ITestListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        ResultShards.record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        ResultShards.record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        ResultShards.record(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        ResultShards.record(result);
+    }
+}
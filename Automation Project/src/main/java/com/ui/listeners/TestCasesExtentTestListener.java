@@ -2,47 +2,17 @@ package com.ui.listeners;
 
 import org.testng.ITestListener;
 
-
 import org.testng.ITestResult;
 import org.testng.ITestContext;
 import com.ui.utilities.ExtentReportManager;
 import com.ui.utilities.ScreenshotUtilities;
+import com.ui.base.DriverLocator;
 import org.openqa.selenium.WebDriver;
-
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import com.ui.utilities.TestMetaRegistry;
 
 public class TestCasesExtentTestListener implements ITestListener {
     
-    private static final Map<String, String> testDescriptions = new HashMap<>();
     
-    static {
-        // Initialize test descriptions for Test Cases page
-        testDescriptions.put("TC_Test_Cases_01_PageLoadsSuccessfully", "Verify Test Cases page loads successfully");
-        testDescriptions.put("TC_Test_Cases_02_AllTestCaseLinksPresent", "Verify presence of all listed test case links");
-        testDescriptions.put("TC_Test_Cases_03_TestCasesSeparatedByRows", "Verify each test case name/link is visually separated as a row");
-        testDescriptions.put("TC_Test_Cases_04_LinksStyledAsClickable", "Verify test case links are styled as clickable");
-        testDescriptions.put("TC_Test_Cases_05_ClickingLinkOpensDetails", "Verify clicking a test case link opens the test step details");
-        testDescriptions.put("TC_Test_Cases_06_FeedbackSectionPresent", "Verify 'Feedback for Us' section is present below test cases");
-        testDescriptions.put("TC_Test_Cases_07_URLsVisibleAndWorking", "Verify URL under each test case is visible and working");
-        testDescriptions.put("TC_Test_Cases_08_FeedbackEmailOpensMailApp", "Verify clicking feedback email opens mail application prompt");
-        testDescriptions.put("TC_Test_Cases_09_ValidEmailSubscription", "Verify email subscription field accepts valid email addresses");
-        testDescriptions.put("TC_Test_Cases_10_InvalidEmailSubscription", "Verify email subscription field rejects invalid email addresses");
-        testDescriptions.put("TC_Test_Cases_11_ScrollToTopArrow", "Verify orange arrow button scrolls the page to the top");
-        testDescriptions.put("TC_Test_Cases_12_BlankEmailRejection", "Verify email subscription field rejects blank credentials");
-        testDescriptions.put("TC_Test_Cases_13_LogoNavigatesToHome", "Verify clicking Automation Exercise logo navigates to Home");
-        testDescriptions.put("TC_Test_Cases_14_HomeLinkNavigation", "Verify 'Home' link navigates to Home page");
-        testDescriptions.put("TC_Test_Cases_15_ProductsLinkNavigation", "Verify 'Products' link navigates to Products page");
-        testDescriptions.put("TC_Test_Cases_16_CartLinkNavigation", "Verify 'Cart' link navigates to Cart page");
-        testDescriptions.put("TC_Test_Cases_17_SignUpLoginNavigation", "Verify 'Sign Up/Login' link navigates to SignUp/Login page");
-        testDescriptions.put("TC_Test_Cases_18_TestCasesLinkNavigation", "Verify 'Test Cases' link navigates to Test Cases page");
-        testDescriptions.put("TC_Test_Cases_19_APITestingNavigation", "Verify 'API Testing' link navigates to API Testing page");
-        testDescriptions.put("TC_Test_Cases_20_VideoTutorialsNavigation", "Verify 'Video Tutorials' link navigates to Video Tutorials page");
-        testDescriptions.put("TC_Test_Cases_21_ContactUsNavigation", "Verify 'Contact Us' link navigates to Contact Us page");
-        testDescriptions.put("TC_Test_Cases_22_ScrollBarFunctionality", "Verify appearance and function of the page scroll bar");
-        testDescriptions.put("TC_Test_Cases_23_PageResponsiveness", "Verify responsiveness of Test Cases page on different screen sizes");
-    }
     
     @Override
     public void onStart(ITestContext context) {
@@ -61,12 +31,13 @@ public class TestCasesExtentTestListener implements ITestListener {
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-        String description = testDescriptions.getOrDefault(testName, "Test Cases page test: " + testName);
+        TestMetaRegistry.Entry meta = TestMetaRegistry.get(result.getMethod());
+        String description = meta.getDescription("Test Cases page test: " + testName);
         
         try {
             ExtentReportManager.createTest(testName, description);
-            ExtentReportManager.assignCategory("Test Cases Page Tests");
-            ExtentReportManager.assignAuthor("QA Team");
+            ExtentReportManager.assignCategory(meta.getCategories("Test Cases Page Tests"));
+            ExtentReportManager.assignAuthor(meta.getAuthors("QA Team"));
             ExtentReportManager.logInfo("Starting test: " + testName);
             System.out.println("Starting test: " + testName);
         } catch (Exception e) {
@@ -82,7 +53,7 @@ public class TestCasesExtentTestListener implements ITestListener {
             ExtentReportManager.logPass("Test Passed: " + testName);
             
             // Capture screenshot on pass (optional)
-            WebDriver driver = getDriverFromTest(result);
+            WebDriver driver = DriverLocator.locate(result);
             if (driver != null) {
                 String screenshotPath = ScreenshotUtilities.captureScreenshotOnPass(driver, testName);
                 if (screenshotPath != null) {
@@ -106,7 +77,7 @@ public class TestCasesExtentTestListener implements ITestListener {
             ExtentReportManager.logFail("Error: " + errorMessage);
             
             // Capture screenshot on failure
-            WebDriver driver = getDriverFromTest(result);
+            WebDriver driver = DriverLocator.locate(result);
             if (driver != null) {
                 String screenshotPath = ScreenshotUtilities.captureScreenshotOnFailure(driver, testName);
                 if (screenshotPath != null) {
@@ -126,7 +97,8 @@ public class TestCasesExtentTestListener implements ITestListener {
         String skipReason = result.getThrowable() != null ? result.getThrowable().getMessage() : "Test skipped";
         
         try {
-            String description = testDescriptions.getOrDefault(testName, "Test Cases page test: " + testName);
+            TestMetaRegistry.Entry meta = TestMetaRegistry.get(result.getMethod());
+            String description = meta.getDescription("Test Cases page test: " + testName);
             ExtentReportManager.createTest(testName, description);
             ExtentReportManager.logSkip("Test Skipped: " + testName);
             ExtentReportManager.logSkip("Reason: " + skipReason);
@@ -136,16 +108,4 @@ public class TestCasesExtentTestListener implements ITestListener {
         
         System.out.println("SKIP: " + testName + " - " + skipReason);
     }
-    
-    private WebDriver getDriverFromTest(ITestResult result) {
-        try {
-            Object testInstance = result.getInstance();
-            Field driverField = testInstance.getClass().getDeclaredField("driver");
-            driverField.setAccessible(true);
-            return (WebDriver) driverField.get(testInstance);
-        } catch (Exception e) {
-            System.err.println("Could not get driver instance for screenshot: " + e.getMessage());
-            return null;
-        }
-    }
 }
\ No newline at end of file
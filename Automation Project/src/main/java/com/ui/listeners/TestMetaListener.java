@@ -0,0 +1,18 @@
+package com.ui.listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import com.ui.utilities.TestMetaRegistry;
+
+/**
+ * Indexes the {@link com.ui.utilities.TestMeta} annotations of each suite before its tests run.
+ * Registered for all suites through META-INF/services/org.testng.ITestNGListener.
+ */
+public class TestMetaListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        TestMetaRegistry.scan(suite);
+    }
+}
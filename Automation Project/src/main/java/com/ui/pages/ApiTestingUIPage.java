@@ -7,6 +7,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import java.time.Duration;
 import org.openqa.selenium.JavascriptExecutor;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.Site;
 
 
 public class ApiTestingUIPage {
@@ -40,7 +42,8 @@ public class ApiTestingUIPage {
 
     // Common methods for interacting with the page elements
     public void navigateToApiTestingPage() {
-        driver.get("https://automationexercise.com/api_list");
+        driver.get(Site.url("/api_list"));
+        NavigationTiming.capture(driver, "ApiTestingUIPage");
     }
 
     public WebElement getApiTestingIcon() {
@@ -6,15 +6,18 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.PerformanceBudget;
+import com.ui.utilities.Site;
 
 public class CartPage {
     private final WebDriver driver;
     private final WebDriverWait wait;
 
     // Page URL
-    public static final String CART_URL = "https://automationexercise.com/view_cart";
-    public static final String HOME_URL = "https://automationexercise.com/";
-    public static final String LOGIN_URL = "https://automationexercise.com/login";
+    public static final String CART_URL = Site.url("/view_cart");
+    public static final String HOME_URL = Site.url("/");
+    public static final String LOGIN_URL = Site.url("/login");
 
     // Navigation and Header Locators
     public static final By HOME_LINK = By.xpath("//a[@href='/' or normalize-space()='Home']");
@@ -56,6 +59,7 @@ public class CartPage {
     public void navigateToCart() {
         driver.get(CART_URL);
         wait.until(ExpectedConditions.urlContains("view_cart"));
+        NavigationTiming.capture(driver, "CartPage");
     }
 
     public void clickProceedToCheckout() {
@@ -73,4 +77,11 @@ public class CartPage {
         quantityInput.clear();
         quantityInput.sendKeys(quantity);
     }
-}
\ No newline at end of file
+
+    /**
+     * Fails the test if the current page exceeds its entry in the performance budget file.
+     */
+    public void assertWithinBudget() {
+        PerformanceBudget.assertWithinBudget(driver, "CartPage");
+    }
+}
@@ -6,6 +6,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.PerformanceBudget;
+import com.ui.utilities.Site;
 
 public class ContactUsPage {
 
@@ -13,7 +16,7 @@ public class ContactUsPage {
     private final WebDriverWait wait;
 
     // Page URL
-    private static final String CONTACT_US_URL = "https://automationexercise.com/contact_us";
+    private static final String CONTACT_US_URL = Site.url("/contact_us");
 
     // Header Links
     public static final By HOME_LINK = By.xpath("//a[contains(text(),'Home')]");
@@ -57,6 +60,7 @@ public class ContactUsPage {
     public void navigateToContactUsPage() {
         driver.get(CONTACT_US_URL);
         wait.until(ExpectedConditions.urlContains("contact_us"));
+        NavigationTiming.capture(driver, "ContactUsPage");
     }
 
     /**
@@ -102,4 +106,10 @@ public class ContactUsPage {
     }
 }
 
-}
\ No newline at end of file
+    /**
+     * Fails the test if the current page exceeds its entry in the performance budget file.
+     */
+    public void assertWithinBudget() {
+        PerformanceBudget.assertWithinBudget(driver, "ContactUsPage");
+    }
+}
@@ -6,6 +6,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.PerformanceBudget;
+import com.ui.utilities.Site;
 
 public class HomePage {
 
@@ -13,7 +16,7 @@ public class HomePage {
     private final WebDriverWait wait;
 
     // Page URL
-    private static final String HOME_URL = "https://automationexercise.com/";
+    private static final String HOME_URL = Site.url("/");
 
     // Header Links
     public static final By HOME_LINK = By.xpath("//a[contains(text(),'Home')]");
@@ -59,6 +62,7 @@ public class HomePage {
     public void navigateToHomePage() {
         driver.get(HOME_URL);
         wait.until(ExpectedConditions.urlToBe(HOME_URL));
+        NavigationTiming.capture(driver, "HomePage");
     }
 
     /**
@@ -89,4 +93,11 @@ public class HomePage {
         emailInput.sendKeys(email);
         driver.findElement(SUBSCRIBE_BUTTON).click();
     }
-}
\ No newline at end of file
+
+    /**
+     * Fails the test if the current page exceeds its entry in the performance budget file.
+     */
+    public void assertWithinBudget() {
+        PerformanceBudget.assertWithinBudget(driver, "HomePage");
+    }
+}
@@ -7,6 +7,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import com.ui.utilities.PerformanceBudget;
 
 public class ProductPage {
 
@@ -123,4 +124,11 @@ public class ProductPage {
         emailField.sendKeys(email);
         driver.findElement(SUBSCRIBE_BUTTON).click();
     }
-}
\ No newline at end of file
+
+    /**
+     * Fails the test if the current page exceeds its entry in the performance budget file.
+     */
+    public void assertWithinBudget() {
+        PerformanceBudget.assertWithinBudget(driver, "ProductPage");
+    }
+}
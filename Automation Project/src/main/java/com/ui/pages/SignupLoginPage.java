@@ -6,6 +6,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.Site;
 
 public class SignupLoginPage {
 
@@ -13,8 +15,8 @@ public class SignupLoginPage {
     private final WebDriverWait wait;
 
     // Page URLs
-    private static final String HOME_URL = "https://automationexercise.com/";
-    private static final String SIGNUP_LOGIN_URL = "https://automationexercise.com/login";
+    private static final String HOME_URL = Site.url("/");
+    private static final String SIGNUP_LOGIN_URL = Site.url("/login");
 
     // Header Links
     public static final By HOME_LINK = By.xpath("//a[contains(text(),'Home')]");
@@ -61,6 +63,7 @@ public class SignupLoginPage {
     public void navigateToSignupLoginPage() {
         driver.get(SIGNUP_LOGIN_URL);
         wait.until(ExpectedConditions.urlContains("login"));
+        NavigationTiming.capture(driver, "SignupLoginPage");
     }
 
     /**
@@ -8,6 +8,8 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.List;
+import com.ui.utilities.NavigationTiming;
+import com.ui.utilities.Site;
 
 public class TestCasesPage {
 
@@ -15,7 +17,7 @@ public class TestCasesPage {
     private final WebDriverWait wait;
 
     // Page URL
-    private static final String TEST_CASES_URL = "https://automationexercise.com/test_cases";
+    private static final String TEST_CASES_URL = Site.url("/test_cases");
 
     // Header Links
     public static final By HOME_LINK = By.xpath("//a[contains(text(),'Home')]");
@@ -54,6 +56,7 @@ public class TestCasesPage {
     public void navigateToTestCasesPage() {
         driver.get(TEST_CASES_URL);
         wait.until(ExpectedConditions.urlContains("test_cases"));
+        NavigationTiming.capture(driver, "TestCasesPage");
     }
 
     /**
@@ -0,0 +1,141 @@
+package com.ui.stub;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The products and brands served by the {@link StubSite}, shaped like the real site's API
+ * responses. A subset of the real catalogue, with the same ids, so tests that refer to product 1
+ * (Blue Top) or 2 (Men Tshirt) behave the same against both.
+ */
+final class Catalog {
+
+    private static final List<Map<String, Object>> PRODUCTS = List.of(
+            product(1, "Blue Top", 500, "Polo", "Women", "Tops"),
+            product(2, "Men Tshirt", 400, "H&M", "Men", "Tshirts"),
+            product(3, "Sleeveless Dress", 1000, "Madame", "Women", "Dress"),
+            product(4, "Stylish Dress", 1500, "Madame", "Women", "Dress"),
+            product(5, "Winter Top", 600, "Mast & Harbour", "Women", "Tops"),
+            product(6, "Summer White Top", 400, "H&M", "Women", "Tops"),
+            product(7, "Madame Top For Women", 1000, "Madame", "Women", "Tops"),
+            product(8, "Fancy Green Top", 700, "Polo", "Women", "Tops"),
+            product(11, "Little Girls Mr. Panda Shirt", 543, "Allen Solly Junior", "Kids", "Tops & Shirts"),
+            product(12, "Sleeves Printed Top - White", 499, "Kookie Kids", "Kids", "Tops & Shirts"),
+            product(28, "Pure Cotton V-Neck T-Shirt", 1299, "Biba", "Men", "Tshirts"),
+            product(43, "GRAPHIC DESIGN MEN T SHIRT - BLUE", 1389, "Babyhug", "Men", "Tshirts"));
+
+    // The site's category ids, as linked from the sidebar: id -> user type and category
+    private static final Map<Integer, String[]> CATEGORIES = Map.of(
+            1, new String[] { "Women", "Dress" },
+            2, new String[] { "Women", "Tops" },
+            3, new String[] { "Men", "Tshirts" },
+            4, new String[] { "Kids", "Dress" },
+            5, new String[] { "Kids", "Tops & Shirts" },
+            6, new String[] { "Men", "Jeans" },
+            7, new String[] { "Women", "Saree" });
+
+    private Catalog() {}
+
+    static List<Map<String, Object>> products() {
+        return PRODUCTS;
+    }
+
+    static Map<String, Object> product(int id) {
+        for (Map<String, Object> product : PRODUCTS) {
+            if (product.get("id").equals(id)) {
+                return product;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param term The search term; matched against name, brand, user type and category, ignoring case.
+     * @return The matching products.
+     */
+    static List<Map<String, Object>> search(String term) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Map<String, Object> product : PRODUCTS) {
+            String haystack = (product.get("name") + " " + product.get("brand") + " " + userType(product)
+                    + " " + categoryName(product)).toLowerCase(Locale.ROOT);
+            if (haystack.contains(needle)) {
+                found.add(product);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param categoryId A category id of the sidebar, e.g. 2 for Women &gt; Tops.
+     * @return The user type and category, or null for an unknown id.
+     */
+    static String[] category(int categoryId) {
+        return CATEGORIES.get(categoryId);
+    }
+
+    /**
+     * @param categoryId A category id of the sidebar.
+     * @return The products of the category; none for an unknown id.
+     */
+    static List<Map<String, Object>> byCategory(int categoryId) {
+        String[] category = CATEGORIES.get(categoryId);
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Map<String, Object> product : PRODUCTS) {
+            if (category != null && category[0].equals(userType(product)) && category[1].equals(categoryName(product))) {
+                found.add(product);
+            }
+        }
+        return found;
+    }
+
+    static List<Map<String, Object>> byBrand(String brand) {
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Map<String, Object> product : PRODUCTS) {
+            if (product.get("brand").equals(brand)) {
+                found.add(product);
+            }
+        }
+        return found;
+    }
+
+    static String userType(Map<String, Object> product) {
+        return String.valueOf(((Map<?, ?>) ((Map<?, ?>) product.get("category")).get("usertype")).get("usertype"));
+    }
+
+    static String categoryName(Map<String, Object> product) {
+        return String.valueOf(((Map<?, ?>) product.get("category")).get("category"));
+    }
+
+    /**
+     * @param product A product.
+     * @return Its price in rupees, e.g. 500 for "Rs. 500".
+     */
+    static int price(Map<String, Object> product) {
+        return Integer.parseInt(String.valueOf(product.get("price")).substring("Rs. ".length()));
+    }
+
+    static List<Map<String, Object>> brands() {
+        List<Map<String, Object>> brands = new ArrayList<>();
+        for (Map<String, Object> product : PRODUCTS) {
+            Map<String, Object> brand = new LinkedHashMap<>();
+            brand.put("id", brands.size() + 1);
+            brand.put("brand", product.get("brand"));
+            brands.add(brand);
+        }
+        return brands;
+    }
+
+    private static Map<String, Object> product(int id, String name, int price, String brand, String userType, String category) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("id", id);
+        product.put("name", name);
+        product.put("price", "Rs. " + price);
+        product.put("brand", brand);
+        product.put("category", Map.of("usertype", Map.of("usertype", userType), "category", category));
+        return product;
+    }
+}
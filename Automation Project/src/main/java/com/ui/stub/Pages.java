@@ -0,0 +1,175 @@
+package com.ui.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the {@link StubSite}'s HTML pages from the snapshots in /stub-pages.
+ *
+ * The snapshots are trimmed copies of the real pages that keep the markup the page objects
+ * locate (ids, classes, data-qa attributes, link texts and the header/footer structure that
+ * absolute XPaths rely on), without ads, images and third-party scripts. Every page is
+ * wrapped in layout.html, which holds the header, the subscription footer, the add-to-cart
+ * modal and the few lines of script the pages need. {{name}} placeholders are filled from
+ * the session and the {@link Catalog}.
+ */
+final class Pages {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+    private static final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    private Pages() {}
+
+    /**
+     * @param page The snapshot, e.g. view_cart for /stub-pages/view_cart.html.
+     * @param title The document title.
+     * @param loggedInAs The name of the logged-in user, or null.
+     * @param values Values for the page's placeholders; inserted as they are, so escape user input.
+     * @return The whole HTML document.
+     */
+    static String render(String page, String title, String loggedInAs, Map<String, String> values) {
+        Map<String, String> all = new HashMap<>(values);
+        all.putIfAbsent("sidebar", fill(template("sidebar"), Map.of("brands", brandLinks())));
+        Map<String, String> layout = new HashMap<>();
+        layout.put("title", title);
+        layout.put("nav", nav(loggedInAs));
+        layout.put("content", fill(template(page), all));
+        return fill(template("layout"), layout);
+    }
+
+    static String productGrid(List<Map<String, Object>> products) {
+        StringBuilder html = new StringBuilder();
+        for (Map<String, Object> product : products) {
+            String id = String.valueOf(product.get("id"));
+            String info = "<h2>" + escape(product.get("price")) + "</h2><p>" + escape(product.get("name")) + "</p>"
+                    + "<a href=\"#\" data-product-id=\"" + id + "\" class=\"btn btn-default add-to-cart\">"
+                    + "<i class=\"fa fa-shopping-cart\"></i>Add to cart</a>";
+            html.append("<div class=\"col-sm-4\"><div class=\"product-image-wrapper\">")
+                    .append("<div class=\"single-products\">")
+                    .append("<div class=\"productinfo text-center\">")
+                    .append("<img src=\"/get_product_picture/").append(id).append("\" alt=\"ecommerce website products\" width=\"100\" height=\"100\">")
+                    .append(info).append("</div>")
+                    .append("<div class=\"product-overlay\"><div class=\"overlay-content\">").append(info).append("</div></div>")
+                    .append("</div>")
+                    .append("<div class=\"choose\"><ul class=\"nav nav-pills nav-justified\"><li><a href=\"/product_details/").append(id)
+                    .append("\"><i class=\"fa fa-plus-square\"></i>View Product</a></li></ul></div>")
+                    .append("</div></div>\n");
+        }
+        return html.toString();
+    }
+
+    /**
+     * @param cart Product id to quantity.
+     * @return The rows of the cart table.
+     */
+    static String cartRows(Map<Integer, Integer> cart) {
+        StringBuilder html = new StringBuilder();
+        cart.forEach((id, quantity) -> {
+            Map<String, Object> product = Catalog.product(id);
+            html.append("<tr id=\"product-").append(id).append("\">")
+                    .append("<td class=\"cart_product\"><a href=\"/product_details/").append(id).append("\">")
+                    .append("<img src=\"/get_product_picture/").append(id).append("\" alt=\"Product Image\" width=\"110\" height=\"110\"></a></td>")
+                    .append("<td class=\"cart_description\"><h4><a href=\"/product_details/").append(id).append("\">")
+                    .append(escape(product.get("name"))).append("</a></h4><p>").append(escape(categoryLabel(product))).append("</p></td>")
+                    .append("<td class=\"cart_price\"><p>").append(escape(product.get("price"))).append("</p></td>")
+                    .append("<td class=\"cart_quantity\"><button class=\"disabled\">").append(quantity).append("</button></td>")
+                    .append("<td class=\"cart_total\"><p class=\"cart_total_price\">Rs. ").append(Catalog.price(product) * quantity).append("</p></td>")
+                    .append("<td class=\"cart_delete\"><a class=\"cart_quantity_delete\" data-product-id=\"").append(id)
+                    .append("\"><i class=\"fa fa-times\"></i>x</a></td>")
+                    .append("</tr>\n");
+        });
+        return html.toString();
+    }
+
+    /**
+     * @param first The first number listed.
+     * @param last The last number listed; below first to count down, as the year select does.
+     * @return One option per number, each with the number as value and text.
+     */
+    static String numberOptions(int first, int last) {
+        StringBuilder html = new StringBuilder();
+        int step = first <= last ? 1 : -1;
+        for (int number = first; number != last + step; number += step) {
+            html.append("<option value=\"").append(number).append("\">").append(number).append("</option>\n");
+        }
+        return html.toString();
+    }
+
+    static String categoryLabel(Map<String, Object> product) {
+        return Catalog.userType(product) + " > " + Catalog.categoryName(product);
+    }
+
+    static String escape(Object value) {
+        return String.valueOf(value).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    // The header menu as the real site shows it; logging in swaps Signup / Login for Logout and Delete Account
+    private static String nav(String loggedInAs) {
+        StringBuilder html = new StringBuilder();
+        html.append(item("/", "fa fa-home", "Home"));
+        html.append(item("/products", "material-icons card_travel", "Products"));
+        html.append(item("/view_cart", "fa fa-shopping-cart", "Cart"));
+        if (loggedInAs == null) {
+            html.append(item("/login", "fa fa-lock", "Signup / Login"));
+        } else {
+            html.append(item("/logout", "fa fa-lock", "Logout"));
+            html.append(item("/delete_account", "fa fa-trash-o", "Delete Account"));
+        }
+        html.append(item("/test_cases", "fa fa-list", "Test Cases"));
+        html.append(item("/api_list", "fa fa-list", "API Testing"));
+        html.append(item("https://www.youtube.com/c/AutomationExercise", "fa fa-youtube-play", "Video Tutorials"));
+        html.append(item("/contact_us", "fa fa-envelope", "Contact us"));
+        if (loggedInAs != null) {
+            html.append("<li><a><i class=\"fa fa-user\"></i> Logged in as <b>").append(escape(loggedInAs)).append("</b></a></li>\n");
+        }
+        return html.toString();
+    }
+
+    private static String item(String href, String icon, String text) {
+        return "<li><a href=\"" + href + "\"><i class=\"" + icon + "\"></i> " + text + "</a></li>\n";
+    }
+
+    private static String brandLinks() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map<String, Object> product : Catalog.products()) {
+            counts.merge(String.valueOf(product.get("brand")), 1, Integer::sum);
+        }
+        StringBuilder html = new StringBuilder();
+        counts.forEach((brand, count) -> html.append("<li><a href=\"/brand_products/").append(escape(brand)).append("\">")
+                .append("<span class=\"pull-right\">(").append(count).append(")</span>").append(escape(brand)).append("</a></li>\n"));
+        return html.toString();
+    }
+
+    // One pass, so inserted values are never scanned for placeholders themselves
+    private static String fill(String template, Map<String, String> values) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(out, Matcher.quoteReplacement(values.getOrDefault(matcher.group(1), "")));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private static String template(String name) {
+        return templates.computeIfAbsent(name, key -> {
+            try (InputStream in = Pages.class.getResourceAsStream("/stub-pages/" + key + ".html")) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing stub page /stub-pages/" + key + ".html");
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,516 @@
+package com.ui.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for automationexercise.com, for runs without network access.
+ *
+ * Built on the JDK's com.sun.net.httpserver and served from virtual threads on a loopback port.
+ * It implements the public API the way the real site does (HTTP 200 with the actual status in
+ * the responseCode field of the JSON body) for products, brands, search and accounts. It also
+ * serves the pages the page objects use (home, products, product details, category and brand
+ * listings, cart, login, signup, contact us, test cases and API list) from the snapshots rendered
+ * by {@link Pages}. Signup, login, logout, account deletion, the cart, the contact form and the
+ * newsletter subscription keep state, in cookie sessions; checkout is not implemented.
+ * Accounts, sessions, carts and subscribers live in memory for the lifetime of the JVM.
+ *
+ * {@link #start()} starts one shared instance on first use; stub.port picks a fixed port
+ * (default 0, any free port). Suites switch to it with site.url=stub (see com.ui.utilities.Site).
+ */
+public final class StubSite {
+
+    private static final String SESSION_COOKIE = "sessionid";
+    private static final String CSRF_COOKIE = "csrftoken";
+
+    private static volatile StubSite shared;
+
+    private final HttpServer server;
+    private final Map<String, Map<String, String>> accounts = new ConcurrentHashMap<>();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Set<String> subscribers = ConcurrentHashMap.newKeySet();
+
+    private StubSite(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handlePage);
+        server.createContext("/api/", this::handleApi);
+        server.createContext("/login", this::handleLogin);
+        server.createContext("/signup", this::handleSignup);
+        server.createContext("/logout", this::handleLogout);
+        server.createContext("/delete_account", this::handleDeleteAccount);
+        server.createContext("/add_to_cart/", this::handleAddToCart);
+        server.createContext("/delete_cart/", this::handleDeleteFromCart);
+        server.createContext("/subscribe", this::handleSubscribe);
+        server.start();
+    }
+
+    /**
+     * Starts the shared stub if it is not running yet.
+     * @return Its base URL, e.g. http://127.0.0.1:53411.
+     */
+    public static String start() {
+        if (shared == null) {
+            synchronized (StubSite.class) {
+                if (shared == null) {
+                    try {
+                        shared = new StubSite(Integer.getInteger("stub.port", 0));
+                        Runtime.getRuntime().addShutdownHook(new Thread(() -> shared.server.stop(0)));
+                        System.out.println("Stub site listening on " + shared.getBaseUrl());
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Failed to start the stub site", e);
+                    }
+                }
+            }
+        }
+        return shared.getBaseUrl();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // --- API ---
+
+    private void handleApi(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod().toUpperCase(Locale.ROOT);
+        Map<String, String> params = params(exchange);
+        String endpoint = exchange.getRequestURI().getPath().substring("/api/".length());
+        Map<String, Object> body;
+        switch (endpoint) {
+            case "productsList":
+                body = method.equals("GET") ? result(200, "products", Catalog.products()) : unsupported();
+                break;
+            case "brandsList":
+                body = method.equals("GET") ? result(200, "brands", Catalog.brands()) : unsupported();
+                break;
+            case "searchProduct":
+                if (!method.equals("POST")) {
+                    body = unsupported();
+                } else if (!params.containsKey("search_product")) {
+                    body = message(400, "Bad request, search_product parameter is missing in POST request.");
+                } else {
+                    body = result(200, "products", Catalog.search(params.get("search_product")));
+                }
+                break;
+            case "verifyLogin":
+                body = verifyLogin(method, params);
+                break;
+            case "createAccount":
+                body = createAccount(method, params);
+                break;
+            case "deleteAccount":
+                body = deleteAccount(method, params);
+                break;
+            case "updateAccount":
+                body = updateAccount(method, params);
+                break;
+            case "getUserDetailByEmail":
+                body = userDetail(method, params);
+                break;
+            default:
+                send(exchange, 404, "text/plain", "Not found");
+                return;
+        }
+        send(exchange, 200, "application/json", json(body));
+    }
+
+    private Map<String, Object> verifyLogin(String method, Map<String, String> params) {
+        if (!method.equals("POST")) {
+            return unsupported();
+        }
+        if (!params.containsKey("email") || !params.containsKey("password")) {
+            return message(400, "Bad request, email or password parameter is missing in POST request.");
+        }
+        return matches(params.get("email"), params.get("password")) ? message(200, "User exists!") : message(404, "User not found!");
+    }
+
+    private Map<String, Object> createAccount(String method, Map<String, String> params) {
+        if (!method.equals("POST")) {
+            return unsupported();
+        }
+        String email = params.get("email");
+        if (email == null || !params.containsKey("password") || !params.containsKey("name")) {
+            return message(400, "Bad request, name, email or password parameter is missing in POST request.");
+        }
+        return accounts.putIfAbsent(email, frozen(params)) == null
+                ? message(201, "User created!") : message(400, "Email already exists!");
+    }
+
+    private Map<String, Object> deleteAccount(String method, Map<String, String> params) {
+        if (!method.equals("DELETE")) {
+            return unsupported();
+        }
+        if (!matches(params.get("email"), params.get("password"))) {
+            return message(404, "Account not found!");
+        }
+        accounts.remove(params.get("email"));
+        sessions.values().removeIf(session -> params.get("email").equals(session.email));
+        return message(200, "Account deleted!");
+    }
+
+    private Map<String, Object> updateAccount(String method, Map<String, String> params) {
+        if (!method.equals("PUT")) {
+            return unsupported();
+        }
+        String email = params.get("email");
+        AtomicBoolean updated = new AtomicBoolean();
+        if (email != null) {
+            // Replaced as a whole, so readers only ever see a complete old or new account
+            accounts.computeIfPresent(email, (key, account) -> {
+                if (!account.get("password").equals(params.get("password"))) {
+                    return account;
+                }
+                Map<String, String> merged = new LinkedHashMap<>(account);
+                merged.putAll(params);
+                updated.set(true);
+                return frozen(merged);
+            });
+        }
+        return updated.get() ? message(200, "User updated!") : message(404, "Account not found!");
+    }
+
+    private Map<String, Object> userDetail(String method, Map<String, String> params) {
+        if (!method.equals("GET")) {
+            return unsupported();
+        }
+        String email = params.get("email");
+        if (email == null) {
+            return message(400, "Bad request, email parameter is missing in GET request.");
+        }
+        Map<String, String> account = accounts.get(email);
+        if (account == null) {
+            return message(404, "Account not found with this email, try another email!");
+        }
+        Map<String, String> user = new LinkedHashMap<>(account);
+        user.remove("password");
+        return result(200, "user", user);
+    }
+
+    // Accounts are never changed in place; updates swap in a new map
+    private static Map<String, String> frozen(Map<String, String> account) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(account));
+    }
+
+    private boolean matches(String email, String password) {
+        Map<String, String> account = email != null ? accounts.get(email) : null;
+        return account != null && account.get("password").equals(password);
+    }
+
+    // --- Sessions ---
+
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        if (exchange.getRequestMethod().equalsIgnoreCase("POST")) {
+            Map<String, String> params = params(exchange);
+            if (matches(params.get("email"), params.get("password"))) {
+                Session session = session(exchange);
+                session.email = params.get("email");
+                redirect(exchange, "/");
+                return;
+            }
+            send(exchange, 200, "text/html", loginPage(exchange, "Your email or password is incorrect!", null));
+            return;
+        }
+        send(exchange, 200, "text/html", loginPage(exchange, null, null));
+    }
+
+    // Two steps like the real site: name and email from the login page, then the account information form
+    private void handleSignup(HttpExchange exchange) throws IOException {
+        Map<String, String> params = params(exchange);
+        String email = params.get("email");
+        if (!exchange.getRequestMethod().equalsIgnoreCase("POST") || email == null || params.get("name") == null) {
+            redirect(exchange, "/login");
+            return;
+        }
+        Session session = session(exchange);
+        if (!"create_account".equals(params.get("form_type"))) {
+            if (accounts.containsKey(email)) {
+                send(exchange, 200, "text/html", loginPage(exchange, null, "Email Address already exist!"));
+                return;
+            }
+            send(exchange, 200, "text/html", Pages.render("signup", "Automation Exercise - Signup", loggedInName(session), Map.of(
+                    "csrf", session.csrf,
+                    "name", Pages.escape(params.get("name")),
+                    "email", Pages.escape(email),
+                    "days", Pages.numberOptions(1, 31),
+                    "years", Pages.numberOptions(2021, 1900))));
+            return;
+        }
+        Map<String, String> account = new LinkedHashMap<>(params);
+        account.remove("csrfmiddlewaretoken");
+        account.remove("form_type");
+        account.putIfAbsent("password", "");
+        if (accounts.putIfAbsent(email, frozen(account)) != null) {
+            send(exchange, 200, "text/html", loginPage(exchange, null, "Email Address already exist!"));
+            return;
+        }
+        session.email = email;
+        redirect(exchange, "/account_created");
+    }
+
+    private void handleLogout(HttpExchange exchange) throws IOException {
+        Session session = existingSession(exchange);
+        if (session != null) {
+            session.email = null;
+        }
+        redirect(exchange, "/login");
+    }
+
+    private void handleDeleteAccount(HttpExchange exchange) throws IOException {
+        Session session = session(exchange);
+        String email = session.email;
+        if (email == null) {
+            redirect(exchange, "/login");
+            return;
+        }
+        accounts.remove(email);
+        sessions.values().removeIf(other -> email.equals(other.email));
+        send(exchange, 200, "text/html", Pages.render("account_deleted", "Automation Exercise - Account Deleted", null, Map.of()));
+    }
+
+    private void handleAddToCart(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/add_to_cart/".length());
+        if (!id.matches("\\d+") || Catalog.product(Integer.parseInt(id)) == null) {
+            send(exchange, 404, "text/plain", "Product not found");
+            return;
+        }
+        session(exchange).cart.merge(Integer.parseInt(id), 1, Integer::sum);
+        send(exchange, 200, "application/json", "\"Added To Cart\"");
+    }
+
+    private void handleDeleteFromCart(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/delete_cart/".length());
+        if (id.matches("\\d+")) {
+            session(exchange).cart.remove(Integer.parseInt(id));
+        }
+        send(exchange, 200, "application/json", "\"Removed From Cart\"");
+    }
+
+    private void handleSubscribe(HttpExchange exchange) throws IOException {
+        String email = params(exchange).get("email");
+        if (email == null || !email.contains("@")) {
+            send(exchange, 200, "application/json", json(message(400, "Enter a valid email address.")));
+            return;
+        }
+        subscribers.add(email);
+        send(exchange, 200, "application/json", json(message(200, "You have been successfully subscribed!")));
+    }
+
+    // --- Pages ---
+
+    private void handlePage(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Session session = session(exchange);
+        String user = loggedInName(session);
+        String html;
+        if (path.equals("/")) {
+            html = Pages.render("home", "Automation Exercise", user, Map.of("products", Pages.productGrid(Catalog.products())));
+        } else if (path.equals("/products")) {
+            String search = queryParam(exchange, "search");
+            html = Pages.render("products", "Automation Exercise - All Products", user, Map.of(
+                    "heading", search != null ? "Searched Products" : "All Products",
+                    "products", Pages.productGrid(search != null ? Catalog.search(search) : Catalog.products())));
+        } else if (path.startsWith("/product_details/") && product(path.substring("/product_details/".length())) != null) {
+            Map<String, Object> product = product(path.substring("/product_details/".length()));
+            html = Pages.render("product_details", "Automation Exercise - Product Details", user, Map.of(
+                    "id", String.valueOf(product.get("id")),
+                    "name", Pages.escape(product.get("name")),
+                    "category", Pages.escape(Pages.categoryLabel(product)),
+                    "price", Pages.escape(product.get("price")),
+                    "brand", Pages.escape(product.get("brand"))));
+        } else if (path.matches("/category_products/\\d+") && Catalog.category(Integer.parseInt(path.substring("/category_products/".length()))) != null) {
+            int categoryId = Integer.parseInt(path.substring("/category_products/".length()));
+            String[] category = Catalog.category(categoryId);
+            String heading = category[0] + " - " + category[1] + " Products";
+            html = Pages.render("products", "Automation Exercise - " + heading, user, Map.of(
+                    "heading", Pages.escape(heading),
+                    "products", Pages.productGrid(Catalog.byCategory(categoryId))));
+        } else if (path.startsWith("/brand_products/")) {
+            String brand = URLDecoder.decode(path.substring("/brand_products/".length()), StandardCharsets.UTF_8);
+            html = Pages.render("products", "Automation Exercise - " + Pages.escape(brand) + " Products", user, Map.of(
+                    "heading", "Brand - " + Pages.escape(brand) + " Products",
+                    "products", Pages.productGrid(Catalog.byBrand(brand))));
+        } else if (path.equals("/view_cart")) {
+            Map<Integer, Integer> cart;
+            synchronized (session.cart) {
+                cart = new LinkedHashMap<>(session.cart);
+            }
+            html = Pages.render("view_cart", "Automation Exercise - Checkout", user, Map.of(
+                    "rows", Pages.cartRows(cart),
+                    "empty", cart.isEmpty() ? "block" : "none",
+                    "checkout", user != null ? "/checkout" : "/login"));
+        } else if (path.equals("/contact_us")) {
+            boolean submitted = exchange.getRequestMethod().equalsIgnoreCase("POST");
+            if (submitted) {
+                exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            }
+            html = Pages.render("contact_us", "Automation Exercise - Contact Us", user, Map.of(
+                    "csrf", session.csrf,
+                    "status", submitted
+                            ? "<div class=\"status alert alert-success\">Success! Your details have been submitted successfully.</div>"
+                              + "<a href=\"/\" class=\"btn btn-success\"><span><i class=\"fa fa-angle-double-left\"></i> Home</span></a>"
+                            : "<div class=\"status alert alert-success\" style=\"display: none\"></div>"));
+        } else if (path.equals("/account_created")) {
+            html = Pages.render("account_created", "Automation Exercise - Account Created", user, Map.of());
+        } else if (path.equals("/test_cases")) {
+            html = Pages.render("test_cases", "Automation Practice Website for UI Testing - Test Cases", user, Map.of());
+        } else if (path.equals("/api_list")) {
+            html = Pages.render("api_list", "Automation Practice for API Testing", user, Map.of());
+        } else {
+            send(exchange, 404, "text/html", "<html><head><title>Page not found</title></head><body><h2>Page not found</h2></body></html>");
+            return;
+        }
+        send(exchange, 200, "text/html", html);
+    }
+
+    private String loggedInName(Session session) {
+        String email = session.email;
+        Map<String, String> account = email != null ? accounts.get(email) : null;
+        return account != null ? account.get("name") : null;
+    }
+
+    private String loginPage(HttpExchange exchange, String loginError, String signupError) {
+        Session session = session(exchange);
+        return Pages.render("login", "Automation Exercise - Signup / Login", loggedInName(session), Map.of(
+                "csrf", session.csrf,
+                "loginError", loginError != null ? "<p style=\"color: red;\">" + loginError + "</p>" : "",
+                "signupError", signupError != null ? "<p style=\"color: red;\">" + signupError + "</p>" : ""));
+    }
+
+    private static Map<String, Object> product(String id) {
+        return id.matches("\\d+") ? Catalog.product(Integer.parseInt(id)) : null;
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        Map<String, String> query = new LinkedHashMap<>();
+        decode(exchange.getRequestURI().getRawQuery(), query);
+        return query.get(name);
+    }
+
+    /**
+     * @param exchange A request carrying a sessionid cookie, or none.
+     * @return The request's session; a new one, set as cookie on the response, if it had none.
+     */
+    Session session(HttpExchange exchange) {
+        Session session = existingSession(exchange);
+        if (session == null) {
+            String id = UUID.randomUUID().toString().replace("-", "");
+            session = new Session();
+            sessions.put(id, session);
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + id + "; Path=/; HttpOnly");
+            exchange.getResponseHeaders().add("Set-Cookie", CSRF_COOKIE + "=" + session.csrf + "; Path=/");
+        }
+        return session;
+    }
+
+    Session existingSession(HttpExchange exchange) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String pair : header.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && parts[0].equals(SESSION_COOKIE)) {
+                    return sessions.get(parts[1]);
+                }
+            }
+        }
+        return null;
+    }
+
+    // --- Plumbing ---
+
+    private static Map<String, Object> unsupported() {
+        return message(405, "This request method is not supported.");
+    }
+
+    private static Map<String, Object> message(int code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("responseCode", code);
+        body.put("message", message);
+        return body;
+    }
+
+    private static Map<String, Object> result(int code, String key, Object value) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("responseCode", code);
+        body.put(key, value);
+        return body;
+    }
+
+    static String json(Object value) {
+        StringWriter out = new StringWriter();
+        try (JsonOutput json = new Json().newOutput(out)) {
+            json.setPrettyPrint(false);
+            json.write(value);
+        }
+        return out.toString();
+    }
+
+    // Query string and url-encoded body, like the site's form handling
+    static Map<String, String> params(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new LinkedHashMap<>();
+        decode(exchange.getRequestURI().getRawQuery(), params);
+        try (InputStream in = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            in.transferTo(body);
+            decode(body.toString(StandardCharsets.UTF_8), params);
+        }
+        return params;
+    }
+
+    private static void decode(String encoded, Map<String, String> into) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            String[] parts = pair.split("=", 2);
+            into.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                    parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+        }
+    }
+
+    static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        send(exchange, 302, "text/plain", "");
+    }
+
+    static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * A visitor's session: who is logged in and what is in the cart.
+     */
+    static final class Session {
+
+        final String csrf = UUID.randomUUID().toString().replace("-", "");
+        // In the order products were added, like the site's cart table
+        final Map<Integer, Integer> cart = Collections.synchronizedMap(new LinkedHashMap<>());
+        volatile String email;
+    }
+}
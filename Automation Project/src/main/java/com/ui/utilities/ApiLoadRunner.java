@@ -0,0 +1,324 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Replays the API cases of {@link ApiTestEngine} as load, on virtual threads.
+ *
+ * Two workload models are supported, chosen with load.model:
+ * <ul>
+ * <li>closed (default): load.users virtual users each send the next case as soon as their previous
+ * one answered, after an optional load.think.ms pause. Throughput follows the server's speed.</li>
+ * <li>open: requests arrive at a fixed load.rps, each on its own virtual thread, whether or not
+ * earlier ones have answered. Latency is measured from the scheduled start, so a server that falls
+ * behind shows up as queueing time instead of being hidden (coordinated omission).</li>
+ * </ul>
+ * Both run for load.duration.seconds (default 30) and cycle through the cases in sheet order;
+ * load.cases limits them to a comma-separated list of TestCaseIDs. Latencies go into one
+ * {@link LatencyHistogram} per endpoint. A case whose check fails counts as an error. Deleting an
+ * account a case created happens after its latency is recorded and is not counted as a request.
+ */
+public final class ApiLoadRunner {
+
+    public enum Model { OPEN, CLOSED }
+
+    private final ApiTestEngine engine;
+    private final List<ApiTestEngine.ApiCase> cases;
+    private final Map<String, String> variables;
+
+    /**
+     * @param engine The engine that sends and checks the requests.
+     * @param cases The cases to cycle through.
+     * @param variables Values for the {name} placeholders of the cases.
+     */
+    public ApiLoadRunner(ApiTestEngine engine, List<ApiTestEngine.ApiCase> cases, Map<String, String> variables) {
+        if (cases.isEmpty()) {
+            throw new IllegalArgumentException("No API cases to replay");
+        }
+        this.engine = engine;
+        this.cases = cases;
+        this.variables = variables;
+    }
+
+    /**
+     * @param cases All cases of the sheet.
+     * @return The cases named by load.cases, or all of them if it is not set.
+     */
+    public static List<ApiTestEngine.ApiCase> selectCases(List<ApiTestEngine.ApiCase> cases) {
+        String ids = System.getProperty("load.cases", "").trim();
+        if (ids.isEmpty()) {
+            return cases;
+        }
+        List<String> wanted = Arrays.asList(ids.split("\\s*,\\s*"));
+        List<ApiTestEngine.ApiCase> selected = new ArrayList<>();
+        for (ApiTestEngine.ApiCase apiCase : cases) {
+            if (wanted.contains(apiCase.getId())) {
+                selected.add(apiCase);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Runs the workload configured by the load.* system properties.
+     * @return The report.
+     * @throws IllegalArgumentException If load.duration.seconds, load.rps or load.users is not positive.
+     */
+    public Report run() {
+        Model model = Model.valueOf(System.getProperty("load.model", "closed").trim().toUpperCase(Locale.ROOT));
+        long durationSeconds = requirePositive("load.duration.seconds", Long.getLong("load.duration.seconds", 30));
+        long durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        return model == Model.OPEN
+                ? runOpen((int) requirePositive("load.rps", Integer.getInteger("load.rps", 50)), durationNanos)
+                : runClosed((int) requirePositive("load.users", Integer.getInteger("load.users", 10)),
+                        Long.getLong("load.think.ms", 0), durationNanos);
+    }
+
+    /**
+     * Sends requests at a fixed arrival rate.
+     * @param rps Requests started per second.
+     * @param durationNanos How long new requests are started.
+     * @return The report.
+     * @throws IllegalArgumentException If rps or durationNanos is not positive, or rps exceeds one per nanosecond.
+     */
+    public Report runOpen(int rps, long durationNanos) {
+        requirePositive("rps", rps);
+        requirePositive("durationNanos", durationNanos);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rps;
+        if (interval == 0) {
+            throw new IllegalArgumentException("rps must be at most 1000000000, but was " + rps);
+        }
+        Report report = new Report(Model.OPEN, "rps=" + rps);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * interval;
+                if (scheduled - start >= durationNanos) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                ApiTestEngine.ApiCase apiCase = cases.get((int) (i % cases.size()));
+                executor.execute(() -> {
+                    ApiTestEngine.Result result = engine.send(apiCase, variables);
+                    report.record(apiCase, result, System.nanoTime() - scheduled);
+                    engine.cleanUp(result);
+                });
+            }
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Runs a fixed number of users that each send one request at a time.
+     * @param users Concurrent virtual users.
+     * @param thinkMillis Pause of a user between two requests.
+     * @param durationNanos How long users keep sending.
+     * @return The report.
+     * @throws IllegalArgumentException If users or durationNanos is not positive, or thinkMillis is negative.
+     */
+    public Report runClosed(int users, long thinkMillis, long durationNanos) {
+        requirePositive("users", users);
+        requirePositive("durationNanos", durationNanos);
+        if (thinkMillis < 0) {
+            throw new IllegalArgumentException("thinkMillis must not be negative, but was " + thinkMillis);
+        }
+        Report report = new Report(Model.CLOSED, "users=" + users + ", think=" + thinkMillis + "ms");
+        AtomicLong next = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + durationNanos;
+        // Cleanups run off the users' loops, so the extra round trip slows neither latency nor throughput
+        try (ExecutorService cleanups = Executors.newVirtualThreadPerTaskExecutor()) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int u = 0; u < users; u++) {
+                    executor.execute(() -> {
+                        while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+                            ApiTestEngine.ApiCase apiCase = cases.get((int) (next.getAndIncrement() % cases.size()));
+                            long sent = System.nanoTime();
+                            ApiTestEngine.Result result = engine.send(apiCase, variables);
+                            report.record(apiCase, result, System.nanoTime() - sent);
+                            cleanups.execute(() -> engine.cleanUp(result));
+                            if (thinkMillis > 0) {
+                                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(thinkMillis));
+                            }
+                        }
+                    });
+                }
+            }
+            report.finish(System.nanoTime() - start);
+        }
+        return report;
+    }
+
+    private static long requirePositive(String name, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be greater than 0, but was " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Throughput, errors and latency percentiles of one load run, per endpoint and in total.
+     */
+    public static final class Report {
+
+        private final Model model;
+        private final String settings;
+        private final Map<String, LatencyHistogram> byEndpoint = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> errorsByEndpoint = new ConcurrentHashMap<>();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private volatile long elapsedNanos;
+
+        Report(Model model, String settings) {
+            this.model = model;
+            this.settings = settings;
+        }
+
+        void record(ApiTestEngine.ApiCase apiCase, ApiTestEngine.Result result, long latencyNanos) {
+            String endpoint = apiCase.getMethod() + " " + apiCase.getEndpoint();
+            byEndpoint.computeIfAbsent(endpoint, k -> new LatencyHistogram()).recordNanos(latencyNanos);
+            total.recordNanos(latencyNanos);
+            AtomicLong endpointErrors = errorsByEndpoint.computeIfAbsent(endpoint, k -> new AtomicLong());
+            if (!result.isPassed()) {
+                endpointErrors.incrementAndGet();
+                errors.incrementAndGet();
+            }
+        }
+
+        void finish(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getRequests() {
+            return total.getCount();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        /**
+         * @return Failed requests in percent of all requests.
+         */
+        public double getErrorPercent() {
+            return total.getCount() == 0 ? 0 : 100.0 * errors.get() / total.getCount();
+        }
+
+        /**
+         * @return Completed requests per second over the whole run.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : total.getCount() * 1e9 / elapsedNanos;
+        }
+
+        public LatencyHistogram getTotal() {
+            return total;
+        }
+
+        /**
+         * @return A one-line summary, for the suite log.
+         */
+        public String summary() {
+            return String.format("API load (%s, %s): %d requests, %.1f req/s, %d errors, p50=%.1fms p95=%.1fms p99=%.1fms",
+                    model.name().toLowerCase(Locale.ROOT), settings, getRequests(), getThroughput(), getErrors(),
+                    LatencyHistogram.millis(total.getPercentileMicros(50)),
+                    LatencyHistogram.millis(total.getPercentileMicros(95)),
+                    LatencyHistogram.millis(total.getPercentileMicros(99)));
+        }
+
+        /**
+         * Writes the report as JSON.
+         * @param file The file, e.g. next to the Extent report.
+         * @return The file written, or null if writing failed.
+         */
+        public Path writeJson(Path file) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("model", model.name().toLowerCase(Locale.ROOT));
+            json.put("settings", settings);
+            json.put("elapsedSeconds", Math.round(elapsedNanos / 1e7) / 100.0);
+            json.put("requests", getRequests());
+            json.put("errors", getErrors());
+            json.put("throughputPerSecond", Math.round(getThroughput() * 100) / 100.0);
+            json.put("latency", total.toMap());
+            List<Map<String, Object>> endpoints = new ArrayList<>();
+            byEndpoint.forEach((endpoint, histogram) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("endpoint", endpoint);
+                entry.put("errors", errorsByEndpoint.get(endpoint).get());
+                entry.putAll(histogram.toMap());
+                endpoints.add(entry);
+            });
+            json.put("endpoints", endpoints);
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                     JsonOutput out = new Json().newOutput(writer)) {
+                    out.write(json);
+                }
+                System.out.println("API load report written to " + file);
+                return file;
+            } catch (IOException e) {
+                System.err.println("Failed to write API load report: " + e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Adds an "API load" node with throughput and the per-endpoint latency table to a report.
+         * @param report The report.
+         */
+        public void attachTo(ExtentReports report) {
+            if (report == null) {
+                return;
+            }
+            ReportFacade.TestNode node = ReportFacade.createTest(report, "API load", summary());
+            String[][] rows = new String[byEndpoint.size() + 2][];
+            rows[0] = new String[] { "Endpoint", "Count", "Errors", "p50 ms", "p95 ms", "p99 ms", "Max ms" };
+            int i = 1;
+            for (Map.Entry<String, LatencyHistogram> entry : byEndpoint.entrySet()) {
+                rows[i++] = row(entry.getKey(), entry.getValue(), errorsByEndpoint.get(entry.getKey()).get());
+            }
+            rows[i] = row("Total", total, errors.get());
+            node.info("<b>Throughput</b> " + String.format("%.1f", getThroughput()) + " req/s"
+                    + MarkupHelper.createTable(rows).getMarkup());
+        }
+
+        private static String[] row(String name, LatencyHistogram h, long errors) {
+            return new String[] {
+                    name, String.valueOf(h.getCount()), String.valueOf(errors),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(50))),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(95))),
+                    String.valueOf(LatencyHistogram.millis(h.getPercentileMicros(99))),
+                    String.valueOf(LatencyHistogram.millis(h.getMaxMicros())) };
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+/**
+ * Runs the API cases of the ApiCases sheet over HTTP, without a browser.
+ *
+ * Each row names an endpoint, a method, url-encoded params and the expected responseCode, plus
+ * optionally a JSON path (e.g. products[0].name) and the value expected there. Params and expected
+ * values may use {email} and {password}, filled from the variables of the run, and {random},
+ * unique per case. Accounts created by a case are deleted again once the case is checked; that
+ * request is not part of the case's time.
+ *
+ * {@link #runAll(List, Map)} starts one virtual thread per case and lets at most api.concurrency
+ * (default 16) requests be in flight, sharing one HttpClient and its connections.
+ */
+public final class ApiTestEngine {
+
+    public static final String CASES_FILE = System.getProperty("user.dir") + "/src/test/resources/APITestData.xlsx";
+    public static final String CASES_SHEET = "ApiCases";
+
+    private static final int CONCURRENCY = Integer.getInteger("api.concurrency", 16);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("api.timeout.seconds", 15));
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final HttpClient http;
+
+    /**
+     * @param baseUrl The site root, e.g. https://automationexercise.com.
+     * @param concurrency The maximum number of requests in flight.
+     */
+    public ApiTestEngine(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.concurrency = concurrency;
+        this.http = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    }
+
+    /**
+     * @return An engine for the site selected by site.url (see {@link Site}).
+     */
+    public static ApiTestEngine forConfiguredSite() {
+        return new ApiTestEngine(Site.baseUrl(), CONCURRENCY);
+    }
+
+    /**
+     * @param filePath The .xlsx file.
+     * @param sheetName The sheet with the cases.
+     * @return The cases, in sheet order.
+     * @throws IOException If the sheet cannot be read.
+     */
+    public static List<ApiCase> loadCases(String filePath, String sheetName) throws IOException {
+        List<ApiCase> cases = new ArrayList<>();
+        for (Map<String, String> row : TestDataRepository.getRows(filePath, sheetName)) {
+            if (row.get("TestCaseID") != null && !row.get("TestCaseID").isEmpty()) {
+                cases.add(new ApiCase(row));
+            }
+        }
+        return cases;
+    }
+
+    /**
+     * Runs all cases concurrently.
+     * @param cases The cases.
+     * @param variables Values for the {name} placeholders, e.g. email and password of a fixture account.
+     * @return One result per case, in the order of the cases.
+     */
+    public List<Result> runAll(List<ApiCase> cases, Map<String, String> variables) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<Future<Result>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ApiCase apiCase : cases) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return run(apiCase, variables);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new Result(cases.get(i), -1, 0, "Interrupted"));
+            } catch (ExecutionException e) {
+                results.add(new Result(cases.get(i), -1, 0, String.valueOf(e.getCause())));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Sends one case and checks the response.
+     * @param apiCase The case.
+     * @param variables Values for the {name} placeholders.
+     * @return The result; never throws for failing requests.
+     */
+    public Result run(ApiCase apiCase, Map<String, String> variables) {
+        Result result = send(apiCase, variables);
+        cleanUp(result);
+        return result;
+    }
+
+    /**
+     * Sends one case and checks the response, but leaves any account it created in place.
+     * @param apiCase The case.
+     * @param variables Values for the {name} placeholders.
+     * @return The result; pass it to {@link #cleanUp(Result)} once it is recorded.
+     */
+    Result send(ApiCase apiCase, Map<String, String> variables) {
+        Map<String, String> values = new LinkedHashMap<>(variables);
+        values.put("random", UUID.randomUUID().toString().substring(0, 8));
+        Map<String, String> params = apiCase.params(values);
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request(apiCase.getMethod(), apiCase.getEndpoint(), params), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return new Result(apiCase, -1, System.nanoTime() - start, "Request failed: " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(apiCase, -1, System.nanoTime() - start, "Interrupted");
+        }
+        long nanos = System.nanoTime() - start;
+
+        Object body = parse(response.body());
+        int code = responseCode(body, response.statusCode());
+        String failure = null;
+        if (code != apiCase.getExpectedCode()) {
+            failure = "Expected responseCode " + apiCase.getExpectedCode() + " but got " + code + ": " + abbreviate(response.body());
+        } else if (!apiCase.getJsonPath().isEmpty()) {
+            Object actual = read(body, apiCase.getJsonPath());
+            String expected = expand(apiCase.getExpectedValue(), values);
+            if (actual == null) {
+                failure = "No value at " + apiCase.getJsonPath() + ": " + abbreviate(response.body());
+            } else if (!expected.isEmpty() && !expected.equals(String.valueOf(actual))) {
+                failure = "Expected " + apiCase.getJsonPath() + " = '" + expected + "' but got '" + actual + "'";
+            }
+        }
+        Result result = new Result(apiCase, code, nanos, failure);
+        if (code == 201 && apiCase.getEndpoint().endsWith("/createAccount")) {
+            result.createdAccount = params;
+        }
+        return result;
+    }
+
+    /**
+     * Deletes the account the case of a result created, if any.
+     * @param result A result of {@link #send(ApiCase, Map)}.
+     */
+    void cleanUp(Result result) {
+        if (result.createdAccount != null) {
+            cleanUpAccount(result.createdAccount);
+        }
+    }
+
+    private HttpRequest request(String method, String endpoint, Map<String, String> params) {
+        String encoded = encode(params);
+        boolean query = method.equals("GET") && !encoded.isEmpty();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + endpoint + (query ? "?" + encoded : "")))
+                .timeout(TIMEOUT);
+        if (method.equals("GET")) {
+            return builder.GET().build();
+        }
+        return builder.header("Content-Type", "application/x-www-form-urlencoded")
+                .method(method, HttpRequest.BodyPublishers.ofString(encoded))
+                .build();
+    }
+
+    private void cleanUpAccount(Map<String, String> params) {
+        try {
+            http.send(request("DELETE", "/api/deleteAccount",
+                    Map.of("email", params.get("email"), "password", params.get("password"))), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            System.err.println("Failed to delete account " + params.get("email") + " created by an API case: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads a value from parsed JSON by a path such as products[0].category.usertype.usertype.
+     * @param root The parsed JSON (maps and lists).
+     * @param path The path.
+     * @return The value, or null if any step is missing.
+     */
+    public static Object read(Object root, String path) {
+        Object node = root;
+        for (String step : path.split("\\.")) {
+            int bracket = step.indexOf('[');
+            String key = bracket >= 0 ? step.substring(0, bracket) : step;
+            if (!key.isEmpty()) {
+                node = node instanceof Map ? ((Map<?, ?>) node).get(key) : null;
+            }
+            while (node != null && bracket >= 0) {
+                int close = step.indexOf(']', bracket);
+                int index = Integer.parseInt(step.substring(bracket + 1, close));
+                node = node instanceof List && index < ((List<?>) node).size() ? ((List<?>) node).get(index) : null;
+                bracket = step.indexOf('[', close);
+            }
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    static Object parse(String body) {
+        try {
+            return new Json().toType(body, Object.class);
+        } catch (JsonException e) {
+            return null;
+        }
+    }
+
+    // The site answers HTTP 200 and reports the real status in the body
+    static int responseCode(Object body, int httpStatus) {
+        Object code = body instanceof Map ? ((Map<?, ?>) body).get("responseCode") : null;
+        return code instanceof Number ? ((Number) code).intValue() : httpStatus;
+    }
+
+    static String expand(String template, Map<String, String> values) {
+        String expanded = template;
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            expanded = expanded.replace("{" + value.getKey() + "}", value.getValue());
+        }
+        return expanded;
+    }
+
+    static String encode(Map<String, String> params) {
+        StringJoiner encoded = new StringJoiner("&");
+        params.forEach((name, value) -> encoded.add(URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return encoded.toString();
+    }
+
+    private static String abbreviate(String body) {
+        return body.length() > 200 ? body.substring(0, 200) + "..." : body;
+    }
+
+    /**
+     * One row of the ApiCases sheet.
+     */
+    public static final class ApiCase {
+
+        private final String id;
+        private final String description;
+        private final String method;
+        private final String endpoint;
+        private final String params;
+        private final int expectedCode;
+        private final String jsonPath;
+        private final String expectedValue;
+
+        ApiCase(Map<String, String> row) {
+            this.id = row.get("TestCaseID");
+            this.description = Objects.toString(row.get("Description"), "");
+            this.method = Objects.toString(row.get("Method"), "GET").trim().toUpperCase();
+            this.endpoint = Objects.toString(row.get("Endpoint"), "").trim();
+            this.params = Objects.toString(row.get("Params"), "");
+            this.expectedCode = (int) Double.parseDouble(Objects.toString(row.get("ExpectedCode"), "200"));
+            this.jsonPath = Objects.toString(row.get("JsonPath"), "").trim();
+            this.expectedValue = Objects.toString(row.get("ExpectedValue"), "");
+        }
+
+        /**
+         * @param values Values for the {name} placeholders.
+         * @return The params of the case with placeholders filled, in sheet order.
+         */
+        public Map<String, String> params(Map<String, String> values) {
+            Map<String, String> expanded = new LinkedHashMap<>();
+            if (params.isBlank()) {
+                return expanded;
+            }
+            for (String pair : params.split("&")) {
+                String[] parts = pair.split("=", 2);
+                expanded.put(parts[0].trim(), parts.length > 1 ? expand(parts[1], values) : "");
+            }
+            return expanded;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getExpectedCode() {
+            return expectedCode;
+        }
+
+        public String getJsonPath() {
+            return jsonPath;
+        }
+
+        public String getExpectedValue() {
+            return expectedValue;
+        }
+
+        @Override
+        public String toString() {
+            return id + " " + method + " " + endpoint;
+        }
+    }
+
+    /**
+     * Outcome of one case.
+     */
+    public static final class Result {
+
+        private final ApiCase apiCase;
+        private final int responseCode;
+        private final long nanos;
+        private final String failure;
+        // Params of the account the case created, until cleanUp deletes it
+        private Map<String, String> createdAccount;
+
+        Result(ApiCase apiCase, int responseCode, long nanos, String failure) {
+            this.apiCase = apiCase;
+            this.responseCode = responseCode;
+            this.nanos = nanos;
+            this.failure = failure;
+        }
+
+        public ApiCase getCase() {
+            return apiCase;
+        }
+
+        public boolean isPassed() {
+            return failure == null;
+        }
+
+        public int getResponseCode() {
+            return responseCode;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return Why the case failed, or null if it passed.
+         */
+        public String getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return apiCase + " -> " + responseCode + " in " + nanos / 1_000_000 + " ms" + (failure != null ? ": " + failure : "");
+        }
+    }
+}
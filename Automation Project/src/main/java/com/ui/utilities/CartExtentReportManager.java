@@ -1,9 +1,9 @@
 package com.ui.utilities;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.ui.utilities.ReportFacade.TestNode;
 
 import java.io.File;
 import java.time.LocalDateTime;
@@ -11,11 +11,12 @@ import java.time.format.DateTimeFormatter;
 
 public class CartExtentReportManager {
     
-    private static ExtentReports extent;
-    private static ExtentTest test;
+    private static volatile ExtentReports extent;
+    // Handles only; the Extent model itself is built by the ReportFacade writer thread
+    private static final ThreadLocal<TestNode> currentTest = new ThreadLocal<>();
     private static final String REPORT_PATH = "reports/datadriven_reports/";
     
-    public static void initializeExtentReport() {
+    public static synchronized void initializeExtentReport() {
         if (extent == null) {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
             String reportName = "CartPage_DataDriven_TestReport_" + timestamp + ".html";
@@ -25,13 +26,14 @@ public class CartExtentReportManager {
                 reportDir.mkdirs();
             }
             
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_PATH + reportName);
+            ExtentSparkReporter sparkReporter = ReportFlusher.sparkReporter(REPORT_PATH + reportName);
             sparkReporter.config().setDocumentTitle("Cart Page Data-Driven Automation Report");
             sparkReporter.config().setReportName("Data-Driven Cart Page Testing");
             sparkReporter.config().setTheme(Theme.DARK);
             
             extent = new ExtentReports();
             extent.attachReporter(sparkReporter);
+            ReportFlusher.register(extent, REPORT_PATH + reportName);
             
             extent.setSystemInfo("Application", "Automation Exercise");
             extent.setSystemInfo("Test Type", "Data-Driven UI Automation");
@@ -46,23 +48,26 @@ public class CartExtentReportManager {
     
     public static void createTest(String testName, String description) {
         if (extent != null) {
-            test = extent.createTest(testName, description);
+            currentTest.set(ReportFacade.createTest(extent, testName, description));
         }
     }
     
     public static void assignCategory(String category) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.assignCategory(category);
         }
     }
     
     public static void assignAuthor(String author) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.assignAuthor(author);
         }
     }
     
     public static void logStep(String stepDescription) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("🔹 <b>Step:</b> " + stepDescription);
             System.out.println("STEP: " + stepDescription);
@@ -70,6 +75,7 @@ public class CartExtentReportManager {
     }
     
     public static void logAction(String action) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("▶️ <b>Action:</b> " + action);
             System.out.println("ACTION: " + action);
@@ -77,6 +83,7 @@ public class CartExtentReportManager {
     }
     
     public static void logNavigation(String navigationDetails) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("🧭 <b>Navigation:</b> " + navigationDetails);
             System.out.println("NAVIGATION: " + navigationDetails);
@@ -84,6 +91,7 @@ public class CartExtentReportManager {
     }
     
     public static void logValidation(String validationDetails) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("✔️ <b>Validation:</b> " + validationDetails);
             System.out.println("VALIDATION: " + validationDetails);
@@ -91,6 +99,7 @@ public class CartExtentReportManager {
     }
     
     public static void logTestData(String testDataDetails) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("📊 <b>Test Data:</b> " + testDataDetails);
             System.out.println("TEST DATA: " + testDataDetails);
@@ -98,6 +107,7 @@ public class CartExtentReportManager {
     }
     
     public static void logExpectedResult(String expectedResult) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("🎯 <b>Expected Result:</b> " + expectedResult);
             System.out.println("EXPECTED: " + expectedResult);
@@ -105,6 +115,7 @@ public class CartExtentReportManager {
     }
     
     public static void logActualResult(String actualResult) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("📋 <b>Actual Result:</b> " + actualResult);
             System.out.println("ACTUAL: " + actualResult);
@@ -112,6 +123,7 @@ public class CartExtentReportManager {
     }
     
     public static void logInfo(String message) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.info("ℹ️ " + message);
             System.out.println("INFO: " + message);
@@ -119,6 +131,7 @@ public class CartExtentReportManager {
     }
     
     public static void logPass(String message) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.pass("✅ <b>" + message + "</b>");
             System.out.println("PASS: " + message);
@@ -126,6 +139,7 @@ public class CartExtentReportManager {
     }
     
     public static void logFail(String message) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.fail("❌ <b>" + message + "</b>");
             System.out.println("FAIL: " + message);
@@ -133,6 +147,7 @@ public class CartExtentReportManager {
     }
     
     public static void logSkip(String message) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.skip("⚠️ <b>" + message + "</b>");
             System.out.println("SKIP: " + message);
@@ -140,6 +155,7 @@ public class CartExtentReportManager {
     }
     
     public static void logWarning(String message) {
+        TestNode test = currentTest.get();
         if (test != null) {
             test.warning("⚠️ <b>" + message + "</b>");
             System.out.println("WARNING: " + message);
@@ -147,6 +163,7 @@ public class CartExtentReportManager {
     }
     
     public static void addScreenshot(String screenshotPath) {
+        TestNode test = currentTest.get();
         if (test != null && screenshotPath != null) {
             try {
                 test.addScreenCaptureFromPath(screenshotPath);
@@ -159,7 +176,7 @@ public class CartExtentReportManager {
     
     public static void flushReport() {
         if (extent != null) {
-            extent.flush();
+            ReportFlusher.flush(extent);
             System.out.println("ExtentReports flushed successfully.");
         }
     }
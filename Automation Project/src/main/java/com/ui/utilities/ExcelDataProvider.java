@@ -0,0 +1,133 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Lazy TestNG DataProvider adapter over the {@link TestDataRepository}.
+ *
+ * The returned iterators follow the cached table of the sheet: on the first read they hand rows
+ * to TestNG while the sheet is still being parsed, so the first test starts as soon as the first
+ * row is read; later reads of the same sheet are served from memory. The iterators are
+ * synchronized, so they can back a {@code @DataProvider(parallel = true)}.
+ */
+public final class ExcelDataProvider {
+
+    private ExcelDataProvider() {}
+
+    /**
+     * One test invocation per data row, with the row passed as a single Map argument.
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @return The lazy DataProvider rows.
+     */
+    public static Iterator<Object[]> rows(String filePath, String sheetName) {
+        return rows(filePath, sheetName, row -> true);
+    }
+
+    /**
+     * Same as {@link #rows(String, String)}, keeping only the rows accepted by the filter.
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @param filter Decides which rows become test invocations.
+     * @return The lazy DataProvider rows.
+     */
+    public static Iterator<Object[]> rows(String filePath, String sheetName, Predicate<Map<String, String>> filter) {
+        TestDataTable table = table(filePath, sheetName);
+        Iterator<String[]> cells = table.rowIterator();
+        return new SynchronizedIterator(new Iterator<Object[]>() {
+            private Object[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && cells.hasNext()) {
+                    Map<String, String> row = ExcelStreamReader.toMap(table.headersWhenReady(), cells.next());
+                    if (row != null && filter.test(row)) {
+                        next = new Object[] { row };
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] args = next;
+                next = null;
+                return args;
+            }
+        });
+    }
+
+    /**
+     * One test invocation per data row, with the first {@code columns} cells passed as String arguments.
+     * Missing cells are passed as empty strings.
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @param columns The number of test method parameters.
+     * @return The lazy DataProvider rows.
+     */
+    public static Iterator<Object[]> columns(String filePath, String sheetName, int columns) {
+        Iterator<String[]> cells = table(filePath, sheetName).rowIterator();
+        return new SynchronizedIterator(new Iterator<Object[]>() {
+            private String[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && cells.hasNext()) {
+                    String[] row = cells.next();
+                    if (ExcelStreamReader.hasData(row)) {
+                        next = row;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] args = new Object[columns];
+                for (int i = 0; i < columns; i++) {
+                    args[i] = i < next.length ? next[i] : "";
+                }
+                next = null;
+                return args;
+            }
+        });
+    }
+
+    private static TestDataTable table(String filePath, String sheetName) {
+        try {
+            return TestDataRepository.get(filePath, sheetName);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read Excel rows: " + e.getMessage(), e);
+        }
+    }
+
+    // TestNG may pull from several threads when the DataProvider is parallel
+    private static final class SynchronizedIterator implements Iterator<Object[]> {
+
+        private final Iterator<Object[]> delegate;
+
+        SynchronizedIterator(Iterator<Object[]> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            return delegate.next();
+        }
+    }
+}
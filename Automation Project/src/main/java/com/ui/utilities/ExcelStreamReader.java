@@ -0,0 +1,412 @@
+package com.ui.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reads .xlsx sheets with POI's XSSF event model instead of loading the whole workbook.
+ *
+ * The sheet XML is parsed with SAX and every row is handed out as soon as it is parsed,
+ * so memory use does not grow with the number of rows. The first row is the header row;
+ * data rows are returned as maps from header to the formatted, trimmed cell value
+ * (the same text DataFormatter shows for a cell). Blank rows are skipped.
+ */
+public final class ExcelStreamReader {
+
+    private static final int BUFFER_SIZE = Integer.getInteger("excel.stream.buffer", 64);
+    private static final Object END = new Object();
+
+    private final File file;
+    private final String sheetName;
+
+    private ExcelStreamReader(File file, String sheetName) {
+        this.file = file;
+        this.sheetName = sheetName;
+    }
+
+    /**
+     * @param filePath The path to the .xlsx file.
+     * @return A reader for the first sheet of the workbook.
+     */
+    public static ExcelStreamReader open(String filePath) {
+        return new ExcelStreamReader(new File(filePath), null);
+    }
+
+    /**
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @return A reader for the sheet.
+     */
+    public static ExcelStreamReader open(String filePath, String sheetName) {
+        return new ExcelStreamReader(new File(filePath), sheetName);
+    }
+
+    /**
+     * Receives every row of the sheet from its first physical row (the header) to its last one.
+     * Rows missing in between are passed as empty arrays, so row numbers have no gaps. Every
+     * reader of test data goes through this, so snapshots and streamed sheets agree on row indexes.
+     */
+    public interface RowHandler {
+        /**
+         * @param rowNum The row number (0-based).
+         * @param cells The formatted cell values; missing cells are empty strings.
+         */
+        void row(int rowNum, String[] cells);
+    }
+
+    /**
+     * Streams every row of the sheet, header included, to the handler on the calling thread.
+     * @param handler The row handler.
+     * @throws IOException If the file or the sheet cannot be read.
+     */
+    public void forEachRow(RowHandler handler) throws IOException {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            try (InputStream sheet = openSheet(reader)) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (StopReading e) {
+            // The consumer asked to stop before the end of the sheet
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e.getCause() instanceof StopReading) {
+                return;
+            }
+            throw new IOException("Failed to read " + file + (sheetName != null ? " [" + sheetName + "]" : "") + ": " + e.getMessage(), e);
+        } finally {
+            if (pkg != null) {
+                pkg.revert(); // Read-only package: release it without saving
+            }
+        }
+    }
+
+    /**
+     * Streams the data rows of the sheet to the action on the calling thread.
+     * @param action Receives each non-blank data row keyed by header.
+     * @throws IOException If the file or the sheet cannot be read.
+     */
+    public void forEach(Consumer<Map<String, String>> action) throws IOException {
+        List<String> headers = new ArrayList<>();
+        forEachRow((rowNum, cells) -> {
+            if (headers.isEmpty()) {
+                for (String cell : cells) {
+                    headers.add(cell);
+                }
+                return;
+            }
+            Map<String, String> row = toMap(headers, cells);
+            if (row != null) {
+                action.accept(row);
+            }
+        });
+    }
+
+    /**
+     * Reads all data rows. Prefer {@link #forEach(Consumer)} or {@link #iterator()} for large sheets.
+     * @return The data rows keyed by header.
+     * @throws IOException If the file or the sheet cannot be read.
+     */
+    public List<Map<String, String>> readAll() throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        forEach(rows::add);
+        return rows;
+    }
+
+    /**
+     * Returns the data rows lazily. The sheet is parsed on a background thread that stays at most
+     * excel.stream.buffer rows (default 64) ahead of the consumer.
+     * @return An iterator over the data rows keyed by header. Close it if it is abandoned early.
+     */
+    public RowIterator<Map<String, String>> iterator() {
+        return iterator(Function.identity());
+    }
+
+    /**
+     * Same as {@link #iterator()}, but maps every row to a typed record first.
+     * @param mapper Converts a row to a record, or to null to drop it; called on the parsing thread.
+     * @return An iterator over the records.
+     */
+    public <T> RowIterator<T> iterator(Function<Map<String, String>, T> mapper) {
+        return iterator(mapper, BUFFER_SIZE);
+    }
+
+    /**
+     * Same as {@link #iterator(Function)} with an explicit read-ahead limit.
+     * @param mapper Converts a row to a record, or to null to drop it; called on the parsing thread.
+     * @param prefetch The maximum number of parsed rows waiting for the consumer.
+     * @return An iterator over the records.
+     */
+    public <T> RowIterator<T> iterator(Function<Map<String, String>, T> mapper, int prefetch) {
+        return produce(prefetch, sink -> forEach(row -> sink.accept(mapper.apply(row))));
+    }
+
+    /**
+     * Returns the non-blank data rows lazily as raw cell values, header row excluded.
+     * @param prefetch The maximum number of parsed rows waiting for the consumer.
+     * @return An iterator over the cell values of each row.
+     */
+    public RowIterator<String[]> cellIterator(int prefetch) {
+        return produce(prefetch, sink -> forEachRow((rowNum, cells) -> {
+            if (rowNum > 0 && hasData(cells)) {
+                sink.accept(cells);
+            }
+        }));
+    }
+
+    // Runs the source on a parsing thread that feeds a bounded buffer
+    private <T> RowIterator<T> produce(int prefetch, RowSource source) {
+        RowIterator<T> rows = new RowIterator<>(Math.max(1, prefetch));
+        Thread producer = new Thread(() -> {
+            try {
+                source.feed(row -> {
+                    if (row != null) {
+                        rows.put(row);
+                    }
+                });
+                rows.put(END);
+            } catch (StopReading e) {
+                // Closed by the consumer
+            } catch (Throwable e) {
+                try {
+                    rows.put(e);
+                } catch (StopReading ignored) {
+                    // Closed by the consumer
+                }
+            }
+        }, "excel-stream-" + file.getName());
+        producer.setDaemon(true);
+        producer.start();
+        return rows;
+    }
+
+    private interface RowSource {
+        void feed(Consumer<Object> sink) throws IOException;
+    }
+
+    static boolean hasData(String[] cells) {
+        for (String cell : cells) {
+            if (!cell.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The sheet names of the workbook, in workbook order.
+     * @throws IOException If the file cannot be read.
+     */
+    public List<String> sheetNames() throws IOException {
+        List<String> names = new ArrayList<>();
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to read " + file + ": " + e.getMessage(), e);
+        } finally {
+            if (pkg != null) {
+                pkg.revert();
+            }
+        }
+        return names;
+    }
+
+    private InputStream openSheet(XSSFReader reader) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName == null || sheetName.equals(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        throw new IOException("Sheet '" + sheetName + "' not found in " + file);
+    }
+
+    // Keys a row by header; returns null for a blank row
+    static Map<String, String> toMap(List<String> headers, String[] cells) {
+        Map<String, String> row = new LinkedHashMap<>();
+        boolean hasData = false;
+        for (int i = 0; i < headers.size(); i++) {
+            String header = headers.get(i);
+            if (header.isEmpty()) {
+                continue;
+            }
+            String value = i < cells.length ? cells[i] : "";
+            if (!value.isEmpty()) {
+                hasData = true;
+            }
+            row.put(header, value);
+        }
+        return hasData ? row : null;
+    }
+
+    /**
+     * Lazy iterator fed by the parsing thread through a bounded buffer.
+     */
+    public static final class RowIterator<T> implements Iterator<T>, AutoCloseable {
+
+        private final BlockingQueue<Object> buffer;
+        private volatile boolean closed;
+        private Object next;
+
+        private RowIterator(int capacity) {
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                if (closed) {
+                    return false;
+                }
+                try {
+                    next = buffer.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reading Excel rows", e);
+                }
+            }
+            if (next instanceof Throwable) {
+                Throwable error = (Throwable) next;
+                next = END;
+                throw new IllegalStateException("Failed to read Excel rows: " + error.getMessage(), error);
+            }
+            return next != END;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T row = (T) next;
+            next = null;
+            return row;
+        }
+
+        /**
+         * Stops the parsing thread and discards the rows it has buffered.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            next = END;
+            buffer.clear();
+        }
+
+        private void put(Object row) {
+            try {
+                while (!buffer.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        throw new StopReading();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StopReading();
+            }
+            if (closed) {
+                buffer.clear();
+                throw new StopReading();
+            }
+        }
+    }
+
+    // Collects the cells of one row and hands the row over when it ends.
+    private static final class RowCollector implements SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        private int lastRow = -1;
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            for (int gap = lastRow + 1; lastRow >= 0 && gap < rowNum; gap++) {
+                handler.row(gap, new String[0]);
+            }
+            lastRow = rowNum;
+            handler.row(rowNum, cells.toArray(new String[0]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < col) {
+                cells.add("");
+            }
+            String value = formattedValue == null ? "" : formattedValue.trim();
+            if (col < cells.size()) {
+                cells.set(col, value);
+            } else {
+                cells.add(value);
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // Not needed for test data
+        }
+    }
+
+    // Thrown from the SAX callbacks to end parsing early
+    private static final class StopReading extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+}
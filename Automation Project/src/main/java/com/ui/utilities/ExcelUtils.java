@@ -1,8 +1,6 @@
 package com.ui.utilities;
 
-import org.apache.poi.ss.usermodel.*;
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.*;
 
 public class ExcelUtils {
@@ -15,38 +13,23 @@ public class ExcelUtils {
         List<String[]> data = new ArrayList<>();
 
         try {
-            FileInputStream fis = new FileInputStream(new File(filePath));
-            Workbook workbook = WorkbookFactory.create(fis);
-            Sheet sheet = workbook.getSheetAt(0);
+            // Rows come from the shared test data cache; each sheet is parsed once per run
+            TestDataTable table = TestDataRepository.get(filePath, null);
+            for (int r = 0; r < table.getRowCount(); r++) {
+                String[] cells = table.getRow(r);
 
-            Iterator<Row> rows = sheet.iterator();
-            if (rows.hasNext()) rows.next(); // skip header
-
-            while (rows.hasNext()) {
-                Row row = rows.next();
-                int colCount = (numColumns == -1) ? row.getLastCellNum() : numColumns;
+                int colCount = (numColumns == -1) ? cells.length : numColumns;
                 String[] rowData = new String[colCount];
+                boolean hasData = false;
 
                 for (int i = 0; i < colCount; i++) {
-                    Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                    DataFormatter formatter = new DataFormatter();
-                    rowData[i] = formatter.formatCellValue(cell).trim();
-                }
-
-                boolean hasData = false;
-                for (String cellData : rowData) {
-                    if (!cellData.isEmpty()) {
-                        hasData = true;
-                        break;
-                    }
+                    rowData[i] = i < cells.length ? cells[i] : "";
+                    if (!rowData[i].isEmpty()) hasData = true;
                 }
 
                 if (hasData) data.add(rowData);
             }
 
-            workbook.close();
-            fis.close();
-
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -59,36 +42,7 @@ public class ExcelUtils {
         List<Map<String, String>> dataList = new ArrayList<>();
 
         try {
-            FileInputStream fis = new FileInputStream(new File(filePath));
-            Workbook workbook = WorkbookFactory.create(fis);
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) sheet = workbook.getSheetAt(0);
-
-            Iterator<Row> rowIterator = sheet.iterator();
-            if (!rowIterator.hasNext()) return new Object[0][0]; // empty sheet
-
-            // Read headers
-            Row headerRow = rowIterator.next();
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                DataFormatter formatter = new DataFormatter();
-                headers.add(formatter.formatCellValue(cell).trim());
-            }
-
-            while (rowIterator.hasNext()) {
-                Row row = rowIterator.next();
-                Map<String, String> rowMap = new HashMap<>();
-                for (int i = 0; i < headers.size(); i++) {
-                    Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                    DataFormatter formatter = new DataFormatter();
-                    rowMap.put(headers.get(i), formatter.formatCellValue(cell).trim());
-                }
-                dataList.add(rowMap);
-            }
-
-            workbook.close();
-            fis.close();
-
+            dataList = readRows(filePath, sheetName);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -100,4 +54,14 @@ public class ExcelUtils {
         }
         return dataArray;
     }
+
+    private static List<Map<String, String>> readRows(String filePath, String sheetName) throws IOException {
+        try {
+            return TestDataRepository.getRows(filePath, sheetName);
+        } catch (IOException e) {
+            if (sheetName == null) throw e;
+            // Unknown sheet name: fall back to the first sheet
+            return TestDataRepository.getRows(filePath, null);
+        }
+    }
 }
@@ -1,23 +1,27 @@
 package com.ui.utilities;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
 public class ExtentManager {
-    private static ThreadLocal<ExtentReports> extent = new ThreadLocal<>();
+    // One report per file, shared by every thread; its model is only touched on the ReportFacade writer thread
+    private static final Map<String, ExtentReports> reports = new ConcurrentHashMap<>();
 
     private ExtentManager() {}
 
     public static ExtentReports getInstance(String reportName) {
-        if (extent.get() == null) {
+        return reports.computeIfAbsent(reportName, name -> {
             String projectPath = System.getProperty("user.dir");
-            String reportPath = projectPath + "/reports/" + reportName;
+            String reportPath = projectPath + "/reports/" + name;
 
-            ExtentSparkReporter spark = new ExtentSparkReporter(reportPath);
+            ExtentSparkReporter spark = ReportFlusher.sparkReporter(reportPath);
             ExtentReports ext = new ExtentReports();
             ext.attachReporter(spark);
-            extent.set(ext);
-        }
-        return extent.get();
+            ReportFlusher.register(ext, reportPath);
+            return ext;
+        });
     }
 }
@@ -1,27 +1,28 @@
 package com.ui.utilities;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
+import com.ui.base.ExecutionContext;
+import com.ui.utilities.ReportFacade.TestNode;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.io.File;
 import java.text.SimpleDateFormat;
 
+/**
+ * Suite report for the UI page suites. Tests are logged through {@link ReportFacade}, so test
+ * threads only queue events and the Extent model is built on the report writer thread.
+ */
 @SuppressWarnings("unused")
 public class ExtentReportManager {
 
-    private static ExtentReports extentReports;
-    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
-    private static WebDriver storedDriver;
+    private static volatile ExtentReports extentReports;
+    private static final ThreadLocal<TestNode> extentTest = new ThreadLocal<>();
 
     private static String REPORT_FOLDER;
     private static String REPORT_FILE;
@@ -38,7 +39,7 @@ public class ExtentReportManager {
                 new File(REPORT_FOLDER).mkdirs();
                 new File(SCREENSHOT_FOLDER).mkdirs();
 
-                ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_FILE);
+                ExtentSparkReporter sparkReporter = ReportFlusher.sparkReporter(REPORT_FILE);
                 sparkReporter.config().setDocumentTitle("Automation Exercise Test Report");
                 sparkReporter.config().setReportName(suiteName + " Test Results");
                 sparkReporter.config().setTheme(Theme.STANDARD);
@@ -46,9 +47,10 @@ public class ExtentReportManager {
 
                 extentReports = new ExtentReports();
                 extentReports.attachReporter(sparkReporter);
+                ReportFlusher.register(extentReports, REPORT_FILE);
 
                 extentReports.setSystemInfo("Application", "Automation Exercise Website");
-                extentReports.setSystemInfo("Application URL", "https://automationexercise.com/");
+                extentReports.setSystemInfo("Application URL", Site.url("/"));
                 extentReports.setSystemInfo("Test Environment", "QA");
                 extentReports.setSystemInfo("User Name", System.getProperty("user.name"));
                 extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
@@ -63,16 +65,15 @@ public class ExtentReportManager {
         }
     }
 
-    public static synchronized void createTest(String testName, String description) {
+    public static void createTest(String testName, String description) {
         if (extentReports == null) return;
-        ExtentTest test = extentReports.createTest(testName, description);
-        extentTest.set(test);
+        extentTest.set(ReportFacade.createTest(extentReports, testName, description));
         System.out.println("Created test: " + testName);
     }
 
-    public static ExtentTest getTest() { return extentTest.get(); }
+    public static TestNode getTest() { return extentTest.get(); }
 
-    public static void setDriver(WebDriver driver) { storedDriver = driver; }
+    public static void setDriver(WebDriver driver) { ExecutionContext.get().setDriver(driver); }
 
     public static void logPass(String message) { log(Status.PASS, message); }
     public static void logFail(String message) { log(Status.FAIL, message); }
@@ -81,18 +82,16 @@ public class ExtentReportManager {
     public static void logSkip(String message) { log(Status.SKIP, message); }
 
     private static void log(Status status, String message) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) test.log(status, message);
         else System.out.println(status + ": " + message);
     }
 
     public static void addScreenshot(WebDriver driver, String screenshotName) {
         try {
-            TakesScreenshot ts = (TakesScreenshot) driver;
-            File source = ts.getScreenshotAs(OutputType.FILE);
             String dest = SCREENSHOT_FOLDER + File.separator + screenshotName + ".png";
-            FileUtils.copyFile(source, new File(dest));
-            ExtentTest test = getTest();
+            if (!ScreenshotService.capture(driver, new File(dest))) return;
+            TestNode test = getTest();
             if (test != null) {
                 test.log(Status.INFO, "Screenshot: " + screenshotName,
                         MediaEntityBuilder.createScreenCaptureFromPath(dest).build());
@@ -103,22 +102,23 @@ public class ExtentReportManager {
     }
 
     public static void addScreenshot(String screenshotName) {
-        if (storedDriver != null) addScreenshot(storedDriver, screenshotName);
+        WebDriver driver = ExecutionContext.getDriver();
+        if (driver != null) addScreenshot(driver, screenshotName);
         else System.err.println("Driver not set. Cannot take screenshot: " + screenshotName);
     }
 
     public static void assignCategory(String... categories) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) test.assignCategory(categories);
     }
 
     public static void assignAuthor(String... authors) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) test.assignAuthor(authors);
     }
 
     public static void markTestResult(ITestResult result) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) {
             switch (result.getStatus()) {
                 case ITestResult.SUCCESS -> test.log(Status.PASS, "Test Passed");
@@ -128,9 +128,9 @@ public class ExtentReportManager {
         }
     }
 
-    public static synchronized void flushReport() {
+    public static void flushReport() {
         if (extentReports != null) {
-            extentReports.flush();
+            ReportFlusher.flush(extentReports);
             System.out.println("ExtentReports flushed successfully");
         }
     }
@@ -138,7 +138,7 @@ public class ExtentReportManager {
     public static void cleanup() { extentTest.remove(); }
 
     public static void logTestData(String testData) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) test.log(Status.INFO, "Test Data: " + testData);
     }
 
@@ -147,7 +147,7 @@ public class ExtentReportManager {
             if (driver != null) {
                 org.openqa.selenium.remote.RemoteWebDriver remoteDriver = (org.openqa.selenium.remote.RemoteWebDriver) driver;
                 org.openqa.selenium.Capabilities caps = remoteDriver.getCapabilities();
-                ExtentTest test = getTest();
+                TestNode test = getTest();
                 if (test != null) {
                     test.log(Status.INFO, "Browser: " + caps.getBrowserName());
                     test.log(Status.INFO, "Browser Version: " + caps.getBrowserVersion());
@@ -160,7 +160,7 @@ public class ExtentReportManager {
     }
 
     public static void addTestSummary(String summary) {
-        ExtentTest test = getTest();
+        TestNode test = getTest();
         if (test != null) {
             test.log(Status.INFO, "=== TEST SUMMARY ===");
             test.log(Status.INFO, summary);
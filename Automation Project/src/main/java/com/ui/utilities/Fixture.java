@@ -0,0 +1,27 @@
+package com.ui.utilities;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Preconditions of a test, set up over HTTP by {@link FixtureClient} instead of through the UI.
+ * Applied by com.ui.listeners.FixtureListener right before the test method runs, after its
+ * {@code @BeforeMethod} has opened the browser, and torn down right after it.
+ *
+ * On a class, it applies to every test method of the class that has no @Fixture of its own.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Fixture {
+
+    /** Creates a throwaway account before the test and deletes it afterwards; implied by loggedIn. */
+    boolean account() default false;
+
+    /** Logs the test's browser in as a throwaway fixture account, without using the login form. */
+    boolean loggedIn() default false;
+
+    /** Product ids to put into the cart of the test's browser session. */
+    int[] cart() default {};
+}
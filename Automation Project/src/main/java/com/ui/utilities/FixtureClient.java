@@ -0,0 +1,355 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+/**
+ * Sets up test preconditions (accounts, logged-in sessions, cart contents) directly over HTTP.
+ *
+ * Accounts are created, checked and deleted through the site's public API (/api/createAccount,
+ * /api/verifyLogin, /api/deleteAccount). Logging in and filling the cart use the same form and
+ * AJAX endpoints as the browser, and the resulting session cookies are handed to the test's
+ * WebDriver, so the browser sees the state as if it had clicked through it.
+ *
+ * One HttpClient is shared by all threads, so connections are kept alive and reused. Requests go
+ * to the site selected by site.url (see {@link Site}), the in-process stub site with site.url=stub.
+ */
+public final class FixtureClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("fixture.timeout.seconds", 15));
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"csrfmiddlewaretoken\" value=\"([^\"]+)\"");
+    private static final ThreadLocal<Account> currentAccount = new ThreadLocal<>();
+
+    private static volatile FixtureClient shared;
+
+    private final String baseUrl;
+    private final HttpClient http;
+
+    /**
+     * @param baseUrl The site root, e.g. https://automationexercise.com.
+     */
+    public FixtureClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * @return The client for the configured site, created on first use.
+     */
+    public static FixtureClient shared() {
+        if (shared == null) {
+            synchronized (FixtureClient.class) {
+                if (shared == null) {
+                    shared = new FixtureClient(Site.baseUrl());
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * @return The account created by the @Fixture of the test running on the calling thread, or null.
+     */
+    public static Account currentAccount() {
+        return currentAccount.get();
+    }
+
+    /**
+     * Sets up a test's @Fixture on the shared client: creates the account, logs the browser in
+     * and fills its cart, as declared. If a step after creating the account fails, the account is
+     * deleted again before the exception is rethrown.
+     * @param fixture The fixture of the test method.
+     * @param driver The test's WebDriver; may be null if the fixture needs no browser state.
+     */
+    public static void setUp(Fixture fixture, WebDriver driver) {
+        FixtureClient client = shared();
+        Account account = fixture.account() || fixture.loggedIn() ? client.createAccount() : null;
+        currentAccount.set(account);
+        if (driver == null) {
+            return;
+        }
+        try {
+            if (fixture.loggedIn()) {
+                Map<String, String> cookies = client.login(account.getEmail(), account.getPassword());
+                client.addToCart(cookies, fixture.cart());
+                client.applySession(driver, cookies);
+            } else if (fixture.cart().length > 0) {
+                client.addToCart(driver, fixture.cart());
+            }
+        } catch (RuntimeException e) {
+            // TestNG may not run the after-invocation hook once the before hook has thrown
+            try {
+                tearDown();
+            } catch (RuntimeException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the account created for the test running on the calling thread, if any.
+     */
+    public static void tearDown() {
+        Account account = currentAccount.get();
+        currentAccount.remove();
+        if (account != null && !shared().deleteAccount(account.getEmail(), account.getPassword())) {
+            System.err.println("Fixture account " + account + " was not deleted");
+        }
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Registers a new account with a unique email.
+     * @return The account.
+     * @throws IllegalStateException If the site does not confirm the account.
+     */
+    public Account createAccount() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        Account account = new Account("Fixture " + id, "fixture_" + id + "@example.com", "Fx-" + id);
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("name", account.getName());
+        form.put("email", account.getEmail());
+        form.put("password", account.getPassword());
+        form.put("title", "Mr");
+        form.put("birth_date", "1");
+        form.put("birth_month", "1");
+        form.put("birth_year", "1990");
+        form.put("firstname", "Fixture");
+        form.put("lastname", id);
+        form.put("company", "QA");
+        form.put("address1", "1 Test Street");
+        form.put("address2", "");
+        form.put("country", "India");
+        form.put("zipcode", "560001");
+        form.put("state", "Karnataka");
+        form.put("city", "Bengaluru");
+        form.put("mobile_number", "9999999999");
+        expect(api("POST", "/api/createAccount", form), 201, "create account " + account.getEmail());
+        return account;
+    }
+
+    /**
+     * @param email The account email.
+     * @param password The account password.
+     * @return true if the site accepts the credentials.
+     */
+    public boolean verifyLogin(String email, String password) {
+        return api("POST", "/api/verifyLogin", Map.of("email", email, "password", password)) == 200;
+    }
+
+    /**
+     * Deletes an account. Deleting an account that does not exist is not an error.
+     * @param email The account email.
+     * @param password The account password.
+     * @return true if an account was deleted.
+     */
+    public boolean deleteAccount(String email, String password) {
+        return api("DELETE", "/api/deleteAccount", Map.of("email", email, "password", password)) == 200;
+    }
+
+    /**
+     * Logs an account in through the login form and returns the session cookies.
+     * @param email The account email.
+     * @param password The account password.
+     * @return The cookies of the logged-in session, by name.
+     * @throws IllegalStateException If the login is rejected.
+     */
+    public Map<String, String> login(String email, String password) {
+        Map<String, String> cookies = new LinkedHashMap<>();
+        HttpResponse<String> page = send(get("/login", cookies).build());
+        collectCookies(page, cookies);
+        Matcher csrf = CSRF_INPUT.matcher(page.body());
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("csrfmiddlewaretoken", csrf.find() ? csrf.group(1) : cookies.getOrDefault("csrftoken", ""));
+        form.put("email", email);
+        form.put("password", password);
+        HttpResponse<String> response = send(request("/login", cookies)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Referer", baseUrl + "/login")
+                .POST(HttpRequest.BodyPublishers.ofString(encode(form)))
+                .build());
+        collectCookies(response, cookies);
+        if (response.statusCode() != 302 || !cookies.containsKey("sessionid")) {
+            throw new IllegalStateException("Login over HTTP failed for " + email + " (HTTP " + response.statusCode() + ")");
+        }
+        return cookies;
+    }
+
+    /**
+     * Adds products to the cart of a session.
+     * @param cookies The session cookies; cookies the site sets in return are added to the map.
+     * @param productIds The product ids, e.g. 1 for Blue Top.
+     */
+    public void addToCart(Map<String, String> cookies, int... productIds) {
+        for (int productId : productIds) {
+            HttpResponse<String> response = send(get("/add_to_cart/" + productId, cookies)
+                    .header("X-Requested-With", "XMLHttpRequest")
+                    .build());
+            collectCookies(response, cookies);
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Adding product " + productId + " to the cart failed (HTTP " + response.statusCode() + ")");
+            }
+        }
+    }
+
+    /**
+     * Adds products to the cart of a browser session, logged in or not.
+     * @param driver The test's WebDriver.
+     * @param productIds The product ids, e.g. 1 for Blue Top.
+     */
+    public void addToCart(WebDriver driver, int... productIds) {
+        openSite(driver);
+        Map<String, String> cookies = new LinkedHashMap<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.put(cookie.getName(), cookie.getValue());
+        }
+        addToCart(cookies, productIds);
+        applySession(driver, cookies);
+    }
+
+    /**
+     * Hands session cookies to a browser and reloads the page, which is left on the site.
+     * @param driver The test's WebDriver.
+     * @param cookies The session cookies, by name.
+     */
+    public void applySession(WebDriver driver, Map<String, String> cookies) {
+        openSite(driver);
+        for (Map.Entry<String, String> cookie : cookies.entrySet()) {
+            driver.manage().deleteCookieNamed(cookie.getKey());
+            driver.manage().addCookie(new Cookie(cookie.getKey(), cookie.getValue(), "/"));
+        }
+        driver.navigate().refresh();
+    }
+
+    // Cookies can only be set for the domain of the page that is open
+    private void openSite(WebDriver driver) {
+        String current = driver.getCurrentUrl();
+        if (current == null || !current.startsWith(baseUrl)) {
+            driver.get(baseUrl + "/");
+        }
+    }
+
+    // The API answers HTTP 200 and puts the real status in the responseCode field of its JSON body
+    private int api(String method, String path, Map<String, String> form) {
+        HttpResponse<String> response = send(request(path, Map.of())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .method(method, HttpRequest.BodyPublishers.ofString(encode(form)))
+                .build());
+        try {
+            Map<String, Object> body = new Json().toType(response.body(), Json.MAP_TYPE);
+            Object code = body.get("responseCode");
+            return code instanceof Number ? ((Number) code).intValue() : response.statusCode();
+        } catch (JsonException | ClassCastException e) {
+            return response.statusCode();
+        }
+    }
+
+    private void expect(int responseCode, int expected, String action) {
+        if (responseCode != expected) {
+            throw new IllegalStateException("Failed to " + action + ": responseCode " + responseCode);
+        }
+    }
+
+    private HttpRequest.Builder get(String path, Map<String, String> cookies) {
+        return request(path, cookies).GET();
+    }
+
+    private HttpRequest.Builder request(String path, Map<String, String> cookies) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (!cookies.isEmpty()) {
+            StringJoiner header = new StringJoiner("; ");
+            cookies.forEach((name, value) -> header.add(name + "=" + value));
+            builder.header("Cookie", header.toString());
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fixture request to " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during fixture request to " + request.uri(), e);
+        }
+    }
+
+    private static void collectCookies(HttpResponse<?> response, Map<String, String> cookies) {
+        List<String> headers = response.headers().allValues("Set-Cookie");
+        for (String header : headers) {
+            String pair = header.split(";", 2)[0];
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+            }
+        }
+    }
+
+    private static String encode(Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        form.forEach((name, value) -> body.add(URLEncoder.encode(name, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return body.toString();
+    }
+
+    /**
+     * A site account created for a test.
+     */
+    public static final class Account {
+
+        private final String name;
+        private final String email;
+        private final String password;
+
+        public Account(String name, String email, String password) {
+            this.name = name;
+            this.email = email;
+            this.password = password;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String toString() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ui.utilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of HdrHistogram.
+ *
+ * Values are recorded in microseconds. Every power-of-two range is split into 32 linear
+ * sub-buckets, so any recorded value is reported within about 3% of its true value while the
+ * whole range up to several days fits in about 1,200 counters. Recording is a single atomic
+ * increment and never allocates, so one histogram can be shared by any number of threads.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 35;
+    private static final long MAX_VALUE = ((long) (2 * SUB_BUCKETS) << MAX_SHIFT) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_SHIFT + 2) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos A duration in nanoseconds.
+     */
+    public void recordNanos(long nanos) {
+        record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * @param micros A duration in microseconds; negative values count as 0.
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all values of another histogram to this one.
+     * @param other The histogram to add.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long n = other.counts.get(i);
+            if (n > 0) {
+                counts.addAndGet(i, n);
+            }
+        }
+        count.addAndGet(other.count.get());
+        sum.addAndGet(other.sum.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public double getMeanMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * @param percentile The percentile, from 0 to 100.
+     * @return The highest value equivalent to the percentile's bucket, in microseconds; 0 when empty.
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return count, mean, p50, p95, p99 and max in milliseconds, for JSON summaries.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", getCount());
+        map.put("meanMs", millis(Math.round(getMeanMicros())));
+        map.put("p50Ms", millis(getPercentileMicros(50)));
+        map.put("p95Ms", millis(getPercentileMicros(95)));
+        map.put("p99Ms", millis(getPercentileMicros(99)));
+        map.put("maxMs", millis(getMaxMicros()));
+        return map;
+    }
+
+    /**
+     * @param micros A value in microseconds.
+     * @return The value in milliseconds, rounded to 0.01 ms.
+     */
+    public static double millis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+
+    // Values below 32 map to themselves; above, 32 sub-buckets per power of two
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + (sub - SUB_BUCKETS);
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
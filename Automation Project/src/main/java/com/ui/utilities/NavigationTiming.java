@@ -0,0 +1,246 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+/**
+ * Opt-in front-end performance probe, run by page objects right after they navigate.
+ *
+ * With perf.probe=true every capture reads the page's Navigation Timing entry (TTFB,
+ * DOMContentLoaded, load), the first-contentful-paint entry, largest contentful paint and
+ * cumulative layout shift (through buffered PerformanceObservers) and the resource timing
+ * entries (count and transfer size). Browsers that do not report a metric simply leave it out.
+ *
+ * Each capture becomes a {@link Sample} that is appended as one JSON line to perf.samples.file
+ * (default perf-history/navigation-timing.jsonl, outside target/ so it survives mvn clean).
+ * Samples carry the run id (perf.run.id, default the start time of the run), page object, URL
+ * path and browser, so the history can be trended per page across runs. Times are in
+ * milliseconds from the start of the navigation, sizes in bytes.
+ */
+public final class NavigationTiming {
+
+    public static final boolean ENABLED = Boolean.getBoolean("perf.probe");
+    private static final Path SAMPLES_FILE = Paths.get(System.getProperty("perf.samples.file", "perf-history/navigation-timing.jsonl"));
+    private static final String RUN_ID = System.getProperty("perf.run.id", new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()));
+
+    // Waits for the load event, then gives the buffered observers one tick to deliver their entries
+    private static final String PROBE =
+            "var done = arguments[arguments.length - 1];"
+            + "function collect() {"
+            + "  var r = {};"
+            + "  var nav = performance.getEntriesByType('navigation')[0];"
+            + "  if (nav) {"
+            + "    r.ttfb = nav.responseStart; r.domInteractive = nav.domInteractive;"
+            + "    r.domContentLoaded = nav.domContentLoadedEventEnd; r.load = nav.loadEventEnd;"
+            + "    r.documentTransferBytes = nav.transferSize || 0;"
+            + "  }"
+            + "  var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "  if (fcp) { r.fcp = fcp.startTime; }"
+            + "  var res = performance.getEntriesByType('resource'), bytes = 0;"
+            + "  for (var i = 0; i < res.length; i++) { bytes += res[i].transferSize || 0; }"
+            + "  r.resourceCount = res.length; r.resourceTransferBytes = bytes;"
+            + "  r.totalTransferBytes = bytes + (r.documentTransferBytes || 0);"
+            + "  var lcp = 0, cls = 0, observed = false;"
+            + "  try {"
+            + "    new PerformanceObserver(function(list) {"
+            + "      list.getEntries().forEach(function(e) { lcp = Math.max(lcp, e.startTime); });"
+            + "    }).observe({ type: 'largest-contentful-paint', buffered: true });"
+            + "    new PerformanceObserver(function(list) {"
+            + "      list.getEntries().forEach(function(e) { if (!e.hadRecentInput) { cls += e.value; } });"
+            + "    }).observe({ type: 'layout-shift', buffered: true });"
+            + "    observed = true;"
+            + "  } catch (e) {}"
+            + "  setTimeout(function() {"
+            + "    if (lcp > 0) { r.lcp = lcp; }"
+            + "    if (observed) { r.cls = cls; }"
+            + "    done(r);"
+            + "  }, 100);"
+            + "}"
+            + "if (document.readyState === 'complete') { collect(); }"
+            + "else { window.addEventListener('load', function() { setTimeout(collect, 0); }); }";
+
+    private static final List<Sample> samples = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Sample> last = new ThreadLocal<>();
+
+    private NavigationTiming() {}
+
+    /**
+     * Measures the page the driver has just navigated to. Does nothing unless perf.probe is true.
+     * @param driver The WebDriver instance.
+     * @param page The page object that navigated, e.g. HomePage.
+     * @return The sample, or null if the probe is off or the browser could not be measured.
+     */
+    public static Sample capture(WebDriver driver, String page) {
+        return ENABLED ? measure(driver, page) : null;
+    }
+
+    /**
+     * Measures the page the driver is on, whether or not perf.probe is set. Used by performance
+     * budget checks, which need a sample even when the probe is off; such samples are not stored
+     * in the history, which only holds runs that enabled the probe.
+     * @param driver The WebDriver instance.
+     * @param page The page object being measured, e.g. HomePage.
+     * @return The sample, or null if the browser could not be measured.
+     */
+    public static Sample measure(WebDriver driver, String page) {
+        if (driver == null) {
+            return null;
+        }
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(PROBE);
+            if (!(raw instanceof Map)) {
+                return null;
+            }
+            Map<String, Double> metrics = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) raw).entrySet()) {
+                if (entry.getValue() instanceof Number) {
+                    metrics.put(String.valueOf(entry.getKey()), ((Number) entry.getValue()).doubleValue());
+                }
+            }
+            String browser = driver instanceof HasCapabilities
+                    ? ((HasCapabilities) driver).getCapabilities().getBrowserName() : "unknown";
+            Sample sample = new Sample(page, driver.getCurrentUrl(), browser, System.currentTimeMillis(), metrics);
+            last.set(sample);
+            if (ENABLED) {
+                samples.add(sample);
+                append(sample);
+            }
+            return sample;
+        } catch (WebDriverException | ClassCastException e) {
+            System.err.println("Navigation timing probe failed on " + page + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return The last sample captured on the calling thread, or null.
+     */
+    public static Sample lastSample() {
+        return last.get();
+    }
+
+    /**
+     * @return All samples the probe captured in this run.
+     */
+    public static List<Sample> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    /**
+     * @return A one-line summary of this run's samples, for the suite log.
+     */
+    public static String summary() {
+        if (!ENABLED) {
+            return "Navigation timing: probe off (enable with -Dperf.probe=true)";
+        }
+        return "Navigation timing: " + samples.size() + " samples of run " + RUN_ID + " appended to " + SAMPLES_FILE;
+    }
+
+    private static synchronized void append(Sample sample) {
+        StringWriter line = new StringWriter();
+        try (JsonOutput out = new Json().newOutput(line)) {
+            out.setPrettyPrint(false);
+            out.write(sample.toMap());
+        }
+        try {
+            Path parent = SAMPLES_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(SAMPLES_FILE, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Failed to store navigation timing sample: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Metrics of one navigation.
+     */
+    public static final class Sample {
+
+        private final String page;
+        private final String url;
+        private final String browser;
+        private final long timestamp;
+        private final Map<String, Double> metrics;
+
+        private Sample(String page, String url, String browser, long timestamp, Map<String, Double> metrics) {
+            this.page = page;
+            this.url = url;
+            this.browser = browser;
+            this.timestamp = timestamp;
+            this.metrics = Collections.unmodifiableMap(metrics);
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return The URL path, e.g. /view_cart; "/" for the home page.
+         */
+        public String getPath() {
+            try {
+                String path = URI.create(url).getPath();
+                return path == null || path.isEmpty() ? "/" : path;
+            } catch (IllegalArgumentException e) {
+                return url;
+            }
+        }
+
+        /**
+         * @param name The metric, e.g. lcp, domContentLoaded or totalTransferBytes.
+         * @return The value, or null if the browser did not report it.
+         */
+        public Double getMetric(String name) {
+            return metrics.get(name);
+        }
+
+        public Map<String, Double> getMetrics() {
+            return metrics;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("run", RUN_ID);
+            map.put("timestamp", timestamp);
+            map.put("page", page);
+            map.put("path", getPath());
+            map.put("url", url);
+            map.put("browser", browser);
+            map.put("metrics", metrics);
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return page + " " + getPath() + " " + metrics;
+        }
+    }
+}
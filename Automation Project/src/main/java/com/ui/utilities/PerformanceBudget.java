@@ -0,0 +1,156 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.testng.Assert;
+import org.testng.Reporter;
+
+/**
+ * Per-URL front-end performance budgets, checked against {@link NavigationTiming} samples.
+ *
+ * Budgets are read once from perf.budget.file (default src/test/resources/perf-budgets.json):
+ * <pre>
+ * { "budgets": [
+ *     { "path": "*", "totalTransferBytes": 3145728 },
+ *     { "path": "/products", "lcp": 2500 },
+ *     { "path": "/view_cart", "domContentLoaded": 1500 } ] }
+ * </pre>
+ * Each entry maps a URL path to upper limits for NavigationTiming metrics, in milliseconds
+ * (bytes for the *Bytes metrics). Limits of the "*" entry apply to every page; an entry for the
+ * exact path overrides them. Metrics the browser did not report are not checked. A budget file
+ * that exists but cannot be read, or an entry without a path, fails every budget assertion.
+ */
+public final class PerformanceBudget {
+
+    private static final Path BUDGET_FILE = Paths.get(System.getProperty("perf.budget.file", "src/test/resources/perf-budgets.json"));
+    private static final String ALL_PAGES = "*";
+
+    private PerformanceBudget() {}
+
+    // Loaded on first use, so runs that never assert a budget never read the file
+    private static final class Holder {
+        static final Map<String, Map<String, Double>> BUDGETS;
+        static final IllegalStateException FAILURE;
+
+        static {
+            Map<String, Map<String, Double>> budgets = Map.of();
+            IllegalStateException failure = null;
+            try {
+                budgets = load(BUDGET_FILE);
+            } catch (IllegalStateException e) {
+                failure = e;
+            }
+            BUDGETS = budgets;
+            FAILURE = failure;
+        }
+    }
+
+    /**
+     * Fails the running test if the page the driver is on exceeds its budget. The sample taken
+     * when the page object navigated is reused; otherwise the page is measured now.
+     * @param driver The WebDriver instance.
+     * @param page The page object asserting its budget, e.g. CartPage.
+     */
+    public static void assertWithinBudget(WebDriver driver, String page) {
+        NavigationTiming.Sample sample = NavigationTiming.lastSample();
+        if (sample == null || !sample.getUrl().equals(driver.getCurrentUrl())) {
+            sample = NavigationTiming.measure(driver, page);
+        }
+        if (sample == null) {
+            System.err.println("Performance budget of " + page + " not checked: the browser could not be measured");
+            return;
+        }
+        List<String> violations = check(sample);
+        if (!violations.isEmpty()) {
+            String message = page + " (" + sample.getPath() + ") exceeds its performance budget: " + String.join("; ", violations);
+            Reporter.log(message);
+            Assert.fail(message);
+        }
+        Reporter.log(page + " (" + sample.getPath() + ") is within its performance budget " + limitsFor(sample.getPath()));
+    }
+
+    /**
+     * @param sample A navigation sample.
+     * @return One line per exceeded limit, e.g. "lcp 3120 ms > 2500 ms"; empty if within budget.
+     */
+    public static List<String> check(NavigationTiming.Sample sample) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> limit : limitsFor(sample.getPath()).entrySet()) {
+            Double value = sample.getMetric(limit.getKey());
+            if (value != null && value > limit.getValue()) {
+                violations.add(limit.getKey() + " " + format(limit.getKey(), value) + " > " + format(limit.getKey(), limit.getValue()));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @param path A URL path, e.g. /view_cart.
+     * @return The limits that apply to the path, by metric name.
+     * @throws IllegalStateException If the budget file exists but could not be read.
+     */
+    public static Map<String, Double> limitsFor(String path) {
+        // Thrown again on every check, so each budget assertion fails and not only the first
+        if (Holder.FAILURE != null) {
+            throw new IllegalStateException(Holder.FAILURE.getMessage(), Holder.FAILURE.getCause());
+        }
+        Map<String, Double> limits = new LinkedHashMap<>(Holder.BUDGETS.getOrDefault(ALL_PAGES, Map.of()));
+        limits.putAll(Holder.BUDGETS.getOrDefault(path, Map.of()));
+        return limits;
+    }
+
+    private static Map<String, Map<String, Double>> load(Path file) {
+        Map<String, Map<String, Double>> budgets = new LinkedHashMap<>();
+        if (!Files.isRegularFile(file) && System.getProperty("perf.budget.file") != null) {
+            throw new IllegalStateException("Performance budget file " + file.toAbsolutePath() + " set by perf.budget.file does not exist");
+        }
+        if (!Files.isRegularFile(file)) {
+            System.err.println("No performance budget file at " + file.toAbsolutePath() + "; budgets are not enforced");
+            return budgets;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Object> root = new Json().toType(reader, Json.MAP_TYPE);
+            if (root == null || !(root.get("budgets") instanceof List)) {
+                throw new IllegalStateException("Performance budget file " + file + " has no \"budgets\" list");
+            }
+            for (Object entry : (List<?>) root.get("budgets")) {
+                if (!(entry instanceof Map) || !(((Map<?, ?>) entry).get("path") instanceof String)) {
+                    throw new IllegalStateException("Performance budget entry without a path in " + file + ": " + entry);
+                }
+                Map<String, Double> limits = budgets.computeIfAbsent((String) ((Map<?, ?>) entry).get("path"), k -> new LinkedHashMap<>());
+                for (Map.Entry<?, ?> limit : ((Map<?, ?>) entry).entrySet()) {
+                    if (limit.getValue() instanceof Number) {
+                        limits.put(String.valueOf(limit.getKey()), ((Number) limit.getValue()).doubleValue());
+                    }
+                }
+            }
+            System.out.println("Loaded performance budgets for " + budgets.keySet() + " from " + file);
+        } catch (IOException | JsonException | ClassCastException e) {
+            throw new IllegalStateException("Failed to read performance budgets from " + file + ": " + e.getMessage(), e);
+        }
+        return Collections.unmodifiableMap(budgets);
+    }
+
+    private static String format(String metric, double value) {
+        if (metric.endsWith("Bytes")) {
+            return String.format("%.0f KB", value / 1024);
+        }
+        if (metric.equals("cls") || metric.equals("resourceCount")) {
+            return String.format("%.3f", value).replaceAll("\\.?0+$", "");
+        }
+        return String.format("%.0f ms", value);
+    }
+}
@@ -0,0 +1,254 @@
+package com.ui.utilities;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Media;
+
+/**
+ * Single writer for the Extent report model.
+ *
+ * Test threads never touch ExtentReports or ExtentTest directly: every call on a {@link TestNode}
+ * is turned into a small event and appended to a lock-free queue, and one consumer thread applies
+ * the events to the Extent model in order. Logging costs a queue insert on the test thread and
+ * takes no lock, however many threads run in parallel.
+ *
+ * Events from one thread are applied in the order they were issued. {@link #flush(ExtentReports)}
+ * is queued like any other event, so a flush always includes everything logged before it.
+ */
+public final class ReportFacade {
+
+    private static final long FLUSH_TIMEOUT_SECONDS = Long.getLong("report.flush.timeout.seconds", 60);
+
+    private static final ConcurrentLinkedQueue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong published = new AtomicLong();
+    private static final AtomicLong applied = new AtomicLong();
+    private static volatile boolean consumerIdle;
+    private static final Thread consumer = startConsumer();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(10_000), "report-drain"));
+    }
+
+    private ReportFacade() {}
+
+    /**
+     * Queues the creation of a top-level test.
+     * @param report The report to add the test to; a null report gives a node that ignores all calls.
+     * @param name The test name.
+     * @param description The test description.
+     * @return A handle for logging to the test from any thread.
+     */
+    public static TestNode createTest(ExtentReports report, String name, String description) {
+        TestNode node = new TestNode(name);
+        if (report != null) {
+            publish(() -> node.test = report.createTest(name, description));
+            ReportFlusher.testStarted(report);
+        }
+        return node;
+    }
+
+    /**
+     * Writes the report once every event queued before this call has been applied.
+     * @param report The report to flush.
+     */
+    public static void flush(ExtentReports report) {
+        if (report == null) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        publish(() -> {
+            try {
+                report.flush();
+            } finally {
+                done.countDown();
+            }
+        });
+        await(done, TimeUnit.SECONDS.toMillis(FLUSH_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Waits until every queued event has been applied.
+     * @param timeoutMillis The maximum time to wait.
+     */
+    public static void drain(long timeoutMillis) {
+        CountDownLatch done = new CountDownLatch(1);
+        publish(done::countDown);
+        await(done, timeoutMillis);
+    }
+
+    /**
+     * @return A one-line summary of the reporting queue, for the suite log.
+     */
+    public static String summary() {
+        return String.format("Report events: %d published, %d applied, %d queued",
+                published.get(), applied.get(), published.get() - applied.get());
+    }
+
+    private static void publish(Runnable event) {
+        events.offer(event);
+        published.incrementAndGet();
+        if (consumerIdle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private static void await(CountDownLatch done, long timeoutMillis) {
+        if (Thread.currentThread() == consumer) {
+            return; // Called from inside an event; everything before it has been applied already
+        }
+        try {
+            if (!done.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                System.err.println("Report writer did not catch up within " + timeoutMillis + " ms: " + summary());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread startConsumer() {
+        Thread thread = new Thread(() -> {
+            while (true) {
+                Runnable event = events.poll();
+                if (event == null) {
+                    consumerIdle = true;
+                    // Re-check after announcing the idle state, so a concurrent publish is not missed
+                    if (events.isEmpty()) {
+                        LockSupport.park(ReportFacade.class);
+                    }
+                    consumerIdle = false;
+                    continue;
+                }
+                try {
+                    event.run();
+                } catch (Throwable e) {
+                    System.err.println("Failed to apply report event: " + e);
+                }
+                applied.incrementAndGet();
+            }
+        }, "report-writer");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Handle on a test or node of the report. Every method returns immediately; the change is
+     * applied to the Extent model by the report writer thread.
+     */
+    public static final class TestNode {
+
+        private final String name;
+        // Only read and written on the report writer thread
+        private ExtentTest test;
+
+        private TestNode(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public TestNode log(Status status, String details) {
+            return apply(test -> test.log(status, details));
+        }
+
+        public TestNode log(Status status, String details, Media media) {
+            return apply(test -> test.log(status, details, media));
+        }
+
+        public TestNode log(Status status, Throwable throwable) {
+            return apply(test -> test.log(status, throwable));
+        }
+
+        public TestNode info(String details) {
+            return log(Status.INFO, details);
+        }
+
+        public TestNode pass(String details) {
+            return log(Status.PASS, details);
+        }
+
+        public TestNode fail(String details) {
+            return log(Status.FAIL, details);
+        }
+
+        public TestNode fail(String details, Media media) {
+            return log(Status.FAIL, details, media);
+        }
+
+        public TestNode fail(Throwable throwable) {
+            return log(Status.FAIL, throwable);
+        }
+
+        public TestNode warning(String details) {
+            return log(Status.WARNING, details);
+        }
+
+        public TestNode skip(String details) {
+            return log(Status.SKIP, details);
+        }
+
+        public TestNode addScreenCaptureFromPath(String path) {
+            return apply(test -> test.addScreenCaptureFromPath(path));
+        }
+
+        public TestNode addScreenCaptureFromPath(String path, String title) {
+            return apply(test -> test.addScreenCaptureFromPath(path, title));
+        }
+
+        public TestNode addScreenCaptureFromBase64String(String base64, String title) {
+            return apply(test -> test.addScreenCaptureFromBase64String(base64, title));
+        }
+
+        public TestNode assignCategory(String... categories) {
+            return apply(test -> test.assignCategory(categories));
+        }
+
+        public TestNode assignAuthor(String... authors) {
+            return apply(test -> test.assignAuthor(authors));
+        }
+
+        public TestNode assignDevice(String... devices) {
+            return apply(test -> test.assignDevice(devices));
+        }
+
+        /**
+         * Queues the creation of a child node.
+         * @param nodeName The node name.
+         * @return A handle for the child node.
+         */
+        public TestNode createNode(String nodeName) {
+            return createNode(nodeName, null);
+        }
+
+        /**
+         * Queues the creation of a child node.
+         * @param nodeName The node name.
+         * @param description The node description.
+         * @return A handle for the child node.
+         */
+        public TestNode createNode(String nodeName, String description) {
+            TestNode child = new TestNode(nodeName);
+            apply(test -> child.test = description != null ? test.createNode(nodeName, description) : test.createNode(nodeName));
+            return child;
+        }
+
+        private TestNode apply(Consumer<ExtentTest> action) {
+            publish(() -> {
+                if (test != null) {
+                    action.accept(test);
+                }
+            });
+            return this;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ui.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+
+/**
+ * Incremental flushing for the suite reports.
+ *
+ * Reports built by the report managers write to a ".partial.html" sibling of their final file;
+ * every flush goes through the {@link ReportFacade} writer thread and then renames the partial
+ * file over the final one atomically, so the report on disk is always complete and a crashed
+ * run still leaves the last flushed state behind.
+ *
+ * Besides the final flush, reports are flushed every report.flush.interval.seconds (default 0,
+ * off) and after every report.flush.every.tests started tests (default 0, off).
+ */
+public final class ReportFlusher {
+
+    private static final long INTERVAL_SECONDS = Long.getLong("report.flush.interval.seconds", 0);
+    private static final int EVERY_TESTS = Integer.getInteger("report.flush.every.tests", 0);
+    private static final String PARTIAL_SUFFIX = ".partial.html";
+
+    private static final Map<ExtentReports, Tracked> reports = new ConcurrentHashMap<>();
+    private static volatile ScheduledExecutorService scheduler;
+
+    private ReportFlusher() {}
+
+    /**
+     * Creates the Spark reporter for a report that is flushed incrementally.
+     * @param reportPath The final .html file of the report.
+     * @return A reporter writing to the partial file next to it.
+     */
+    public static ExtentSparkReporter sparkReporter(String reportPath) {
+        return new ExtentSparkReporter(partialPath(reportPath));
+    }
+
+    /**
+     * Starts tracking a report whose Spark reporter came from {@link #sparkReporter(String)}.
+     * @param report The report.
+     * @param reportPath The final .html file of the report.
+     */
+    public static void register(ExtentReports report, String reportPath) {
+        reports.put(report, new Tracked(reportPath));
+        if (INTERVAL_SECONDS > 0) {
+            scheduler();
+        }
+    }
+
+    /**
+     * Counts a started test and, when report.flush.every.tests is reached, flushes the report
+     * in the background so the test thread does not wait for the write.
+     * @param report The report the test belongs to.
+     */
+    public static void testStarted(ExtentReports report) {
+        Tracked tracked = report != null ? reports.get(report) : null;
+        if (tracked != null && EVERY_TESTS > 0 && tracked.started.incrementAndGet() % EVERY_TESTS == 0) {
+            scheduler().execute(() -> flush(report));
+        }
+    }
+
+    /**
+     * Flushes the report through the report writer thread and publishes it under its final name.
+     * Reports that are not tracked are flushed in place.
+     * @param report The report to flush.
+     */
+    public static void flush(ExtentReports report) {
+        if (report == null) {
+            return;
+        }
+        Tracked tracked = reports.get(report);
+        if (tracked == null) {
+            ReportFacade.flush(report);
+            return;
+        }
+        synchronized (tracked) {
+            ReportFacade.flush(report);
+            File partial = new File(partialPath(tracked.reportPath));
+            if (!partial.exists()) {
+                return;
+            }
+            try {
+                Files.move(partial.toPath(), new File(tracked.reportPath).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.err.println("Failed to publish report " + tracked.reportPath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Flushes the report one last time and stops tracking it.
+     * @param report The report to close.
+     */
+    public static void close(ExtentReports report) {
+        flush(report);
+        if (report != null) {
+            reports.remove(report);
+        }
+    }
+
+    private static String partialPath(String reportPath) {
+        String base = reportPath.endsWith(".html") ? reportPath.substring(0, reportPath.length() - 5) : reportPath;
+        return base + PARTIAL_SUFFIX;
+    }
+
+    private static synchronized ScheduledExecutorService scheduler() {
+        if (scheduler != null) {
+            return scheduler;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (INTERVAL_SECONDS > 0) {
+            scheduler.scheduleWithFixedDelay(() -> {
+                for (ExtentReports report : reports.keySet()) {
+                    try {
+                        flush(report);
+                    } catch (RuntimeException e) {
+                        System.err.println("Periodic report flush failed: " + e.getMessage());
+                    }
+                }
+            }, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+            System.out.println("Reports are flushed every " + INTERVAL_SECONDS + " s");
+        }
+        return scheduler;
+    }
+
+    private static final class Tracked {
+        final String reportPath;
+        final AtomicInteger started = new AtomicInteger();
+
+        Tracked(String reportPath) {
+            this.reportPath = reportPath;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.ui.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.ExtentColor;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+
+/**
+ * Post-run merge of the {@link ResultShards} into one Spark HTML report and one JUnit XML file.
+ *
+ * Run it as a main class once all test JVMs have finished:
+ * <pre>
+ * java com.ui.utilities.ResultShardMerger [shardDir] [outputDir]
+ * mvn -Pmerge-reports test             (merges right after the test phase)
+ * mvn -Pmerge-reports exec:java@merge-reports   (merges the shards of an earlier run)
+ * </pre>
+ * shardDir defaults to report.shard.dir (target/result-shards) and outputDir to reports/merged.
+ * Only one run is merged: report.run.id if it is set, otherwise the run whose shards were written
+ * last. That run's shards are deleted after a successful merge unless report.shard.keep is true.
+ */
+public final class ResultShardMerger {
+
+    private ResultShardMerger() {}
+
+    public static void main(String[] args) throws IOException {
+        Path shardDir = args.length > 0 ? Paths.get(args[0]) : ResultShards.SHARD_DIR;
+        Path outputDir = args.length > 1 ? Paths.get(args[1]) : Paths.get(System.getProperty("user.dir"), "reports", "merged");
+        Path runDir = ResultShards.runDir(shardDir, System.getProperty("report.run.id"));
+        if (runDir == null) {
+            System.out.println("No result shards to merge in " + shardDir);
+            return;
+        }
+        merge(runDir, outputDir);
+        if (!Boolean.getBoolean("report.shard.keep")) {
+            for (File shard : ResultShards.shardFiles(runDir)) {
+                shard.delete();
+            }
+            runDir.toFile().delete();
+        }
+    }
+
+    /**
+     * Merges every shard in shardDir.
+     * @param shardDir The directory of one run's shards, see {@link ResultShards#runDir(Path, String)}.
+     * @param outputDir Where MergedReport.html and junit-merged.xml are written.
+     * @return The number of merged results.
+     * @throws IOException If the shards cannot be read or the reports cannot be written.
+     */
+    public static int merge(Path shardDir, Path outputDir) throws IOException {
+        List<Map<String, Object>> results = ResultShards.read(shardDir);
+        results.sort(Comparator.comparingLong(r -> number(r, "start")));
+        Files.createDirectories(outputDir);
+
+        Path html = outputDir.resolve("MergedReport.html");
+        Path junit = outputDir.resolve("junit-merged.xml");
+        writeSpark(results, html);
+        writeJUnit(results, junit);
+        System.out.println("Merged " + results.size() + " results from " + shardDir + " into " + html + " and " + junit);
+        return results.size();
+    }
+
+    private static void writeSpark(List<Map<String, Object>> results, Path html) {
+        ExtentSparkReporter spark = new ExtentSparkReporter(html.toString());
+        spark.config().setDocumentTitle("Automation Exercise Test Report");
+        spark.config().setReportName("Merged Test Results");
+        spark.config().setTheme(Theme.STANDARD);
+        spark.config().setTimeStampFormat("dd/MM/yyyy hh:mm:ss");
+
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(spark);
+        extent.setSystemInfo("Results", String.valueOf(results.size()));
+
+        for (Map<String, Object> result : results) {
+            ExtentTest test = extent.createTest(displayName(result), text(result, "description"));
+            test.getModel().setStartTime(new Date(number(result, "start")));
+            test.getModel().setEndTime(new Date(number(result, "end")));
+            test.assignCategory(text(result, "suite"), text(result, "test"));
+            test.assignDevice(text(result, "host") + " / " + text(result, "thread"));
+
+            for (Object line : list(result, "output")) {
+                test.info(String.valueOf(line));
+            }
+            switch (text(result, "status")) {
+                case "PASS":
+                    test.pass("Test Passed");
+                    break;
+                case "FAIL":
+                    test.fail(MarkupHelper.createCodeBlock(text(result, "stackTrace")));
+                    break;
+                case "SKIP":
+                    test.skip(text(result, "error").isEmpty() ? "Test Skipped" : text(result, "error"));
+                    break;
+                default:
+                    test.warning(MarkupHelper.createLabel(text(result, "status"), ExtentColor.ORANGE));
+            }
+        }
+        extent.flush();
+    }
+
+    private static void writeJUnit(List<Map<String, Object>> results, Path junit) throws IOException {
+        Map<String, List<Map<String, Object>>> byClass = new TreeMap<>();
+        for (Map<String, Object> result : results) {
+            byClass.computeIfAbsent(text(result, "class"), k -> new ArrayList<>()).add(result);
+        }
+        SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+
+        try (OutputStream out = Files.newOutputStream(junit)) {
+            XMLStreamWriter xml = XMLOutputFactory.newFactory().createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("testsuites");
+            for (Map.Entry<String, List<Map<String, Object>>> suite : byClass.entrySet()) {
+                List<Map<String, Object>> cases = suite.getValue();
+                long start = Long.MAX_VALUE;
+                long time = 0;
+                int failures = 0;
+                int skipped = 0;
+                for (Map<String, Object> result : cases) {
+                    start = Math.min(start, number(result, "start"));
+                    time += number(result, "end") - number(result, "start");
+                    String status = text(result, "status");
+                    failures += status.equals("FAIL") ? 1 : 0;
+                    skipped += status.equals("SKIP") ? 1 : 0;
+                }
+                xml.writeStartElement("testsuite");
+                xml.writeAttribute("name", suite.getKey());
+                xml.writeAttribute("tests", String.valueOf(cases.size()));
+                xml.writeAttribute("failures", String.valueOf(failures));
+                xml.writeAttribute("errors", "0");
+                xml.writeAttribute("skipped", String.valueOf(skipped));
+                xml.writeAttribute("time", seconds(time));
+                xml.writeAttribute("timestamp", iso.format(new Date(start)));
+
+                for (Map<String, Object> result : cases) {
+                    xml.writeStartElement("testcase");
+                    xml.writeAttribute("classname", suite.getKey());
+                    xml.writeAttribute("name", displayName(result));
+                    xml.writeAttribute("time", seconds(number(result, "end") - number(result, "start")));
+                    switch (text(result, "status")) {
+                        case "FAIL":
+                            xml.writeStartElement("failure");
+                            xml.writeAttribute("message", text(result, "error"));
+                            xml.writeCData(text(result, "stackTrace"));
+                            xml.writeEndElement();
+                            break;
+                        case "SKIP":
+                            xml.writeEmptyElement("skipped");
+                            break;
+                        default:
+                            break;
+                    }
+                    List<Object> output = list(result, "output");
+                    if (!output.isEmpty()) {
+                        xml.writeStartElement("system-out");
+                        xml.writeCData(String.join("\n", output.stream().map(String::valueOf).toList()));
+                        xml.writeEndElement();
+                    }
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write " + junit, e);
+        }
+    }
+
+    // Data-driven runs of the same method are told apart by their parameters
+    private static String displayName(Map<String, Object> result) {
+        List<Object> parameters = list(result, "parameters");
+        String method = text(result, "method");
+        return parameters.isEmpty() ? method : method + parameters;
+    }
+
+    private static String text(Map<String, Object> result, String key) {
+        Object value = result.get(key);
+        return value != null ? String.valueOf(value) : "";
+    }
+
+    private static long number(Map<String, Object> result, String key) {
+        Object value = result.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Map<String, Object> result, String key) {
+        Object value = result.get(key);
+        return value instanceof List ? (List<Object>) value : List.of();
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+}
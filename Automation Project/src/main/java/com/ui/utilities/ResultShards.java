@@ -0,0 +1,230 @@
+package com.ui.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.json.JsonOutput;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * Per-thread JSON result shards.
+ *
+ * Every thread that finishes a test appends one compact JSON object per line to its own shard file
+ * in a directory per run below report.shard.dir (default target/result-shards), named after the
+ * JVM and the thread. Threads and forked JVMs therefore never share a file or a lock, and a crashed
+ * run keeps every result written before the crash. {@link ResultShardMerger} turns the shards of
+ * one run into the HTML and JUnit reports once the run is over.
+ *
+ * The run directory is named after report.run.id (default the start time of the JVM); give forked
+ * JVMs of one run the same report.run.id. Shards of an earlier run that was never merged stay in
+ * their own directory and are not merged with later runs.
+ *
+ * Shards are written unless report.shards is set to false.
+ */
+public final class ResultShards {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("report.shards", "true"));
+    public static final Path SHARD_DIR = Paths.get(System.getProperty("report.shard.dir", "target/result-shards"));
+    public static final String RUN_ID = System.getProperty("report.run.id", new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()))
+            .replaceAll("[^A-Za-z0-9_.-]", "_");
+    static final String SHARD_SUFFIX = ".jsonl";
+
+    private static final Json json = new Json();
+    private static final String JVM = ManagementFactory.getRuntimeMXBean().getName().replaceAll("[^A-Za-z0-9_.-]", "_");
+    private static final String HOST = hostName();
+
+    private static final Set<Writer> openShards = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Writer> shard = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ResultShards::closeAll, "result-shard-close"));
+    }
+
+    private ResultShards() {}
+
+    /**
+     * Appends a finished test to the calling thread's shard.
+     * @param result The TestNG result.
+     */
+    public static void record(ITestResult result) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("run", RUN_ID);
+        record.put("suite", result.getTestContext().getSuite().getName());
+        record.put("test", result.getTestContext().getName());
+        record.put("class", result.getTestClass().getName());
+        record.put("method", result.getMethod().getMethodName());
+        record.put("description", result.getMethod().getDescription());
+        List<String> parameters = new ArrayList<>();
+        for (Object parameter : result.getParameters()) {
+            parameters.add(String.valueOf(parameter));
+        }
+        record.put("parameters", parameters);
+        record.put("status", status(result.getStatus()));
+        record.put("start", result.getStartMillis());
+        record.put("end", result.getEndMillis());
+        record.put("thread", Thread.currentThread().getName());
+        record.put("host", HOST);
+        Throwable error = result.getThrowable();
+        if (error != null) {
+            record.put("error", String.valueOf(error));
+            record.put("stackTrace", stackTrace(error));
+        }
+        record.put("output", Reporter.getOutput(result));
+
+        StringWriter line = new StringWriter();
+        try (JsonOutput out = json.newOutput(line)) {
+            out.setPrettyPrint(false);
+            out.write(record);
+        }
+        try {
+            Writer writer = writer();
+            writer.write(line.toString());
+            writer.write('\n');
+            // One line per test and flushed at once, so a crash loses at most the test in flight
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to write result shard: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads every result in the shard directory. Lines that cannot be parsed, such as the last
+     * line of a shard whose JVM was killed mid-write, are skipped.
+     * @param dir The shard directory.
+     * @return The results, in no particular order.
+     * @throws IOException If the directory cannot be listed or a shard cannot be read.
+     */
+    public static List<Map<String, Object>> read(Path dir) throws IOException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return results;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(SHARD_SUFFIX)).sorted()::iterator) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        results.add(json.toType(line, Json.MAP_TYPE));
+                    } catch (JsonException e) {
+                        System.err.println("Skipping unreadable line in " + file.getFileName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Closes the shards of all threads. Called on JVM exit.
+     */
+    public static void closeAll() {
+        for (Writer writer : openShards) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close result shard: " + e.getMessage());
+            }
+        }
+        openShards.clear();
+    }
+
+    private static Writer writer() throws IOException {
+        Writer writer = shard.get();
+        if (writer == null) {
+            Path runDir = SHARD_DIR.resolve(RUN_ID);
+            Files.createDirectories(runDir);
+            Thread thread = Thread.currentThread();
+            String name = JVM + "-" + thread.getName().replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + thread.threadId() + SHARD_SUFFIX;
+            writer = Files.newBufferedWriter(runDir.resolve(name), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            openShards.add(writer);
+            shard.set(writer);
+        }
+        return writer;
+    }
+
+    private static String status(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            case ITestResult.SUCCESS_PERCENTAGE_FAILURE:
+                return "WARNING";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringBuilder trace = new StringBuilder(String.valueOf(error));
+        Arrays.stream(error.getStackTrace()).limit(40).forEach(element -> trace.append("\n\tat ").append(element));
+        return trace.toString();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * @param shardDir The shard directory, e.g. {@link #SHARD_DIR}.
+     * @param runId The run, or null for the run whose shards were written last.
+     * @return The run's directory, or null if there is no such run.
+     */
+    public static Path runDir(Path shardDir, String runId) {
+        if (runId != null) {
+            Path dir = shardDir.resolve(runId);
+            return Files.isDirectory(dir) ? dir : null;
+        }
+        File[] runs = shardDir.toFile().listFiles(File::isDirectory);
+        Path latest = null;
+        long latestModified = Long.MIN_VALUE;
+        for (File run : runs != null ? runs : new File[0]) {
+            for (File shard : shardFiles(run.toPath())) {
+                if (shard.lastModified() > latestModified) {
+                    latestModified = shard.lastModified();
+                    latest = run.toPath();
+                }
+            }
+        }
+        return latest;
+    }
+
+    static File[] shardFiles(Path dir) {
+        File[] files = dir.toFile().listFiles((d, name) -> name.endsWith(SHARD_SUFFIX));
+        return files != null ? files : new File[0];
+    }
+}
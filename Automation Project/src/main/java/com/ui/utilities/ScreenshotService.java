@@ -0,0 +1,297 @@
+package com.ui.utilities;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Takes screenshots without putting disk I/O on the test thread.
+ *
+ * The calling thread only asks the browser for the screenshot (the Base64 text the driver
+ * returns anyway); decoding and writing the PNG happen on a small writer pool. The pool's
+ * queue is bounded by screenshot.queue.size (default 64) and is drained by screenshot.writers
+ * threads (default 2). When the queue is full the calling thread writes the file itself, which
+ * slows capture down instead of letting pending screenshots pile up in memory.
+ *
+ * The target path is decided before the write, so reports can reference it straight away.
+ * Pending writes are completed by {@link #awaitPending(long)} and by a shutdown hook.
+ *
+ * {@link #store(WebDriver, String)} keeps screenshots in a content-addressed store under
+ * test-output/screenshots/store: the file is named after the SHA-256 of the image, so identical
+ * captures are written once and shared by every report that links them. Stored images are
+ * re-encoded as screenshot.format (jpg by default, or png to keep them lossless) at
+ * screenshot.quality (default 0.75). test-output/screenshots/index.tsv maps each capture's
+ * name to its stored file.
+ */
+public final class ScreenshotService {
+
+    private static final int WRITERS = Integer.getInteger("screenshot.writers", 2);
+    private static final int QUEUE_SIZE = Integer.getInteger("screenshot.queue.size", 64);
+    private static final String FORMAT = System.getProperty("screenshot.format", "jpg").toLowerCase();
+    private static final float QUALITY = Float.parseFloat(System.getProperty("screenshot.quality", "0.75"));
+
+    /** Root of the screenshot folders, relative to which reports link their images. */
+    public static final File SCREENSHOT_ROOT = new File(System.getProperty("user.dir")
+            + File.separator + "test-output" + File.separator + "screenshots");
+    private static final File STORE_DIR = new File(SCREENSHOT_ROOT, "store");
+    private static final File INDEX_FILE = new File(SCREENSHOT_ROOT, "index.tsv");
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ThreadPoolExecutor writers = new ThreadPoolExecutor(
+            WRITERS, WRITERS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private static final Object idle = new Object();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final AtomicLong captured = new AtomicLong();
+    private static final AtomicLong written = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong deduplicated = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final Set<String> storedHashes = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong captureMillis = new AtomicLong();
+
+    static {
+        writers.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitPending(30_000), "screenshot-drain"));
+    }
+
+    private ScreenshotService() {}
+
+    /**
+     * Grabs a screenshot on the calling thread and schedules it to be written to the target file.
+     * @param driver The WebDriver instance.
+     * @param target The PNG file to write; missing parent folders are created.
+     * @return true if the screenshot was taken and queued, false if the browser could not provide one.
+     */
+    public static boolean capture(WebDriver driver, File target) {
+        String base64 = grab(driver);
+        if (base64 == null) {
+            return false;
+        }
+        write(target, () -> Base64.getMimeDecoder().decode(base64));
+        return true;
+    }
+
+    /**
+     * Grabs a screenshot and adds it to the content-addressed store. Only the hash is computed
+     * on the calling thread; an image that is already stored is not written again.
+     * @param driver The WebDriver instance.
+     * @param name A readable name for the capture, recorded in index.tsv.
+     * @return The stored file's path relative to {@link #SCREENSHOT_ROOT} (e.g. store/3fa4...e1.jpg),
+     *         or null if the browser could not provide a screenshot.
+     */
+    public static String store(WebDriver driver, String name) {
+        String base64 = grab(driver);
+        if (base64 == null) {
+            return null;
+        }
+        String fileName = sha256(base64) + "." + (FORMAT.equals("png") ? "png" : "jpg");
+        File target = new File(STORE_DIR, fileName);
+        if (storedHashes.add(fileName) && !target.exists()) {
+            // A failed write gives the hash back, so the next identical capture writes the file again
+            write(target, () -> encode(Base64.getMimeDecoder().decode(base64)), () -> storedHashes.remove(fileName));
+        } else {
+            deduplicated.incrementAndGet();
+        }
+        String relativePath = "store/" + fileName;
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
+        submit(() -> appendIndex(timestamp + "\t" + name + "\t" + relativePath + System.lineSeparator()));
+        return relativePath;
+    }
+
+    /**
+     * Schedules already captured PNG bytes to be written to the target file.
+     * @param png The image bytes.
+     * @param target The file to write.
+     */
+    public static void save(byte[] png, File target) {
+        write(target, () -> png);
+    }
+
+    /**
+     * Blocks until every queued screenshot has been written, or the timeout elapses.
+     * @param timeoutMillis The maximum time to wait.
+     * @return true if nothing is left to write.
+     */
+    public static boolean awaitPending(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    System.err.println(pending.get() + " screenshots were still being written");
+                    return false;
+                }
+                try {
+                    idle.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return A one-line summary of the screenshot activity, for the suite log.
+     */
+    public static String summary() {
+        long count = captured.get();
+        return String.format("Screenshots: %d captured (avg %d ms on the test thread), %d written (%d KB), %d deduplicated, %d failed, %d pending",
+                count, count == 0 ? 0 : captureMillis.get() / count, written.get(), bytesWritten.get() / 1024,
+                deduplicated.get(), failed.get(), pending.get());
+    }
+
+    private interface ImageSource {
+        byte[] bytes() throws IOException;
+    }
+
+    // Asks the browser for the screenshot; the only step that has to run on the test thread
+    private static String grab(WebDriver driver) {
+        if (driver == null) {
+            System.err.println("WebDriver is null. Cannot capture screenshot.");
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+            captured.incrementAndGet();
+            return base64;
+        } catch (RuntimeException e) {
+            System.err.println("Failed to capture screenshot: " + e.getMessage());
+            failed.incrementAndGet();
+            return null;
+        } finally {
+            captureMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private static void write(File target, ImageSource image) {
+        write(target, image, () -> {});
+    }
+
+    private static void write(File target, ImageSource image, Runnable onFailure) {
+        submit(() -> {
+            try {
+                File dir = target.getAbsoluteFile().getParentFile();
+                if (dir != null && !dir.exists()) {
+                    dir.mkdirs();
+                }
+                byte[] bytes = image.bytes();
+                // Write aside and rename, so a store file is never seen half written
+                File temp = new File(target.getPath() + ".tmp");
+                Files.write(temp.toPath(), bytes);
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                written.incrementAndGet();
+                bytesWritten.addAndGet(bytes.length);
+                System.out.println("Screenshot captured: " + target.getPath());
+            } catch (IOException | RuntimeException e) {
+                failed.incrementAndGet();
+                System.err.println("Failed to write screenshot " + target + ": " + e.getMessage());
+                onFailure.run();
+            }
+        });
+    }
+
+    private static void submit(Runnable task) {
+        pending.incrementAndGet();
+        writers.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    synchronized (idle) {
+                        idle.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    // Re-encodes the PNG from the driver as JPEG at the configured quality
+    private static byte[] encode(byte[] png) throws IOException {
+        if (FORMAT.equals("png")) {
+            return png;
+        }
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            return png;
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(source, 0, 0, Color.WHITE, null);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(QUALITY);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static synchronized void appendIndex(String line) {
+        try {
+            SCREENSHOT_ROOT.mkdirs();
+            Files.write(INDEX_FILE.toPath(), line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Failed to update screenshot index: " + e.getMessage());
+        }
+    }
+
+    private static String sha256(String base64) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(base64.getBytes(StandardCharsets.US_ASCII));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
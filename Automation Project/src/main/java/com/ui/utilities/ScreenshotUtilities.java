@@ -1,56 +1,22 @@
 package com.ui.utilities;
 
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 public class ScreenshotUtilities {
 
     /**
-     * Captures a screenshot and saves it to a specified folder.
+     * Captures a screenshot into the shared screenshot store.
+     * Identical captures are stored once; the file is written in the background by {@link ScreenshotService}.
      * @param driver The WebDriver instance.
-     * @param testName The name of the test, used for the filename.
-     * @param folderName The subfolder name to save the screenshot in.
-     * @return The absolute file path of the saved screenshot.
+     * @param testName The name of the test, recorded in the screenshot index.
+     * @param folderName The folder the capture is filed under in the screenshot index.
+     * @return The relative path of the stored screenshot.
      */
     private static String capture(WebDriver driver, String testName, String folderName) {
-        try {
-            // Create screenshots directory with subfolder
-            String screenshotDir = System.getProperty("user.dir")
-                    + File.separator + "test-output"
-                    + File.separator + "screenshots"
-                    + File.separator + folderName;
-            File dir = new File(screenshotDir);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-
-            // Generate timestamp for unique filename
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
-            String fileName = testName + "_" + timestamp + ".png";
-            String filePath = dir.getAbsolutePath() + File.separator + fileName;
-
-            // Capture screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
-
-            FileUtils.copyFile(sourceFile, destFile);
-
-            System.out.println("Screenshot captured: " + filePath);
-            // Return relative path for reporting tools
-            return "./screenshots/" + folderName + "/" + fileName;
-
-        } catch (IOException e) {
-            System.err.println("Failed to capture screenshot: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        String storedPath = ScreenshotService.store(driver, folderName.replace(File.separator, "/") + "/" + testName);
+        // Return relative path for reporting tools
+        return storedPath != null ? "./screenshots/" + storedPath : null;
     }
     
     /**
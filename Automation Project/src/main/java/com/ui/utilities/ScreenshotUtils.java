@@ -1,19 +1,12 @@
 package com.ui.utilities;
 
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.apache.commons.io.FileUtils;
 
 import java.io.File;
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 public class ScreenshotUtils {
     
     private static final String SCREENSHOT_DIR = "test-output/screenshots/";
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
     
     static {
         File screenshotDir = new File(SCREENSHOT_DIR);
@@ -37,22 +30,10 @@ public class ScreenshotUtils {
                 return null;
             }
             
-            String timestamp = LocalDateTime.now().format(DATE_FORMAT);
-            String fileName = String.format("%s_%s_%s.png", testName, status, timestamp);
-            String fullPath = SCREENSHOT_DIR + fileName;
+            // Stored by content hash; the path is valid once the writer pool catches up
+            String storedPath = ScreenshotService.store(driver, testName + "_" + status);
+            return storedPath != null ? SCREENSHOT_DIR + storedPath : null;
             
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destinationFile = new File(fullPath);
-            
-            FileUtils.copyFile(sourceFile, destinationFile);
-            
-            System.out.println("Screenshot captured: " + fullPath);
-            return fullPath;
-            
-        } catch (IOException e) {
-            System.err.println("Failed to capture screenshot: " + e.getMessage());
-            return null;
         } catch (Exception e) {
             System.err.println("Unexpected error during screenshot capture: " + e.getMessage());
             return null;
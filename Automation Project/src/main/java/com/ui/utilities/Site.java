@@ -0,0 +1,43 @@
+package com.ui.utilities;
+
+import com.ui.stub.StubSite;
+
+/**
+ * The one place that decides which site the suites, page objects and fixtures talk to.
+ *
+ * site.url takes the site root (default https://automationexercise.com) or the word stub, which
+ * starts the in-process {@link StubSite} on a loopback port and points everything at it, e.g.
+ * mvn test -Dsite.url=stub for a run without network access.
+ */
+public final class Site {
+
+    private static final String DEFAULT_URL = "https://automationexercise.com";
+
+    private static volatile String baseUrl;
+
+    private Site() {}
+
+    /**
+     * @return The site root without a trailing slash, e.g. https://automationexercise.com.
+     */
+    public static String baseUrl() {
+        if (baseUrl == null) {
+            synchronized (Site.class) {
+                if (baseUrl == null) {
+                    String configured = System.getProperty("site.url", DEFAULT_URL).trim();
+                    String url = configured.equalsIgnoreCase("stub") ? StubSite.start() : configured;
+                    baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+                }
+            }
+        }
+        return baseUrl;
+    }
+
+    /**
+     * @param path A path on the site, starting with a slash, e.g. /view_cart.
+     * @return The absolute URL.
+     */
+    public static String url(String path) {
+        return baseUrl() + path;
+    }
+}
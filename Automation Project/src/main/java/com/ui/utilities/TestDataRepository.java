@@ -0,0 +1,205 @@
+package com.ui.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of parsed test data sheets.
+ *
+ * Tables are keyed by canonical path, sheet name and the file's modification time, so every
+ * sheet is parsed at most once per JVM however many suites or threads read it, and an edited
+ * workbook is picked up on the next read. The first reader starts a background load and can
+ * consume rows while they are parsed; concurrent readers share that same load.
+ *
+ * The cache is an LRU bounded by testdata.cache.size tables (default 16). Sheets are read from
+ * the workbook's {@link TestDataSnapshot} when it is current; otherwise the .xlsx is streamed and
+ * the snapshot is recompiled afterwards (disable with -Dtestdata.snapshot=false). Both give the
+ * same rows: gaps in the sheet are blank rows, as {@link ExcelStreamReader#forEachRow} reports them.
+ */
+public final class TestDataRepository {
+
+    private static final int MAX_TABLES = Integer.getInteger("testdata.cache.size", 16);
+    private static final boolean USE_SNAPSHOTS = Boolean.parseBoolean(System.getProperty("testdata.snapshot", "true"));
+
+    private static final Map<Key, TestDataTable> tables = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, TestDataTable> eldest) {
+            return size() > MAX_TABLES;
+        }
+    };
+    private static final Map<List<String>, String> locatedFiles = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong loads = new AtomicLong();
+    private static final AtomicLong snapshotLoads = new AtomicLong();
+
+    private TestDataRepository() {}
+
+    /**
+     * Returns the cached table for a sheet, starting a background load on a miss.
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @return The table; it may still be loading.
+     * @throws IOException If the file does not exist.
+     */
+    public static TestDataTable get(String filePath, String sheetName) throws IOException {
+        File file = new File(filePath).getCanonicalFile();
+        if (!file.isFile()) {
+            throw new IOException("Test data file not found: " + filePath);
+        }
+        Key key = new Key(file.getPath(), sheetName, file.lastModified());
+
+        TestDataTable table;
+        synchronized (tables) {
+            table = tables.get(key);
+            if (table != null && !table.isFailed()) {
+                hits.incrementAndGet();
+                return table;
+            }
+            // Drop tables of older versions of the same sheet
+            tables.keySet().removeIf(k -> k.path.equals(key.path) && Objects.equals(k.sheet, key.sheet));
+            table = new TestDataTable(file.getName() + (sheetName != null ? " [" + sheetName + "]" : ""));
+            tables.put(key, table);
+        }
+        loads.incrementAndGet();
+        startLoad(file, sheetName, table);
+        return table;
+    }
+
+    /**
+     * Convenience for callers that need the whole sheet at once.
+     * @param filePath The path to the .xlsx file.
+     * @param sheetName The sheet to read, or null for the first sheet.
+     * @return The non-blank data rows keyed by header.
+     * @throws IOException If the sheet cannot be read.
+     */
+    public static List<Map<String, String>> getRows(String filePath, String sheetName) throws IOException {
+        return get(filePath, sheetName).asMaps();
+    }
+
+    /**
+     * Returns the first existing, readable file among the candidates. The answer is remembered,
+     * so suites that probe the same candidate list only touch the file system once.
+     * @param candidates Paths to try, in order.
+     * @return The first readable path, or null if none exists.
+     */
+    public static String locate(String... candidates) {
+        List<String> key = Arrays.asList(candidates);
+        String located = locatedFiles.get(key);
+        if (located != null && new File(located).canRead()) {
+            return located;
+        }
+        for (String path : candidates) {
+            File file = new File(path);
+            if (file.isFile() && file.canRead()) {
+                locatedFiles.put(key, path);
+                return path;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public static void clear() {
+        synchronized (tables) {
+            tables.clear();
+        }
+        locatedFiles.clear();
+    }
+
+    /**
+     * @return A one-line summary of the cache activity, for the suite log.
+     */
+    public static String summary() {
+        int cached;
+        synchronized (tables) {
+            cached = tables.size();
+        }
+        return String.format("Test data cache: %d sheets loaded (%d from snapshots), %d cache hits, %d cached",
+                loads.get(), snapshotLoads.get(), hits.get(), cached);
+    }
+
+    private static void startLoad(File file, String sheetName, TestDataTable table) {
+        Thread loader = new Thread(() -> {
+            try {
+                if (USE_SNAPSHOTS && loadSnapshot(file, sheetName, table)) {
+                    return;
+                }
+                boolean[] headerSeen = {false};
+                ExcelStreamReader.open(file.getPath(), sheetName).forEachRow((rowNum, cells) -> {
+                    if (!headerSeen[0]) {
+                        headerSeen[0] = true;
+                        table.setHeaders(cells);
+                    } else {
+                        table.addRow(cells);
+                    }
+                });
+                table.finish(null);
+            } catch (Throwable e) {
+                table.finish(e);
+                return;
+            }
+            if (USE_SNAPSHOTS) {
+                // The readers already have their rows; compile for the next run
+                try {
+                    TestDataSnapshot.compile(file);
+                } catch (IOException e) {
+                    System.out.println("Could not compile test data snapshot for " + file + ": " + e.getMessage());
+                }
+            }
+        }, "test-data-loader-" + file.getName());
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // Fills the table from a current snapshot; false if there is none for this sheet
+    private static boolean loadSnapshot(File file, String sheetName, TestDataTable table) {
+        TestDataSnapshot snapshot = TestDataSnapshot.load(file);
+        TestDataSnapshot.Sheet sheet = snapshot != null ? snapshot.getSheet(sheetName) : null;
+        if (sheet == null) {
+            return false;
+        }
+        table.setHeaders(sheet.getHeaders());
+        for (int r = 0; r < sheet.getRowCount(); r++) {
+            table.addRow(sheet.getRow(r));
+        }
+        table.finish(null);
+        snapshotLoads.incrementAndGet();
+        return true;
+    }
+
+    private static final class Key {
+        final String path;
+        final String sheet;
+        final long modified;
+
+        Key(String path, String sheet, long modified) {
+            this.path = path;
+            this.sheet = sheet;
+            this.modified = modified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return modified == other.modified && path.equals(other.path) && Objects.equals(sheet, other.sheet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, sheet, modified);
+        }
+    }
+}
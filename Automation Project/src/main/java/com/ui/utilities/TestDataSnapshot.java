@@ -0,0 +1,340 @@
+package com.ui.utilities;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Compiled, memory-mapped copy of an .xlsx workbook.
+ *
+ * Opening a workbook through POI means unzipping it, parsing the sheet XML and loading the shared
+ * strings on every run. A snapshot holds the same formatted cell text in a flat binary file that
+ * is mapped read-only and read in place:
+ *
+ * <pre>
+ * int    magic "TDS1"
+ * byte[] SHA-256 of the source .xlsx (32 bytes)
+ * int    string count, then per string: int byte length + UTF-8 bytes (index 0 is "")
+ * int    sheet count, then per sheet: int name, int columns, int rows,
+ *        int[columns] header, then int[rows] per column (column-major string indexes)
+ * </pre>
+ *
+ * Every distinct cell value is stored once. Rows and cell text are exactly what
+ * {@link ExcelStreamReader#forEachRow} reports: DataFormatter text, with gaps in the sheet as
+ * blank rows, so a sheet reads the same whether or not its snapshot is current.
+ *
+ * Snapshots live in testdata.snapshot.dir (default target/test-data-snapshots). They are written
+ * on first use, or ahead of time by running {@link #main(String[])} over src/test/resources, and
+ * are ignored as soon as the hash of the source workbook no longer matches.
+ */
+public final class TestDataSnapshot {
+
+    private static final int MAGIC = 0x54445331;
+    private static final int HASH_LENGTH = 32;
+    private static final Path SNAPSHOT_DIR = Paths.get(System.getProperty("testdata.snapshot.dir", "target/test-data-snapshots"));
+
+    private final ByteBuffer data;
+    private final String[] strings;
+    private final Map<String, Sheet> sheets = new LinkedHashMap<>();
+
+    private TestDataSnapshot(ByteBuffer data) throws IOException {
+        this.data = data;
+        int position = 4 + HASH_LENGTH;
+
+        strings = new String[data.getInt(position)];
+        position += 4;
+        for (int i = 0; i < strings.length; i++) {
+            int length = data.getInt(position);
+            byte[] bytes = new byte[length];
+            data.get(position + 4, bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8).intern();
+            position += 4 + length;
+        }
+
+        int sheetCount = data.getInt(position);
+        position += 4;
+        for (int s = 0; s < sheetCount; s++) {
+            String name = strings[data.getInt(position)];
+            int columns = data.getInt(position + 4);
+            int rows = data.getInt(position + 8);
+            position += 12;
+            String[] headers = new String[columns];
+            for (int c = 0; c < columns; c++) {
+                headers[c] = strings[data.getInt(position)];
+                position += 4;
+            }
+            sheets.put(name, new Sheet(name, headers, rows, position));
+            position += columns * rows * 4;
+        }
+        if (position > data.limit()) {
+            throw new IOException("Truncated test data snapshot");
+        }
+    }
+
+    /**
+     * Maps the snapshot of a workbook if it exists and still matches the workbook's contents.
+     * @param xlsx The source workbook.
+     * @return The snapshot, or null if there is none or it is out of date.
+     */
+    public static TestDataSnapshot load(File xlsx) {
+        Path snapshot = snapshotPath(xlsx);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.limit() < 4 + HASH_LENGTH || data.getInt(0) != MAGIC) {
+                return null;
+            }
+            byte[] stored = new byte[HASH_LENGTH];
+            data.get(4, stored);
+            if (!Arrays.equals(stored, hash(xlsx))) {
+                System.out.println("Test data snapshot is stale, reading " + xlsx.getName());
+                return null;
+            }
+            return new TestDataSnapshot(data);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Ignoring unreadable test data snapshot " + snapshot + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns a current snapshot of the workbook, compiling one first if needed.
+     * @param xlsx The source workbook.
+     * @return The snapshot.
+     * @throws IOException If the workbook cannot be read or the snapshot cannot be written.
+     */
+    public static TestDataSnapshot loadOrCompile(File xlsx) throws IOException {
+        TestDataSnapshot snapshot = load(xlsx);
+        if (snapshot == null) {
+            compile(xlsx);
+            snapshot = load(xlsx);
+            if (snapshot == null) {
+                throw new IOException("Could not map the snapshot of " + xlsx);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Parses every sheet of the workbook and writes its snapshot. The file is written to a
+     * temporary name and moved into place, so readers never see a partial snapshot.
+     * @param xlsx The source workbook.
+     * @throws IOException If the workbook cannot be read or the snapshot cannot be written.
+     */
+    public static void compile(File xlsx) throws IOException {
+        byte[] sourceHash = hash(xlsx);
+        List<String> pool = new ArrayList<>();
+        Map<String, Integer> index = new HashMap<>();
+        Function<String, Integer> intern = value -> index.computeIfAbsent(value, v -> {
+            pool.add(v);
+            return pool.size() - 1;
+        });
+        intern.apply("");
+
+        ExcelStreamReader reader = ExcelStreamReader.open(xlsx.getPath());
+        List<int[]> sheetHeaders = new ArrayList<>();
+        List<List<int[]>> sheetRows = new ArrayList<>();
+        List<String> names = reader.sheetNames();
+        for (String name : names) {
+            List<int[]> rows = new ArrayList<>();
+            int[][] header = { null };
+            ExcelStreamReader.open(xlsx.getPath(), name).forEachRow((rowNum, cells) -> {
+                int[] encoded = new int[cells.length];
+                for (int i = 0; i < cells.length; i++) {
+                    encoded[i] = intern.apply(cells[i]);
+                }
+                if (header[0] == null) {
+                    header[0] = encoded;
+                } else {
+                    rows.add(encoded);
+                }
+            });
+            sheetHeaders.add(header[0] != null ? header[0] : new int[0]);
+            sheetRows.add(rows);
+        }
+        int[] sheetNames = names.stream().mapToInt(intern::apply).toArray();
+
+        Files.createDirectories(SNAPSHOT_DIR);
+        Path target = snapshotPath(xlsx);
+        Path temp = Files.createTempFile(SNAPSHOT_DIR, xlsx.getName(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.write(sourceHash);
+            out.writeInt(pool.size());
+            for (String value : pool) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(names.size());
+            for (int s = 0; s < names.size(); s++) {
+                int[] header = sheetHeaders.get(s);
+                List<int[]> rows = sheetRows.get(s);
+                int columns = header.length;
+                for (int[] row : rows) {
+                    columns = Math.max(columns, row.length);
+                }
+                out.writeInt(sheetNames[s]);
+                out.writeInt(columns);
+                out.writeInt(rows.size());
+                for (int c = 0; c < columns; c++) {
+                    out.writeInt(c < header.length ? header[c] : 0);
+                }
+                for (int c = 0; c < columns; c++) {
+                    for (int[] row : rows) {
+                        out.writeInt(c < row.length ? row[c] : 0);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        System.out.println("Compiled test data snapshot " + target + " (" + names.size() + " sheets, "
+                + pool.size() + " distinct values)");
+    }
+
+    /**
+     * @param name The sheet name, or null for the first sheet.
+     * @return The sheet, or null if the workbook has no such sheet.
+     */
+    public Sheet getSheet(String name) {
+        if (name == null) {
+            return sheets.isEmpty() ? null : sheets.values().iterator().next();
+        }
+        return sheets.get(name);
+    }
+
+    /**
+     * Compiles the snapshots of every workbook under the given directories
+     * (default src/test/resources). Bound to the build by the testdata-snapshots profile.
+     * @param args The directories to scan.
+     * @throws IOException If a workbook cannot be compiled.
+     */
+    public static void main(String[] args) throws IOException {
+        String[] roots = args.length > 0 ? args : new String[] { "src/test/resources" };
+        for (String root : roots) {
+            try (Stream<Path> files = Files.walk(Paths.get(root))) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    String name = path.getFileName().toString();
+                    if (name.endsWith(".xlsx") && !name.startsWith("~$")) {
+                        compile(path.toFile());
+                    }
+                }
+            }
+        }
+    }
+
+    // One snapshot per workbook, named after the file and its canonical path
+    private static Path snapshotPath(File xlsx) {
+        String canonical;
+        try {
+            canonical = xlsx.getCanonicalPath();
+        } catch (IOException e) {
+            canonical = xlsx.getAbsolutePath();
+        }
+        return SNAPSHOT_DIR.resolve(xlsx.getName() + "-" + Integer.toHexString(canonical.hashCode()) + ".tds");
+    }
+
+    private static byte[] hash(File file) throws IOException {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * One sheet of a snapshot. Reads go straight to the mapped file and are safe from any thread.
+     */
+    public final class Sheet {
+
+        private final String name;
+        private final String[] headers;
+        private final int rows;
+        private final int offset;
+
+        private Sheet(String name, String[] headers, int rows, int offset) {
+            this.name = name;
+            this.headers = headers;
+            this.rows = rows;
+            this.offset = offset;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return A copy of the header row.
+         */
+        public String[] getHeaders() {
+            return headers.clone();
+        }
+
+        /**
+         * @return The number of data rows, header excluded.
+         */
+        public int getRowCount() {
+            return rows;
+        }
+
+        public int getColumnCount() {
+            return headers.length;
+        }
+
+        /**
+         * @param row The data row index (0-based, header excluded).
+         * @param column The column index (0-based).
+         * @return The formatted cell value, or "" outside the sheet.
+         */
+        public String getCell(int row, int column) {
+            if (row < 0 || row >= rows || column < 0 || column >= headers.length) {
+                return "";
+            }
+            return strings[data.getInt(offset + (column * rows + row) * 4)];
+        }
+
+        /**
+         * @param row The data row index (0-based, header excluded).
+         * @return The row's cell values.
+         */
+        public String[] getRow(int row) {
+            String[] cells = new String[headers.length];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = getCell(row, c);
+            }
+            return cells;
+        }
+    }
+}
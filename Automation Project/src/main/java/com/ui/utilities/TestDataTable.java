@@ -0,0 +1,175 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A parsed sheet held by the {@link TestDataRepository}: the header row plus the raw data rows.
+ *
+ * The table is filled by a single loader thread and never changes after that. Readers may start
+ * while it is still loading: {@link #rowIterator()} hands out rows as they arrive, and the bulk
+ * accessors wait until the whole sheet is in.
+ */
+public final class TestDataTable {
+
+    private final String source;
+    private final List<String[]> rows = new ArrayList<>();
+    private List<String> headers = Collections.emptyList();
+    private boolean complete;
+    private Throwable error;
+
+    TestDataTable(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @return The file and sheet the table was read from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return The header row, once the table has finished loading.
+     * @throws IOException If the sheet could not be read.
+     */
+    public List<String> getHeaders() throws IOException {
+        awaitComplete();
+        return headers;
+    }
+
+    /**
+     * @return The number of data rows (header excluded, blank rows included).
+     * @throws IOException If the sheet could not be read.
+     */
+    public int getRowCount() throws IOException {
+        awaitComplete();
+        return rows.size();
+    }
+
+    /**
+     * @param index The data row index (0-based, header excluded).
+     * @return A copy of the row's cell values.
+     * @throws IOException If the sheet could not be read.
+     */
+    public String[] getRow(int index) throws IOException {
+        awaitComplete();
+        return rows.get(index).clone();
+    }
+
+    /**
+     * @param index The data row index (0-based, header excluded).
+     * @return The row keyed by header, or null if the row is blank.
+     * @throws IOException If the sheet could not be read.
+     */
+    public Map<String, String> getRowAsMap(int index) throws IOException {
+        awaitComplete();
+        return ExcelStreamReader.toMap(headers, rows.get(index));
+    }
+
+    /**
+     * @return The non-blank data rows keyed by header.
+     * @throws IOException If the sheet could not be read.
+     */
+    public List<Map<String, String>> asMaps() throws IOException {
+        awaitComplete();
+        List<Map<String, String>> maps = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            Map<String, String> map = ExcelStreamReader.toMap(headers, row);
+            if (map != null) {
+                maps.add(map);
+            }
+        }
+        return maps;
+    }
+
+    /**
+     * Iterates the data rows while the table may still be loading, blocking until the next row
+     * has been parsed. The header is available through {@link #headersWhenReady()}.
+     * @return An iterator over copies of the data rows.
+     */
+    public Iterator<String[]> rowIterator() {
+        return new Iterator<String[]>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                synchronized (TestDataTable.this) {
+                    while (position >= rows.size() && !complete) {
+                        waitForRows();
+                    }
+                    if (error != null) {
+                        throw new IllegalStateException("Failed to read " + source + ": " + error.getMessage(), error);
+                    }
+                    return position < rows.size();
+                }
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                synchronized (TestDataTable.this) {
+                    return rows.get(position++).clone();
+                }
+            }
+        };
+    }
+
+    /**
+     * Blocks until the header row has been parsed (or the load has ended).
+     * @return The header row.
+     */
+    public synchronized List<String> headersWhenReady() {
+        while (headers.isEmpty() && !complete) {
+            waitForRows();
+        }
+        return headers;
+    }
+
+    synchronized void setHeaders(String[] cells) {
+        headers = Collections.unmodifiableList(Arrays.asList(cells.clone()));
+        notifyAll();
+    }
+
+    synchronized void addRow(String[] cells) {
+        rows.add(cells);
+        notifyAll();
+    }
+
+    synchronized void finish(Throwable failure) {
+        error = failure;
+        complete = true;
+        notifyAll();
+    }
+
+    synchronized boolean isFailed() {
+        return complete && error != null;
+    }
+
+    private synchronized void awaitComplete() throws IOException {
+        while (!complete) {
+            waitForRows();
+        }
+        if (error != null) {
+            throw error instanceof IOException ? (IOException) error
+                    : new IOException("Failed to read " + source + ": " + error.getMessage(), error);
+        }
+    }
+
+    private void waitForRows() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + source, e);
+        }
+    }
+}
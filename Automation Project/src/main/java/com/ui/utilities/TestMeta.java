@@ -0,0 +1,27 @@
+package com.ui.utilities;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Report metadata of a test method, read once per suite by {@link TestMetaRegistry}.
+ *
+ * On a class, category and author apply to every test method of the class that does not
+ * set its own.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface TestMeta {
+
+    /** Test case id, e.g. TC_Home_01; defaults to the method name. */
+    String id() default "";
+
+    /** Description shown in the reports; defaults to the @Test description. */
+    String description() default "";
+
+    String[] category() default {};
+
+    String[] author() default {};
+}
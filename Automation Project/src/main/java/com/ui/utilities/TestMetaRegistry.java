@@ -0,0 +1,169 @@
+package com.ui.utilities;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Immutable index of the {@link TestMeta} of every test method in the running suites.
+ *
+ * {@link #scan(ISuite)} reads the annotations of all methods of a suite once, at suite start, and
+ * publishes a new read-only map; listeners then look up a method's entry in O(1) with
+ * {@link #get(ITestNGMethod)}, and the category and author arrays are built only once.
+ *
+ * Each scan also writes the suite's test inventory as JSON to test.inventory.dir
+ * (default target/test-inventory), for scheduling and sharding tools.
+ */
+public final class TestMetaRegistry {
+
+    private static final Path INVENTORY_DIR = Paths.get(System.getProperty("test.inventory.dir", "target/test-inventory"));
+    private static final String[] NONE = new String[0];
+
+    private static volatile Map<Method, Entry> entries = Map.of();
+
+    private TestMetaRegistry() {}
+
+    /**
+     * Indexes every test method of a suite and writes the suite's inventory.
+     * @param suite The starting suite.
+     */
+    public static synchronized void scan(ISuite suite) {
+        Map<Method, Entry> merged = new HashMap<>(entries);
+        List<ITestNGMethod> methods = suite.getAllMethods();
+        for (ITestNGMethod method : methods) {
+            Method key = method.getConstructorOrMethod().getMethod();
+            if (key != null) {
+                merged.putIfAbsent(key, read(method));
+            }
+        }
+        entries = Map.copyOf(merged);
+        System.out.println("Test metadata registered for " + methods.size() + " methods of suite " + suite.getName());
+        writeInventory(suite.getName(), methods);
+    }
+
+    /**
+     * @param method The TestNG method, as passed to listeners.
+     * @return The method's metadata; methods of suites that were not scanned are read on the spot.
+     */
+    public static Entry get(ITestNGMethod method) {
+        Method key = method.getConstructorOrMethod().getMethod();
+        Entry entry = key != null ? entries.get(key) : null;
+        return entry != null ? entry : read(method);
+    }
+
+    private static Entry read(ITestNGMethod method) {
+        Method reflected = method.getConstructorOrMethod().getMethod();
+        TestMeta onMethod = reflected != null ? reflected.getAnnotation(TestMeta.class) : null;
+        TestMeta onClass = ((Class<?>) method.getRealClass()).getAnnotation(TestMeta.class);
+
+        String id = onMethod != null && !onMethod.id().isEmpty() ? onMethod.id() : method.getMethodName();
+        String description = onMethod != null && !onMethod.description().isEmpty() ? onMethod.description() : method.getDescription();
+        String[] categories = pick(onMethod != null ? onMethod.category() : NONE, onClass != null ? onClass.category() : NONE);
+        String[] authors = pick(onMethod != null ? onMethod.author() : NONE, onClass != null ? onClass.author() : NONE);
+        return new Entry(id, description, categories, authors);
+    }
+
+    private static String[] pick(String[] own, String[] inherited) {
+        return own.length > 0 ? own : inherited;
+    }
+
+    private static void writeInventory(String suiteName, List<ITestNGMethod> methods) {
+        List<ITestNGMethod> sorted = new ArrayList<>(methods);
+        sorted.sort(Comparator.comparing((ITestNGMethod m) -> m.getRealClass().getName()).thenComparingInt(ITestNGMethod::getPriority));
+
+        List<Map<String, Object>> inventory = new ArrayList<>();
+        for (ITestNGMethod method : sorted) {
+            Entry entry = get(method);
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", entry.getId());
+            item.put("class", method.getRealClass().getName());
+            item.put("method", method.getMethodName());
+            item.put("description", entry.getDescription(""));
+            item.put("categories", Arrays.asList(entry.categories));
+            item.put("authors", Arrays.asList(entry.authors));
+            item.put("groups", Arrays.asList(method.getGroups()));
+            item.put("priority", method.getPriority());
+            item.put("dependsOnMethods", Arrays.asList(method.getMethodsDependedUpon()));
+            item.put("invocationCount", method.getInvocationCount());
+            item.put("timeOut", method.getTimeOut());
+            Method reflected = method.getConstructorOrMethod().getMethod();
+            Test test = reflected != null ? reflected.getAnnotation(Test.class) : null;
+            item.put("dataProvider", test != null ? test.dataProvider() : "");
+            inventory.add(item);
+        }
+
+        Path file = INVENTORY_DIR.resolve(suiteName.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json");
+        try {
+            Files.createDirectories(INVENTORY_DIR);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                 JsonOutput out = new Json().newOutput(writer)) {
+                out.write(inventory);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write test inventory " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Metadata of one test method.
+     */
+    public static final class Entry {
+
+        private final String id;
+        private final String description;
+        private final String[] categories;
+        private final String[] authors;
+
+        private Entry(String id, String description, String[] categories, String[] authors) {
+            this.id = id;
+            this.description = description;
+            this.categories = categories;
+            this.authors = authors;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @param fallback Returned when the method has no description.
+         * @return The description.
+         */
+        public String getDescription(String fallback) {
+            return description != null && !description.isEmpty() ? description : fallback;
+        }
+
+        /**
+         * @param fallback Returned when neither the method nor its class names a category.
+         * @return The categories; the array is shared and must not be modified.
+         */
+        public String[] getCategories(String... fallback) {
+            return categories.length > 0 ? categories : fallback;
+        }
+
+        /**
+         * @param fallback Returned when neither the method nor its class names an author.
+         * @return The authors; the array is shared and must not be modified.
+         */
+        public String[] getAuthors(String... fallback) {
+            return authors.length > 0 ? authors : fallback;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.ui.utilities;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Event-driven replacement for fixed Thread.sleep calls.
+ *
+ * Every wait polls a browser-side condition and returns as soon as it holds, so a page that
+ * is ready after 80 ms costs 80 ms instead of a hard-coded second. The settle waits are lenient:
+ * when the timeout is reached they log and return instead of failing, like the sleeps they replace.
+ * Each wait returns and logs how long it actually waited.
+ *
+ * Tuning is done with system properties:
+ * wait.timeout.seconds (default 10), wait.poll.millis (default 50) and wait.quiet.millis (default 200).
+ */
+public final class WaitEngine {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("wait.timeout.seconds", 10));
+    private static final Duration POLL = Duration.ofMillis(Integer.getInteger("wait.poll.millis", 50));
+    private static final long QUIET_MILLIS = Integer.getInteger("wait.quiet.millis", 200);
+    private static final boolean VERBOSE = Boolean.parseBoolean(System.getProperty("wait.verbose", "true"));
+
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+    private static final AtomicLong totalWaitNanos = new AtomicLong();
+
+    // Counts fetch/XHR calls still in flight. Installed once per document.
+    private static final String NETWORK_PROBE =
+            "if (!window.__waitEngineNet) {"
+            + "  window.__waitEngineNet = { pending: 0 };"
+            + "  var net = window.__waitEngineNet;"
+            + "  if (window.fetch) {"
+            + "    var origFetch = window.fetch;"
+            + "    window.fetch = function() {"
+            + "      net.pending++;"
+            + "      return origFetch.apply(this, arguments).finally(function() { net.pending--; });"
+            + "    };"
+            + "  }"
+            + "  var origSend = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function() {"
+            + "    net.pending++;"
+            + "    this.addEventListener('loadend', function() { net.pending--; });"
+            + "    return origSend.apply(this, arguments);"
+            + "  };"
+            + "}"
+            + "return window.__waitEngineNet.pending;";
+
+    // Milliseconds since the last DOM mutation. The observer is installed once per document.
+    private static final String MUTATION_PROBE =
+            "if (!window.__waitEngineDom) {"
+            + "  window.__waitEngineDom = { last: performance.now() };"
+            + "  new MutationObserver(function() { window.__waitEngineDom.last = performance.now(); })"
+            + "    .observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "}"
+            + "return performance.now() - window.__waitEngineDom.last;";
+
+    // Milliseconds since the scroll position last changed.
+    private static final String SCROLL_PROBE =
+            "var s = window.__waitEngineScroll;"
+            + "var x = window.scrollX, y = window.scrollY, now = performance.now();"
+            + "if (!s || s.x !== x || s.y !== y) {"
+            + "  window.__waitEngineScroll = { x: x, y: y, t: now };"
+            + "  return 0;"
+            + "}"
+            + "return now - s.t;";
+
+    private WaitEngine() {}
+
+    /**
+     * Waits until the condition returns a non-null, non-false value.
+     * @param driver The WebDriver instance.
+     * @param description A short name used in the log line.
+     * @param condition The condition to poll.
+     * @param timeout The maximum time to wait.
+     * @return How long the wait actually took.
+     * @throws TimeoutException If the condition does not hold within the timeout.
+     */
+    public static Duration until(WebDriver driver, String description, Function<WebDriver, ?> condition, Duration timeout) {
+        long start = System.nanoTime();
+        try {
+            new WebDriverWait(driver, timeout)
+                    .pollingEvery(POLL)
+                    .ignoring(JavascriptException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(condition::apply);
+            return record(description, start, false);
+        } catch (TimeoutException e) {
+            record(description, start, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for document.readyState to become "complete".
+     * @param driver The WebDriver instance.
+     * @return How long the wait actually took.
+     */
+    public static Duration documentReady(WebDriver driver) {
+        return settle(driver, "document ready",
+                d -> "complete".equals(js(d).executeScript("return document.readyState;")));
+    }
+
+    /**
+     * Waits until no fetch or XMLHttpRequest started by the page is pending.
+     * Requests started before the first call on a document are not seen.
+     * @param driver The WebDriver instance.
+     * @return How long the wait actually took.
+     */
+    public static Duration networkIdle(WebDriver driver) {
+        return settle(driver, "network idle",
+                d -> ((Number) js(d).executeScript(NETWORK_PROBE)).longValue() <= 0);
+    }
+
+    /**
+     * Waits until the DOM has not changed for the quiet period. The quiet period is also the
+     * minimum time of the wait, so a click that is about to navigate gets the chance to unload the page.
+     * @param driver The WebDriver instance.
+     * @return How long the wait actually took.
+     */
+    public static Duration domQuiet(WebDriver driver) {
+        long start = System.nanoTime();
+        return settle(driver, "DOM quiet",
+                d -> ((Number) js(d).executeScript(MUTATION_PROBE)).longValue() >= QUIET_MILLIS
+                        && elapsedMillis(start) >= QUIET_MILLIS);
+    }
+
+    /**
+     * Waits until the scroll position has stopped changing.
+     * @param driver The WebDriver instance.
+     * @return How long the wait actually took.
+     */
+    public static Duration scrollSettled(WebDriver driver) {
+        return settle(driver, "scroll settled",
+                d -> ((Number) js(d).executeScript(SCROLL_PROBE)).longValue() >= POLL.toMillis() * 2);
+    }
+
+    /**
+     * Waits until an element is displayed and its position and size are the same on two polls in a row.
+     * @param driver The WebDriver instance.
+     * @param element The element to watch.
+     * @return How long the wait actually took.
+     */
+    public static Duration elementStable(WebDriver driver, WebElement element) {
+        Rectangle[] last = new Rectangle[1];
+        return settle(driver, "element stable", d -> {
+            if (!element.isDisplayed()) {
+                return false;
+            }
+            Rectangle rect = element.getRect();
+            boolean stable = rect.equals(last[0]);
+            last[0] = rect;
+            return stable;
+        });
+    }
+
+    /**
+     * Waits for a page to settle after a click or navigation: document ready,
+     * no pending fetch/XHR and no DOM mutations for the quiet period.
+     * @param driver The WebDriver instance.
+     * @return How long the wait actually took.
+     */
+    public static Duration pageSettled(WebDriver driver) {
+        return documentReady(driver).plus(networkIdle(driver)).plus(domQuiet(driver));
+    }
+
+    public static long getWaitCount() {
+        return waits.get();
+    }
+
+    public static long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    public static double getTotalWaitMillis() {
+        return totalWaitNanos.get() / 1_000_000.0;
+    }
+
+    public static String summary() {
+        long count = waits.get();
+        return String.format("Wait engine: %d waits, %.1f ms total, avg %.1f ms, %d timed out",
+                count, getTotalWaitMillis(), count == 0 ? 0.0 : getTotalWaitMillis() / count, timeouts.get());
+    }
+
+    // Like until(), but logs and returns on timeout instead of failing the test.
+    private static Duration settle(WebDriver driver, String description, Function<WebDriver, Boolean> condition) {
+        try {
+            return until(driver, description, condition, TIMEOUT);
+        } catch (TimeoutException e) {
+            System.out.println("Wait [" + description + "] gave up after " + TIMEOUT.toMillis() + " ms");
+            return TIMEOUT;
+        }
+    }
+
+    private static Duration record(String description, long start, boolean timedOut) {
+        long nanos = System.nanoTime() - start;
+        waits.incrementAndGet();
+        totalWaitNanos.addAndGet(nanos);
+        if (timedOut) {
+            timeouts.incrementAndGet();
+        } else if (VERBOSE) {
+            System.out.println("Wait [" + description + "] resolved in " + nanos / 1_000_000 + " ms");
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static JavascriptExecutor js(WebDriver driver) {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -4,27 +4,31 @@ import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.annotations.*;
 import com.functional.utilities.ExcelUtils;
 import com.functional.utilities.ScreenshotUtilities;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import com.ui.base.BrowserProfile;
+import com.ui.base.DriverFactory;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.Site;
 
 public class ContactUsTest {
 
     WebDriver driver;
     ExtentReports extent;
-    ExtentTest mainTest;
-    ExtentTest childTest;
+    TestNode mainTest;
+    TestNode childTest;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -35,30 +39,29 @@ public class ContactUsTest {
 
     @BeforeClass
     public void setUp() {
-    	WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
+        driver = DriverFactory.createChrome(new ChromeOptions(), BrowserProfile.select(null));
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
 
     }
 
     @Test
     public void contactUsDataDrivenTest() throws Exception {
-        mainTest = extent.createTest("Contact Us Data Driven Test Suite");
+        mainTest = ReportFacade.createTest(extent, "Contact Us Data Driven Test Suite", null);
         
         String excelPath = System.getProperty("user.dir") + "/src/test/resources/contact.xlsx";
-        ExcelUtils.setExcelFile(excelPath, "Sheet 1");
+        ExcelUtils excel = ExcelUtils.open(excelPath, "Sheet 1");
 
-        int rowCount = ExcelUtils.getRowCount();
+        int rowCount = excel.getRowCount();
 
         for (int i = 1; i <= rowCount; i++) {
-            String testType = ExcelUtils.getCellData(i, 0);
-            String name = ExcelUtils.getCellData(i, 1);
-            String email = ExcelUtils.getCellData(i, 2);
-            String subject = ExcelUtils.getCellData(i, 3);
-            String message = ExcelUtils.getCellData(i, 4);
-            String file = ExcelUtils.getCellData(i, 5);
-            String expectedStatus = ExcelUtils.getCellData(i, 6);
-            String action = ExcelUtils.getCellData(i, 7);
+            String testType = excel.getCellData(i, 0);
+            String name = excel.getCellData(i, 1);
+            String email = excel.getCellData(i, 2);
+            String subject = excel.getCellData(i, 3);
+            String message = excel.getCellData(i, 4);
+            String file = excel.getCellData(i, 5);
+            String expectedStatus = excel.getCellData(i, 6);
+            String action = excel.getCellData(i, 7);
             
             childTest = mainTest.createNode("TC_" + (i-1) + "_" + testType);
             
@@ -67,7 +70,7 @@ public class ContactUsTest {
                 childTest.log(Status.INFO, "Expected Status: " + expectedStatus);
 
                 childTest.log(Status.INFO, "Navigating to Contact Us page");
-                driver.get("https://automationexercise.com/contact_us");
+                driver.get(Site.url("/contact_us"));
                 
                 boolean actualSuccess = false;
                 boolean testPassed = false;
@@ -105,7 +108,7 @@ public class ContactUsTest {
                         Alert alert = driver.switchTo().alert();
                         childTest.log(Status.INFO, "Alert handled");
                         alert.accept();
-                        Thread.sleep(1000);
+                        WaitEngine.pageSettled(driver);
                         actualSuccess = driver.getPageSource().contains("Success") || 
                                        driver.getPageSource().contains("successfully");
                         childTest.log(Status.INFO, "Success message " + (actualSuccess ? "found" : "not found"));
@@ -130,7 +133,7 @@ public class ContactUsTest {
                     }
                     childTest.log(Status.INFO, "Clicking subscribe button");
                     driver.findElement(By.id("subscribe")).click();
-                    Thread.sleep(1000);
+                    WaitEngine.pageSettled(driver);
                     
                     actualSuccess = driver.getPageSource().contains("successfully") || 
                                    driver.getPageSource().contains("subscribed");
@@ -195,6 +198,6 @@ public class ContactUsTest {
 
     @AfterSuite
     public void tearDownReport() {
-        extent.flush();
+        ReportFacade.flush(extent);
     }
 }
\ No newline at end of file
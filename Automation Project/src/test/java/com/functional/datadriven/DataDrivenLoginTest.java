@@ -7,18 +7,20 @@ import org.testng.annotations.Test;
 import org.testng.annotations.AfterSuite;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.functional.utilities.ExcelUtilities;
 import com.functional.utilities.ScreenshotUtilities; // Added this import
 import com.product.Base.BaseTest;
 
 import java.util.List;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.Site;
 
 public class DataDrivenLoginTest extends BaseTest {
 
     ExtentReports extent;
-    ExtentTest test;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -35,18 +37,18 @@ public class DataDrivenLoginTest extends BaseTest {
         for (int i = 0; i < testData.size(); i++) {
             String username = testData.get(i)[0];
             String password = testData.get(i)[1];
-            test = extent.createTest("Login Test - Case " + (i + 1));
+            TestNode test = ReportFacade.createTest(extent, "Login Test - Case " + (i + 1), null);
             try {
                 test.info("Username: '" + username + "', Password: '" + password + "'");
 
-                driver.get("https://automationexercise.com/login");
+                driver.get(Site.url("/login"));
                 driver.findElement(By.name("email")).clear();
                 driver.findElement(By.name("email")).sendKeys(username);
                 driver.findElement(By.name("password")).clear();
                 driver.findElement(By.name("password")).sendKeys(password);
                 driver.findElement(By.xpath("//button[@type='submit']")).click();
 
-                Thread.sleep(2000); // Wait for page update
+                WaitEngine.pageSettled(driver);
                 
                 String currentUrl = driver.getCurrentUrl();
                 test.info("Current URL after login: " + currentUrl);
@@ -76,7 +78,7 @@ public class DataDrivenLoginTest extends BaseTest {
                     // log out if we logged in
                     try {
                         driver.findElement(By.linkText("Logout")).click();
-                        Thread.sleep(1000);
+                        WaitEngine.pageSettled(driver);
                         test.info("Logged out after success.");
                     } catch (Exception e) {
                         test.warning("Could not log out after login: " + e.getMessage());
@@ -103,8 +105,8 @@ public class DataDrivenLoginTest extends BaseTest {
     }
 
     @AfterSuite
-    public void tearDown() {
-        if (driver != null) driver.quit();
-        extent.flush();
+    public void tearDownReport() {
+        // The per-method driver is returned to the pool by BaseTest.tearDown()
+        ReportFacade.flush(extent);
     }
 }
\ No newline at end of file
@@ -1,15 +1,8 @@
 package com.functional.datadriven;
 
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.time.Duration;
+import java.util.Iterator;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -18,19 +11,25 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
 
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.functional.pages.ProductPage;
 import com.functional.utilities.ScreenshotUtilities;
 import com.product.Base.BaseTest;
+import com.ui.utilities.ExcelDataProvider;
+import com.ui.utilities.Site;
 
 public class ProductDataDrivenTest extends BaseTest {
 
+    private static final String PRODUCT_TEST_DATA = System.getProperty("user.dir") + "/src/test/resources/ProductTestData.xlsx";
+
     @Test(dataProvider = "reviewData")
     public void productReviewTest(String testCaseId, String name, String email, String review, String expectedStatus) {
         SoftAssert softAssert = new SoftAssert();
-        test = extent.createTest(testCaseId + " - Product Review Submission");
+        TestNode test = ReportFacade.createTest(extent, testCaseId + " - Product Review Submission", null);
         test.info("Starting test case: " + testCaseId);
-        driver.get("https://automationexercise.com/products");
+        driver.get(Site.url("/products"));
         test.info("Navigated to products page.");
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
@@ -82,11 +81,11 @@ public class ProductDataDrivenTest extends BaseTest {
     @Test(dataProvider = "subscriptionData")
     public void emailSubscriptionTest(String testCaseId, String email, String expectedStatus) {
         SoftAssert softAssert = new SoftAssert();
-        test = extent.createTest(testCaseId + " - Email Subscription Test");
+        TestNode test = ReportFacade.createTest(extent, testCaseId + " - Email Subscription Test", null);
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
         test.info("Starting test case: " + testCaseId);
-        driver.get("https://automationexercise.com/products");
+        driver.get(Site.url("/products"));
         test.info("Navigated to products page.");
 
         try {
@@ -125,79 +124,12 @@ public class ProductDataDrivenTest extends BaseTest {
     }
     
     @DataProvider(name = "reviewData")
-    public Object[][] getReviewData() throws IOException {
-    	String excelFilePath = System.getProperty("user.dir") + "/src/test/resources/ProductTestData.xlsx";
-        FileInputStream inputStream = new FileInputStream(excelFilePath);
-        Workbook workbook = new XSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheet("ReviewData");
-
-        int rowCount = sheet.getLastRowNum();
-        Object[][] data = new Object[rowCount][5];
-
-        for (int i = 1; i <= rowCount; i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) {
-                continue; // Skip empty rows
-            }
-            Cell testCaseIdCell = row.getCell(0);
-            Cell nameCell = row.getCell(1);
-            Cell emailCell = row.getCell(2);
-            Cell reviewCell = row.getCell(3);
-            Cell expectedStatusCell = row.getCell(4);
-
-            // Correctly handle different cell types
-            if (testCaseIdCell.getCellType() == CellType.STRING) {
-                data[i - 1][0] = testCaseIdCell.getStringCellValue();
-            } else if (testCaseIdCell.getCellType() == CellType.NUMERIC) {
-                data[i - 1][0] = String.valueOf((int) testCaseIdCell.getNumericCellValue());
-            } else {
-                data[i - 1][0] = "";
-            }
-
-            data[i - 1][1] = nameCell != null && nameCell.getCellType() == CellType.STRING ? nameCell.getStringCellValue() : "";
-            data[i - 1][2] = emailCell != null && emailCell.getCellType() == CellType.STRING ? emailCell.getStringCellValue() : "";
-            data[i - 1][3] = reviewCell != null && reviewCell.getCellType() == CellType.STRING ? reviewCell.getStringCellValue() : "";
-            data[i - 1][4] = expectedStatusCell != null && expectedStatusCell.getCellType() == CellType.STRING ? expectedStatusCell.getStringCellValue() : "";
-        }
-
-        workbook.close();
-        inputStream.close();
-        return data;
+    public Iterator<Object[]> getReviewData() {
+        return ExcelDataProvider.columns(PRODUCT_TEST_DATA, "ReviewData", 5);
     }
 
     @DataProvider(name = "subscriptionData")
-    public Object[][] getSubscriptionData() throws IOException {
-        String excelFilePath = System.getProperty("user.dir") + "/src/test/resources/ProductTestData.xlsx";
-        FileInputStream inputStream = new FileInputStream(excelFilePath);
-        Workbook workbook = new XSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheet("SubscriptionData");
-
-        int rowCount = sheet.getLastRowNum();
-        Object[][] data = new Object[rowCount][3];
-
-        for (int i = 1; i <= rowCount; i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) {
-                continue;
-            }
-            Cell testCaseIdCell = row.getCell(0);
-            Cell emailCell = row.getCell(1);
-            Cell expectedStatusCell = row.getCell(2);
-
-            if (testCaseIdCell.getCellType() == CellType.STRING) {
-                data[i - 1][0] = testCaseIdCell.getStringCellValue();
-            } else if (testCaseIdCell.getCellType() == CellType.NUMERIC) {
-                data[i - 1][0] = String.valueOf((int) testCaseIdCell.getNumericCellValue());
-            } else {
-                data[i - 1][0] = "";
-            }
-
-            data[i - 1][1] = emailCell != null && emailCell.getCellType() == CellType.STRING ? emailCell.getStringCellValue() : "";
-            data[i - 1][2] = expectedStatusCell != null && expectedStatusCell.getCellType() == CellType.STRING ? expectedStatusCell.getStringCellValue() : "";
-        }
-
-        workbook.close();
-        inputStream.close();
-        return data;
+    public Iterator<Object[]> getSubscriptionData() {
+        return ExcelDataProvider.columns(PRODUCT_TEST_DATA, "SubscriptionData", 3);
     }
 }
\ No newline at end of file
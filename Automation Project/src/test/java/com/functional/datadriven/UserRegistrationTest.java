@@ -1,14 +1,16 @@
 package com.functional.datadriven;
 
+import com.ui.utilities.ReportFacade.TestNode;
 import com.functional.pages.UserRegistrationPage;
-import com.functional.utilities.ExcelUtils;
 import com.functional.utilities.ScreenshotUtilities;
 import com.product.Base.BaseTest;
+import com.ui.utilities.ExcelDataProvider;
+import com.ui.utilities.FixtureClient;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.*;
-import java.io.IOException;
+import java.util.Iterator;
 import java.util.Map;
 
 public class UserRegistrationTest extends BaseTest {
@@ -16,20 +18,11 @@ public class UserRegistrationTest extends BaseTest {
     private static final String EXCEL_PATH = System.getProperty("user.dir") + "/src/test/resources/Func_Reg.xlsx";
     private static final String SHEET_NAME = "Sheet1";
 
-    @BeforeClass
-    public void setUpTestData() throws IOException {
-        ExcelUtils.setExcelFile(EXCEL_PATH, SHEET_NAME);
-    }
-
-    @AfterClass
-    public void cleanUpTestData() throws IOException {
-        ExcelUtils.closeExcel();
-    }
-
     @Test(dataProvider = "registrationData")
     public void testUserRegistration(Map<String, String> data) {
         String testCaseId = data.get("TestCaseID");
         String expectedResult = data.get("ExpectedResult");
+        TestNode test = getTest();
         test.assignCategory("Registration");
         test.assignAuthor("QATeam");
         logInfo("Executing: " + testCaseId + " - " + expectedResult);
@@ -101,19 +94,11 @@ public class UserRegistrationTest extends BaseTest {
     }
 
     private void handleExistingUser(String email, String password) {
-        logInfo("User already exists. Logging in to delete the account.");
-        safeSendKeys(UserRegistrationPage.LOGIN_EMAIL_INPUT, email);
-        safeSendKeys(UserRegistrationPage.LOGIN_PASSWORD_INPUT, password);
-        safeClick(UserRegistrationPage.LOGIN_BUTTON);
-        waitForPageLoad();
-
-        if (isElementPresent(UserRegistrationPage.DELETE_ACCOUNT_BUTTON)) {
-            logInfo("Login successful. Deleting account.");
-            safeClick(UserRegistrationPage.DELETE_ACCOUNT_BUTTON);
-            waitForPageLoad();
+        logInfo("User already exists. Deleting the account over HTTP.");
+        if (FixtureClient.shared().deleteAccount(email, password)) {
             logInfo("Account deleted successfully.");
         } else {
-            logInfo("Could not log in with existing user details. Skipping account deletion.");
+            logInfo("Could not delete the existing account with the given password. Skipping account deletion.");
         }
     }
 
@@ -131,9 +116,8 @@ public class UserRegistrationTest extends BaseTest {
 
         switch (testCaseId) {
             case "TC_ECOM_Reg_044_GuestCheckoutPrompt":
-                safeClick(UserRegistrationPage.ADD_TO_CART_BUTTON);
-                safeClick(By.xpath("//button[contains(text(),'Continue Shopping')]"));
-                safeClick(By.xpath("//a[contains(text(),'Cart')]"));
+                FixtureClient.shared().addToCart(driver, 1);
+                navigateTo(BASE_URL + "/view_cart");
                 safeClick(UserRegistrationPage.PROCEED_TO_CHECKOUT_BUTTON);
                 
                 boolean redirectedToLogin = driver.getCurrentUrl().contains("login");
@@ -142,9 +126,8 @@ public class UserRegistrationTest extends BaseTest {
 
             case "TC_ECOM_Reg_045_NewUserRegisterAndProceed":
                 // This test case should fail as the original report indicates a bug.
-                safeClick(UserRegistrationPage.ADD_TO_CART_BUTTON);
-                safeClick(By.xpath("//button[contains(text(),'Continue Shopping')]"));
-                safeClick(By.xpath("//a[contains(text(),'Cart')]"));
+                FixtureClient.shared().addToCart(driver, 1);
+                navigateTo(BASE_URL + "/view_cart");
                 safeClick(UserRegistrationPage.PROCEED_TO_CHECKOUT_BUTTON);
 
                 boolean redirectedToLoginPage = driver.getCurrentUrl().contains("login");
@@ -165,8 +148,19 @@ public class UserRegistrationTest extends BaseTest {
                 break;
 
             case "TC_ECOM_Reg_046_LoggedInUserDirectCheckout":
-                boolean checkoutButtonPresent = isElementPresent(UserRegistrationPage.PROCEED_TO_CHECKOUT_BUTTON);
-                Assert.assertTrue(checkoutButtonPresent, "Logged-in user should access checkout directly.");
+                // Registered, logged-in user with a filled cart, set up over HTTP
+                FixtureClient client = FixtureClient.shared();
+                FixtureClient.Account account = client.createAccount();
+                try {
+                    Map<String, String> session = client.login(account.getEmail(), account.getPassword());
+                    client.addToCart(session, 1);
+                    client.applySession(driver, session);
+                    navigateTo(BASE_URL + "/view_cart");
+                    boolean checkoutButtonPresent = isElementPresent(UserRegistrationPage.PROCEED_TO_CHECKOUT_BUTTON);
+                    Assert.assertTrue(checkoutButtonPresent, "Logged-in user should access checkout directly.");
+                } finally {
+                    client.deleteAccount(account.getEmail(), account.getPassword());
+                }
                 break;
 
             case "TC_ECOM_Reg_047_EmptyCartCheckout":
@@ -347,13 +341,8 @@ public class UserRegistrationTest extends BaseTest {
     }
 
     @DataProvider(name = "registrationData")
-    public Object[][] getRegistrationData() {
-        int rowCount = ExcelUtils.getRowCount();
-        Object[][] testData = new Object[rowCount][1];
-        for (int i = 1; i <= rowCount; i++) {
-            Map<String, String> rowMap = ExcelUtils.getRowDataAsMap(i);
-            testData[i - 1][0] = rowMap;
-        }
-        return testData;
+    public Iterator<Object[]> getRegistrationData() {
+        // Rows reach TestNG while the sheet is still being read
+        return ExcelDataProvider.rows(EXCEL_PATH, SHEET_NAME);
     }
 }
\ No newline at end of file
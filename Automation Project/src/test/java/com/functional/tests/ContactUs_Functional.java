@@ -1,10 +1,11 @@
 package com.functional.tests;
 
+import com.ui.base.BrowserProfile;
+import com.ui.base.DriverFactory;
 import com.functional.listeners.ExtentTestNGListener;
 import com.functional.pages.ContactUsPage;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade.TestNode;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -19,6 +20,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import com.ui.utilities.Site;
 
 @Listeners({com.functional.listeners.ExtentTestNGListener.class})
 public class ContactUs_Functional {
@@ -28,13 +30,13 @@ public class ContactUs_Functional {
     private Actions actions;
     private JavascriptExecutor js;
     private ContactUsPage contactUsPage;
-    private static final String BASE_URL = "https://automationexercise.com";
+    private static final String BASE_URL = Site.baseUrl();
 
     @BeforeClass
     public void setUp() {
         ChromeOptions options = new ChromeOptions();
         contactUsPage = new ContactUsPage();
-        driver = new ChromeDriver(options);
+        driver = DriverFactory.createChrome(options, BrowserProfile.select(null));
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         js = (JavascriptExecutor) driver;
         actions = new Actions(driver);
@@ -64,7 +66,7 @@ public class ContactUs_Functional {
         return new SimpleDateFormat("hh:mm:ss a").format(new Date());
     }
     
-    private ExtentTest getTest() {
+    private TestNode getTest() {
         return ExtentTestNGListener.getTest();
     }
 
@@ -11,9 +11,12 @@ import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
 
 import com.product.Base.BaseTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.functional.utilities.ScreenshotUtilities;
 import com.functional.pages.ProductPage;
+import com.ui.utilities.Site;
 
 
 public class Product_Functional_11_20 extends BaseTest {
@@ -22,8 +25,8 @@ public class Product_Functional_11_20 extends BaseTest {
     public void verifyProductFunctional_11_20(Integer n, String s) {
         SoftAssert softAssert = new SoftAssert();
 
-        test = extent.createTest("Verify Product Functional Test Cases 11 to 20");
-        driver.get("https://automationexercise.com/");
+        TestNode test = ReportFacade.createTest(extent, "Verify Product Functional Test Cases 11 to 20", null);
+        driver.get(Site.url("/"));
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         
         test.info("Starting test: TC_ECOM_Product_011");
@@ -11,10 +11,13 @@ import org.testng.asserts.SoftAssert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.functional.utilities.ScreenshotUtilities;
 import com.product.Base.BaseTest;
 import com.functional.pages.ProductPage;
+import com.ui.utilities.Site;
 
 
 public class Product_Functional_1_10 extends BaseTest {
@@ -22,9 +25,9 @@ public class Product_Functional_1_10 extends BaseTest {
     @Test(dataProvider = "dp")
     public void verifyFunctionalCases(Integer n, String s) {
     	SoftAssert softAssert = new SoftAssert();
-    	test = extent.createTest("Verify Product Functional Test Cases 1 to 10");
+    	TestNode test = ReportFacade.createTest(extent, "Verify Product Functional Test Cases 1 to 10", null);
 
-        driver.get("https://automationexercise.com/");
+        driver.get(Site.url("/"));
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         test.info("Starting test: TC_ECOM_Product_001");
         try {
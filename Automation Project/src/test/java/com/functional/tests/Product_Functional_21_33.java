@@ -14,18 +14,21 @@ import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
 
 import com.product.Base.BaseTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.functional.utilities.ScreenshotUtilities;
 import com.functional.pages.ProductPage;
+import com.ui.utilities.Site;
 
 public class Product_Functional_21_33 extends BaseTest {
 
     @Test(dataProvider = "dp")
     public void verifyProductFunctional_21_33(Integer n, String s) {
         SoftAssert softAssert = new SoftAssert();
-        test = extent.createTest("Verify Product Functional Test Cases 21 to 33");
+        TestNode test = ReportFacade.createTest(extent, "Verify Product Functional Test Cases 21 to 33", null);
 
-        driver.get("https://automationexercise.com/");
+        driver.get(Site.url("/"));
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
         test.info("Starting test: TC_ECOM_Product_021");
@@ -104,7 +107,7 @@ public class Product_Functional_21_33 extends BaseTest {
         test.info("Starting test: TC_ECOM_Product_023");
         // TC_023 - Quantity counter functionality
         try {
-        	driver.get("https://automationexercise.com/products");
+        	driver.get(Site.url("/products"));
             test.info("Waiting for 'View Product' button to be clickable: " + ProductPage.VIEW_PRODUCT_BUTTON);
             wait.until(ExpectedConditions.elementToBeClickable(ProductPage.VIEW_PRODUCT_BUTTON)).click();
             test.info("Waiting for quantity field to be visible: " + ProductPage.PRODUCT_QUANTITY_FIELD);
@@ -1,33 +1,34 @@
 package com.functional.tests;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import org.testng.Assert;
 import org.testng.annotations.*;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 import com.functional.listeners.TestCasesPageDetailedExtentTestListener;
 import com.functional.pages.TestCasesPage;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade.TestNode;
 
 import java.time.Duration;
 import java.util.List;
+import com.ui.base.DriverFactory;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.TestMeta;
+import com.ui.utilities.Site;
 
+@TestMeta(category = "Test Cases Page Detailed Tests", author = "QA Team")
 @Listeners({TestCasesPageDetailedExtentTestListener.class})
 public class TestCasesPageDetailedTestSuite {
     WebDriver driver;
     WebDriverWait wait;
-    String testCasesUrl = "https://automationexercise.com/test_cases";
+    String testCasesUrl = Site.url("/test_cases");
 
     // Step logging method for ExtentReport
     private void logStep(String message) {
-        ExtentTest extentTest = TestCasesPageDetailedExtentTestListener.getTest();
+        TestNode extentTest = TestCasesPageDetailedExtentTestListener.getTest();
         if (extentTest != null) {
             extentTest.info(message);
         }
@@ -39,16 +40,7 @@ public class TestCasesPageDetailedTestSuite {
     public void setup(@Optional("chrome") String browser) throws Exception {
         try {
             logStep("Launching browser: " + browser);
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-            } else if (browser.equalsIgnoreCase("edge")) {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-            } else {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-            }
+            driver = DriverFactory.create(DriverFactory.normalize(browser));
 
             driver.manage().window().maximize();
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
@@ -74,11 +66,7 @@ public class TestCasesPageDetailedTestSuite {
         logStep("Scrolling to element: " + (element != null ? element.getText() : "null"));
         ((JavascriptExecutor) driver)
             .executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
-        try {
-            // A short pause to ensure the scroll action is complete before the next action
-            Thread.sleep(500); 
-        } catch (InterruptedException ignored) {
-        }
+        WaitEngine.scrollSettled(driver);
     }
 
     private WebElement findElementSafely(By locator) {
@@ -106,36 +94,42 @@ public class TestCasesPageDetailedTestSuite {
 
     // ------------ REFACTORED TEST CASES 1–26 (USING PAGE OBJECTS) ------------
 
+    @TestMeta(id = "TC01", description = "Verify 'Register User' link opens correct detailed test steps")
     @Test(priority = 1)
     public void TC01_RegisterUser() {
         logStep("Starting test: TC01_RegisterUser");
         runNavigationTest(TestCasesPage.TC01_REGISTER_USER, "Register User");
     }
 
+    @TestMeta(id = "TC02", description = "Verify 'Login User with correct email and password' link")
     @Test(priority = 2)
     public void TC02_LoginCorrect() {
         logStep("Starting test: TC02_LoginCorrect");
         runNavigationTest(TestCasesPage.TC02_LOGIN_CORRECT, "Login");
     }
 
+    @TestMeta(id = "TC03", description = "Verify 'Login User with incorrect email and password' link")
     @Test(priority = 3)
     public void TC03_LoginIncorrect() {
         logStep("Starting test: TC03_LoginIncorrect");
         runNavigationTest(TestCasesPage.TC03_LOGIN_INCORRECT, "Login");
     }
 
+    @TestMeta(id = "TC04", description = "Verify 'Logout User' link")
     @Test(priority = 4)
     public void TC04_LogoutUser() {
         logStep("Starting test: TC04_LogoutUser");
         runNavigationTest(TestCasesPage.TC04_LOGOUT_USER, "Logout");
     }
 
+    @TestMeta(id = "TC05", description = "Verify 'Register User with existing email' link")
     @Test(priority = 5)
     public void TC05_RegisterExisting() {
         logStep("Starting test: TC05_RegisterExisting");
         runNavigationTest(TestCasesPage.TC05_REGISTER_EXISTING, "existing");
     }
 
+    @TestMeta(id = "TC06", description = "Verify 'Contact Us Form' link")
     @Test(priority = 6)
     public void TC06_ContactUsForm() {
         logStep("Starting test: TC06_ContactUsForm");
@@ -275,7 +269,7 @@ public class TestCasesPageDetailedTestSuite {
         arrowButton.click();
         
         // Wait for a short moment to allow the scroll animation to complete
-        try { Thread.sleep(1500); } catch (InterruptedException ignored) {}
+        WaitEngine.scrollSettled(driver);
 
         // Verify that the page has scrolled to the top
         long scrollPosition = (long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset;");
@@ -303,7 +297,7 @@ public class TestCasesPageDetailedTestSuite {
         logStep("Scrolled to the top of the page using JavaScript.");
         
         // Wait for the scroll action to complete
-        try { Thread.sleep(1500); } catch (InterruptedException ignored) {}
+        WaitEngine.scrollSettled(driver);
 
         // Verify that the page has scrolled to the top
         long scrollPosition = (long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset;");
@@ -316,6 +310,7 @@ public class TestCasesPageDetailedTestSuite {
     
     // ------------ EXTENDED TEST CASES 27–35 ------------
 
+    @TestMeta(id = "TC27", description = "Verify every test case link opens the correct scenario steps")
     @Test(priority = 27)
     public void TC27_AllLinksCorrectScenarios() {
         logStep("Starting test: TC27_AllLinksCorrectScenarios");
@@ -355,6 +350,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertTrue(allLinksWork);
     }
 
+    @TestMeta(id = "TC28", description = "Verify that test case links are not broken (no 404/500 error)")
     @Test(priority = 28)
     public void TC28_NoBrokenLinks() {
         logStep("Starting test: TC28_NoBrokenLinks");
@@ -384,6 +380,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertTrue(noBroken);
     }
 
+    @TestMeta(id = "TC29", description = "Verify page supports vertical scroll if test case list is long")
     @Test(priority = 29)
     public void TC29_VerticalScrollSupport() {
         logStep("Starting test: TC29_VerticalScrollSupport");
@@ -421,6 +418,7 @@ public class TestCasesPageDetailedTestSuite {
         }
     }
 
+    @TestMeta(id = "TC30", description = "Verify feedback mailto link opens mail client prompt")
     @Test(priority = 30)
     public void TC30_FeedbackMailtoLink() {
         logStep("Starting test: TC30_FeedbackMailtoLink");
@@ -448,6 +446,7 @@ public class TestCasesPageDetailedTestSuite {
         }
     }
 
+    @TestMeta(id = "TC31", description = "Verify email subscription with valid email")
     @Test(priority = 31)
     public void TC31_ValidEmailSubscription() {
         logStep("Starting test: TC31_ValidEmailSubscription");
@@ -480,6 +479,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertTrue(ok);
     }
 
+    @TestMeta(id = "TC32", description = "Verify email subscription with invalid email")
     @Test(priority = 32)
     public void TC32_InvalidEmailSubscription() {
         logStep("Starting test: TC32_InvalidEmailSubscription");
@@ -509,6 +509,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertTrue(ok);
     }
 
+    @TestMeta(id = "TC33", description = "Verify email subscription with blank email")
     @Test(priority = 33)
     public void TC33_BlankEmailSubscription() {
         logStep("Starting test: TC33_BlankEmailSubscription");
@@ -535,6 +536,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertTrue(ok);
     }
 
+    @TestMeta(id = "TC34", description = "Verify email subscription with duplicated email")
     @Test(priority = 34)
     public void TC34_DuplicateEmailSubscription() {
         logStep("Starting test: TC34_DuplicateEmailSubscription");
@@ -590,6 +592,7 @@ public class TestCasesPageDetailedTestSuite {
         Assert.assertFalse(secondSubscriptionAllowed, "BUG: Duplicate email subscription was allowed - no duplicate detection");
     }
 
+    @TestMeta(id = "TC35", description = "Verify entering more than 100 characters in the email subscription field")
     @Test(priority = 35)
     public void TC35_LongEmailSubscription() {
         logStep("Starting test: TC35_LongEmailSubscription");
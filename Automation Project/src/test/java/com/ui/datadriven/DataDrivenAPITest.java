@@ -6,7 +6,8 @@ import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.AfterMethod;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.MediaEntityBuilder;
@@ -19,10 +20,8 @@ import com.ui.utilities.ExcelUtils;
 import com.ui.utilities.ScreenshotUtilities;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import java.time.Duration;
 
 public class DataDrivenAPITest {
@@ -31,7 +30,6 @@ public class DataDrivenAPITest {
     private WebDriver driver;
     private WebDriverWait wait;
     private ExtentReports extent;
-    private ExtentTest test;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -50,13 +48,10 @@ public class DataDrivenAPITest {
     
     @BeforeMethod
     public void setUp() {
-        // Setup Chrome driver
-        WebDriverManager.chromedriver().setup();
+        // Setup Chrome driver, headless unless another profile is selected
         ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless"); // Run in headless mode for speed
-        options.addArguments("--disable-gpu");
         options.addArguments("--no-sandbox");
-        driver = new ChromeDriver(options);
+        driver = DriverFactory.createChrome(options, BrowserProfile.select(null, BrowserProfile.FAST_HEADLESS));
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         driver.manage().window().maximize();
     }
@@ -82,7 +77,7 @@ public class DataDrivenAPITest {
     }
 
     private void runAPITest(String testCaseID, String email, int testCaseNumber) {
-        test = extent.createTest("Test Case " + testCaseNumber + " - " + testCaseID);
+        TestNode test = ReportFacade.createTest(extent, "Test Case " + testCaseNumber + " - " + testCaseID, null);
 
         try {
             ApiTestingUIPage apiPage = new ApiTestingUIPage(driver);
@@ -134,7 +129,7 @@ public class DataDrivenAPITest {
     @AfterSuite
     public void tearDown() {
         if (extent != null) {
-            extent.flush();
+            ReportFacade.flush(extent);
         }
     }
 }
\ No newline at end of file
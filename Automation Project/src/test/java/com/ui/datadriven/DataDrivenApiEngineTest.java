@@ -0,0 +1,80 @@
+package com.ui.datadriven;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.ui.utilities.ApiTestEngine;
+import com.ui.utilities.FixtureClient;
+
+/**
+ * Runs the ApiCases sheet of APITestData.xlsx over HTTP with {@link ApiTestEngine}, without a
+ * browser. All cases are sent concurrently before the first test method runs; each case is then
+ * reported as its own test. Use -Dsite.url=stub to run against the in-process stub site.
+ */
+public class DataDrivenApiEngineTest {
+
+    private ExtentReports extent;
+    private FixtureClient.Account account;
+    private List<ApiTestEngine.Result> results;
+
+    @BeforeClass
+    public void runCases() throws IOException {
+        String reportPath = System.getProperty("user.dir")
+            + "/reports/datadriven_reports/ApiEngineExtentReport.html";
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setDocumentTitle("API Engine Report");
+        sparkReporter.config().setReportName("API Cases over HTTP");
+        extent = new ExtentReports();
+        extent.attachReporter(sparkReporter);
+        extent.setSystemInfo("Environment", FixtureClient.shared().getBaseUrl());
+
+        // Cases that need an existing account use {email} and {password}
+        account = FixtureClient.shared().createAccount();
+        List<ApiTestEngine.ApiCase> cases = ApiTestEngine.loadCases(ApiTestEngine.CASES_FILE, ApiTestEngine.CASES_SHEET);
+        long start = System.nanoTime();
+        results = ApiTestEngine.forConfiguredSite().runAll(cases,
+                Map.of("email", account.getEmail(), "password", account.getPassword()));
+        System.out.println("Ran " + cases.size() + " API cases in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    @DataProvider(name = "apiResults")
+    public Iterator<Object[]> apiResults() {
+        return results.stream().map(result -> new Object[] { result.getCase().getId(), result }).iterator();
+    }
+
+    @Test(dataProvider = "apiResults")
+    public void apiCase(String testCaseId, ApiTestEngine.Result result) {
+        TestNode test = ReportFacade.createTest(extent, testCaseId + " - " + result.getCase().getDescription(), null);
+        test.log(Status.INFO, result.getCase().getMethod() + " " + result.getCase().getEndpoint());
+        test.log(Status.INFO, "responseCode " + result.getResponseCode() + " in " + result.getNanos() / 1_000_000 + " ms");
+        if (result.isPassed()) {
+            test.log(Status.PASS, "Test passed for: " + testCaseId);
+        } else {
+            test.log(Status.FAIL, result.getFailure());
+        }
+        Assert.assertTrue(result.isPassed(), result.getFailure());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (account != null) {
+            FixtureClient.shared().deleteAccount(account.getEmail(), account.getPassword());
+        }
+        if (extent != null) {
+            ReportFacade.flush(extent);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ui.datadriven;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.ui.stub.StubSite;
+import com.ui.utilities.ApiLoadRunner;
+import com.ui.utilities.ApiTestEngine;
+import com.ui.utilities.FixtureClient;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.Site;
+
+/**
+ * Replays the ApiCases sheet of APITestData.xlsx as load with {@link ApiLoadRunner}.
+ *
+ * Runs against the in-process stub site unless -Dload.stub=false, in which case it targets
+ * site.url; only point it at a site you are allowed to load. The throughput and latency
+ * report is written as ApiLoadReport.json next to ApiLoadExtentReport.html. The run fails if more
+ * than load.max.error.percent (default 1) of the requests fail their checks.
+ */
+public class DataDrivenApiLoadTest {
+
+    private static final String REPORT_DIR = System.getProperty("user.dir") + "/reports/datadriven_reports";
+
+    private ExtentReports extent;
+    private FixtureClient fixtures;
+    private FixtureClient.Account account;
+
+    @BeforeClass
+    public void setUp() {
+        String baseUrl = Boolean.parseBoolean(System.getProperty("load.stub", "true"))
+                ? StubSite.start()
+                : Site.baseUrl();
+        fixtures = new FixtureClient(baseUrl);
+        account = fixtures.createAccount();
+
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_DIR + "/ApiLoadExtentReport.html");
+        sparkReporter.config().setDocumentTitle("API Load Report");
+        sparkReporter.config().setReportName("API Cases as Load");
+        extent = new ExtentReports();
+        extent.attachReporter(sparkReporter);
+        extent.setSystemInfo("Environment", baseUrl);
+    }
+
+    @Test
+    public void replayApiCasesAsLoad() throws IOException {
+        List<ApiTestEngine.ApiCase> cases = ApiLoadRunner.selectCases(
+                ApiTestEngine.loadCases(ApiTestEngine.CASES_FILE, ApiTestEngine.CASES_SHEET));
+        ApiTestEngine engine = new ApiTestEngine(fixtures.getBaseUrl(), Integer.MAX_VALUE);
+        ApiLoadRunner.Report report = new ApiLoadRunner(engine, cases,
+                Map.of("email", account.getEmail(), "password", account.getPassword())).run();
+
+        System.out.println(report.summary());
+        Reporter.log(report.summary());
+        report.writeJson(Paths.get(REPORT_DIR, "ApiLoadReport.json"));
+        report.attachTo(extent);
+
+        double maxErrorPercent = Double.parseDouble(System.getProperty("load.max.error.percent", "1"));
+        Assert.assertTrue(report.getRequests() > 0, "No requests completed");
+        Assert.assertTrue(report.getErrorPercent() <= maxErrorPercent,
+                String.format("%.2f%% of requests failed (limit %.2f%%)", report.getErrorPercent(), maxErrorPercent));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (account != null) {
+            fixtures.deleteAccount(account.getEmail(), account.getPassword());
+        }
+        if (extent != null) {
+            ReportFacade.flush(extent);
+        }
+    }
+}
@@ -1,20 +1,23 @@
 package com.ui.datadriven;
 
+import com.ui.base.BrowserProfile;
+import com.ui.base.DriverFactory;
+import com.ui.base.SessionCache;
 import com.ui.utilities.CartExtentReportManager;
+import com.ui.utilities.ExcelDataProvider;
+import com.ui.utilities.FixtureClient;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.*;
 
-import java.io.FileInputStream;
 import java.time.Duration;
 import java.util.*;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.Site;
 
 public class DataDrivenCartTest {
     
@@ -22,15 +25,17 @@ public class DataDrivenCartTest {
     private WebDriverWait wait;
     private JavascriptExecutor js;
     private static final String EXCEL_FILE = "src/test/resources/CartTestData.xlsx";
-    private static final String BASE_URL = "https://automationexercise.com";
+    private static final String BASE_URL = Site.baseUrl();
     
     @DataProvider(name = "cartTestData")
-    public Object[][] getCartTestData() {
-        return readExcelData("CartTestCases");
+    public Iterator<Object[]> getCartTestData() {
+        // Only rows with a TestCaseID become test invocations
+        return ExcelDataProvider.rows(EXCEL_FILE, "CartTestCases",
+            row -> row.get("TestCaseID") != null && !row.get("TestCaseID").isEmpty());
     }
     
     @BeforeClass
-    public void setUp() throws InterruptedException {
+    public void setUp() {
         // Initialize ExtentReport
         CartExtentReportManager.initializeExtentReport();
         
@@ -40,11 +45,9 @@ public class DataDrivenCartTest {
         options.addArguments("--disable-notifications");
         options.addArguments("--start-maximized");
         options.addArguments("--disable-popup-blocking");
-        // Block ads for faster loading
-        options.addArguments("--disable-extensions");
-        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
         
-        driver = new ChromeDriver(options);
+        // Eager page loads unless another profile is selected
+        driver = DriverFactory.createChrome(options, BrowserProfile.select(null, BrowserProfile.EAGER));
         driver.manage().window().maximize();
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(3)); // Reduced from 5
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(15)); // Added page load timeout
@@ -52,7 +55,6 @@ public class DataDrivenCartTest {
         js = (JavascriptExecutor) driver;
         
         driver.get(BASE_URL);
-        handleAds(); // Close any initial ads
         login("abhij@gmail.com", "abhij@gmail.com");
         addItemsToCart();
     }
@@ -67,37 +69,11 @@ public class DataDrivenCartTest {
         CartExtentReportManager.flushReport();
     }
     
-    // Helper method to handle ads/popups
-    private void handleAds() {
-        try {
-            // Close ad iframes if present
-            List<WebElement> iframes = driver.findElements(By.tagName("iframe"));
-            for (WebElement iframe : iframes) {
-                String id = iframe.getAttribute("id");
-                if (id != null && (id.contains("aswift") || id.contains("google"))) {
-                    js.executeScript("arguments[0].remove();", iframe);
-                }
-            }
-            
-            // Close any popup ads
-            List<WebElement> closeButtons = driver.findElements(By.xpath("//div[contains(@id,'dismiss')]|//button[contains(@class,'close')]"));
-            for (WebElement closeBtn : closeButtons) {
-                try {
-                    if (closeBtn.isDisplayed()) {
-                        closeBtn.click();
-                    }
-                } catch (Exception ignored) {}
-            }
-        } catch (Exception e) {
-            // Continue if no ads found
-        }
-    }
-    
     // Scroll to element and click using JavaScript if needed
     private void safeClick(WebElement element) {
         try {
             js.executeScript("arguments[0].scrollIntoView(true);", element);
-            Thread.sleep(200);
+            WaitEngine.scrollSettled(driver);
             element.click();
         } catch (ElementClickInterceptedException e) {
             // If regular click fails, use JavaScript click
@@ -108,7 +84,7 @@ public class DataDrivenCartTest {
     }
     
     @Test(dataProvider = "cartTestData")
-    public void executeCartTest(Map<String, String> testData) throws InterruptedException {
+    public void executeCartTest(Map<String, String> testData) {
         String testCaseID = testData.get("TestCaseID");
         String objective = testData.get("Objective");
         String expectedResult = testData.get("ExpectedResult");
@@ -196,57 +172,14 @@ public class DataDrivenCartTest {
     
     private void login(String email, String password) {
         CartExtentReportManager.logAction("Logging in with email: " + email);
-        WebElement loginLink = wait.until(ExpectedConditions.elementToBeClickable(
-            By.xpath("//a[@href='/login']")));
-        safeClick(loginLink);
-        
-        driver.findElement(By.cssSelector("input[data-qa='login-email']")).sendKeys(email);
-        driver.findElement(By.cssSelector("input[data-qa='login-password']")).sendKeys(password);
-        driver.findElement(By.xpath("//button[contains(.,'Login')]")).click();
-        
-        wait.until(ExpectedConditions.visibilityOfElementLocated(
-            By.xpath("//a[contains(.,'Logout')]")));
+        SessionCache.login(driver, email, password);
         CartExtentReportManager.logValidation("Login successful - Logout link visible");
     }
     
-    private void addItemsToCart() throws InterruptedException {
+    // The first two products of the grid (Blue Top, Men Tshirt), added over HTTP instead of the grid
+    private void addItemsToCart() {
         CartExtentReportManager.logAction("Adding items to cart");
-        driver.get(BASE_URL);
-        handleAds(); // Handle ads before trying to add items
-        
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".features_items")));
-        
-        // Scroll down to products section
-        js.executeScript("window.scrollBy(0, 500);");
-        Thread.sleep(500);
-        
-        List<WebElement> products = driver.findElements(
-            By.cssSelector(".features_items .product-image-wrapper"));
-        
-        for (int i = 0; i < Math.min(2, products.size()); i++) {
-            try {
-                WebElement product = products.get(i);
-                // Hover over product to show Add to Cart button
-                js.executeScript("arguments[0].scrollIntoView(true);", product);
-                Thread.sleep(300);
-                
-                WebElement addBtn = product.findElement(
-                    By.xpath(".//a[contains(@class,'add-to-cart')]"));
-                safeClick(addBtn);
-                
-                // Wait for and click Continue Shopping
-                try {
-                    WebElement continueBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("//button[contains(.,'Continue Shopping')]")));
-                    safeClick(continueBtn);
-                } catch (Exception ignored) {}
-                
-                Thread.sleep(500); // Reduced from 1000
-            } catch (Exception e) {
-                // If one product fails, try the next one
-                continue;
-            }
-        }
+        FixtureClient.shared().addToCart(driver, 1, 2);
         CartExtentReportManager.logValidation("Items added to cart successfully");
     }
     
@@ -263,8 +196,6 @@ public class DataDrivenCartTest {
         WebElement productsLink = driver.findElement(By.xpath("//a[@href='/products']"));
         safeClick(productsLink);
         
-        // Handle Google ads iframe if it appears
-        handleAds();
         
         Assert.assertTrue(driver.getCurrentUrl().contains("/products"));
         CartExtentReportManager.logPass("Products navigation successful");
@@ -291,7 +222,6 @@ public class DataDrivenCartTest {
         WebElement testCasesLink = driver.findElement(By.xpath("//a[@href='/test_cases']"));
         safeClick(testCasesLink);
         
-        handleAds();
         
         Assert.assertTrue(driver.getCurrentUrl().contains("/test_cases"));
         CartExtentReportManager.logPass("Test Cases navigation successful");
@@ -331,7 +261,7 @@ public class DataDrivenCartTest {
         CartExtentReportManager.logPass("Home from cart successful");
     }
     
-    private void testValidEmailSubscription(Map<String, String> testData) throws InterruptedException {
+    private void testValidEmailSubscription(Map<String, String> testData) {
         String email = testData.get("TestData");
         if (email == null) email = "test@example.com";
         
@@ -343,7 +273,7 @@ public class DataDrivenCartTest {
             
             WebElement subscribeBtn = driver.findElement(By.xpath("//button[contains(.,'Subscribe')]"));
             safeClick(subscribeBtn);
-            Thread.sleep(500); // Reduced from 2000
+            WaitEngine.pageSettled(driver);
             
             CartExtentReportManager.logPass("Email subscription test completed");
         } catch (Exception e) {
@@ -370,7 +300,7 @@ public class DataDrivenCartTest {
         }
     }
     
-    private void testProceedToCheckout() throws InterruptedException {
+    private void testProceedToCheckout() {
         CartExtentReportManager.logAction("Testing proceed to checkout");
         driver.get(BASE_URL + "/view_cart");
         
@@ -379,7 +309,7 @@ public class DataDrivenCartTest {
                 By.xpath("//*[contains(.,'Proceed To Checkout')]")));
             safeClick(proceedBtn);
             
-            Thread.sleep(500); // Reduced from 2000
+            WaitEngine.pageSettled(driver);
             boolean isCheckout = driver.getCurrentUrl().contains("checkout") || 
                                !driver.findElements(By.xpath("//*[contains(.,'Checkout')]")).isEmpty();
             
@@ -390,7 +320,7 @@ public class DataDrivenCartTest {
         }
     }
     
-    private void testRemoveFromCart() throws InterruptedException {
+    private void testRemoveFromCart() {
         CartExtentReportManager.logAction("Testing remove item from cart");
         driver.get(BASE_URL + "/view_cart");
         
@@ -402,7 +332,7 @@ public class DataDrivenCartTest {
         if (beforeCount > 0) {
             WebElement deleteBtn = driver.findElement(By.xpath("//a[contains(@class,'cart_quantity_delete')]"));
             safeClick(deleteBtn);
-            Thread.sleep(1000); // Reduced from 3000
+            WaitEngine.pageSettled(driver);
             
             items = driver.findElements(By.xpath("//table[@id='cart_info_table']//tbody/tr"));
             int afterCount = items.size();
@@ -483,7 +413,7 @@ public class DataDrivenCartTest {
         }
     }
     
-    private void testEmptyCartMessage() throws InterruptedException {
+    private void testEmptyCartMessage() {
         CartExtentReportManager.logAction("Testing empty cart message");
         driver.get(BASE_URL + "/view_cart");
         
@@ -496,13 +426,13 @@ public class DataDrivenCartTest {
         for (WebElement deleteBtn : deleteButtons) {
             try {
                 safeClick(deleteBtn);
-                Thread.sleep(300); // Reduced from 1000
+                WaitEngine.pageSettled(driver);
             } catch (Exception e) {
                 // Continue if element is stale
             }
         }
         
-        Thread.sleep(500); // Reduced from 2000
+        WaitEngine.pageSettled(driver);
         
         try {
             // Check if empty cart message is displayed or cart table is empty
@@ -516,7 +446,7 @@ public class DataDrivenCartTest {
         }
     }
     
-    private void testContinueShopping() throws InterruptedException {
+    private void testContinueShopping() {
         CartExtentReportManager.logAction("Testing continue shopping functionality");
         driver.get(BASE_URL + "/view_cart");
         
@@ -526,11 +456,11 @@ public class DataDrivenCartTest {
                 By.xpath("//a[contains(.,'Continue Shopping') or contains(.,'Continue')] | //button[contains(.,'Continue Shopping')]"));
             
             safeClick(continueBtn);
-            Thread.sleep(500); // Reduced from 2000
+            WaitEngine.pageSettled(driver);
             
             // Verify we're redirected to products page or home page
             String currentUrl = driver.getCurrentUrl();
-            Assert.assertTrue(currentUrl.contains("/products") || currentUrl.contains("automationexercise.com"));
+            Assert.assertTrue(currentUrl.contains("/products") || currentUrl.contains(Site.baseUrl()));
             CartExtentReportManager.logPass("Continue shopping functionality successful");
         } catch (Exception e) {
             // If continue shopping button is not found, navigate back to products manually
@@ -539,18 +469,18 @@ public class DataDrivenCartTest {
         }
     }
     
-    private void testCheckoutRedirect() throws InterruptedException {
+    private void testCheckoutRedirect() {
         CartExtentReportManager.logAction("Testing checkout redirect for non-logged-in user");
         WebElement logoutLink = driver.findElement(By.xpath("//a[contains(.,'Logout')]"));
         safeClick(logoutLink);
-        Thread.sleep(500); // Reduced from 2000
+        WaitEngine.pageSettled(driver);
         
         driver.get(BASE_URL + "/view_cart");
         
         try {
             WebElement checkoutBtn = driver.findElement(By.xpath("//*[contains(.,'Proceed To Checkout')]"));
             safeClick(checkoutBtn);
-            Thread.sleep(500); // Reduced from 2000
+            WaitEngine.pageSettled(driver);
             
             boolean redirected = driver.getCurrentUrl().contains("/login") || 
                                !driver.findElements(By.xpath("//*[contains(.,'Login')]")).isEmpty();
@@ -564,64 +494,4 @@ public class DataDrivenCartTest {
             CartExtentReportManager.logWarning("Checkout redirect test completed");
         }
     }
-    
-    private Object[][] readExcelData(String sheetName) {
-        List<Map<String, String>> testDataList = new ArrayList<>();
-        
-        try (FileInputStream fis = new FileInputStream(EXCEL_FILE);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) return new Object[0][0];
-            
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) return new Object[0][0];
-            
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValue(cell));
-            }
-            
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row dataRow = sheet.getRow(i);
-                if (dataRow == null) continue;
-                
-                Map<String, String> rowData = new HashMap<>();
-                for (int j = 0; j < headers.size(); j++) {
-                    Cell cell = dataRow.getCell(j);
-                    rowData.put(headers.get(j), getCellValue(cell));
-                }
-                
-                if (rowData.get("TestCaseID") != null && !rowData.get("TestCaseID").isEmpty()) {
-                    testDataList.add(rowData);
-                }
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error reading Excel: " + e.getMessage());
-            return new Object[0][0];
-        }
-        
-        Object[][] testData = new Object[testDataList.size()][1];
-        for (int i = 0; i < testDataList.size(); i++) {
-            testData[i][0] = testDataList.get(i);
-        }
-        
-        return testData;
-    }
-    
-    private String getCellValue(Cell cell) {
-        if (cell == null) return "";
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                return String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return "";
-        }
-    }
 }
\ No newline at end of file
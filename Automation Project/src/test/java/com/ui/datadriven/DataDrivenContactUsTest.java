@@ -4,7 +4,8 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 import org.testng.annotations.AfterSuite;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.MediaEntityBuilder;
@@ -19,7 +20,6 @@ import com.ui.utilities.ScreenshotUtilities;
 public class DataDrivenContactUsTest extends BaseTest {
 
     ExtentReports extent;
-    ExtentTest test;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -50,7 +50,7 @@ public class DataDrivenContactUsTest extends BaseTest {
 
     private void runContactUsTest(String testType, String name, String email, String subject,
                                   String message, String file, String expectedStatus, int testCaseNumber) {
-        test = extent.createTest("Test Case " + testCaseNumber + " - " + testType);
+        TestNode test = ReportFacade.createTest(extent, "Test Case " + testCaseNumber + " - " + testType, null);
 
         try {
             ContactUsPage contactUsPage = new ContactUsPage(driver);
@@ -97,10 +97,8 @@ public class DataDrivenContactUsTest extends BaseTest {
     }
 
     @AfterSuite
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
-        extent.flush();
+    public void tearDownReport() {
+        // The per-method driver is returned to the pool by BaseTest.tearDown()
+        ReportFacade.flush(extent);
     }
 }
@@ -5,18 +5,19 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 import org.testng.annotations.AfterSuite;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.Status;
 import java.util.List;
 import com.ui.base.*;
 import com.ui.utilities.ExcelUtils;
 import com.ui.utilities.ScreenshotUtilities;
+import com.ui.utilities.Site;
 
 public class DataDrivenLoginTest extends BaseTest {
 
     ExtentReports extent;
-    ExtentTest test;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -49,10 +50,10 @@ public class DataDrivenLoginTest extends BaseTest {
     }
 
     private void signupTest(String username, String email, int testCaseNumber) {
-        test = extent.createTest("Test Case " + testCaseNumber + " - Signup");
+        TestNode test = ReportFacade.createTest(extent, "Test Case " + testCaseNumber + " - Signup", null);
         try {
             test.log(Status.INFO, "Starting Signup Test with Name: " + username + ", Email: " + email);
-            driver.get("https://automationexercise.com/signup");
+            driver.get(Site.url("/signup"));
 
             test.log(Status.INFO, "Navigated to Signup page.");
             driver.findElement(By.name("name")).clear();
@@ -79,10 +80,10 @@ public class DataDrivenLoginTest extends BaseTest {
     }
 
     private void loginTest(String username, String password, int testCaseNumber) {
-        test = extent.createTest("Test Case " + testCaseNumber + " - Login");
+        TestNode test = ReportFacade.createTest(extent, "Test Case " + testCaseNumber + " - Login", null);
         try {
             test.log(Status.INFO, "Starting Login Test with Username: " + username + ", Password: " + password);
-            driver.get("https://automationexercise.com/login");
+            driver.get(Site.url("/login"));
             test.log(Status.INFO, "Navigated to Login page.");
 
             driver.findElement(By.name("email")).clear();
@@ -125,10 +126,8 @@ public class DataDrivenLoginTest extends BaseTest {
     }
 
     @AfterSuite
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
-        extent.flush();
+    public void tearDownReport() {
+        // The per-method driver is returned to the pool by BaseTest.tearDown()
+        ReportFacade.flush(extent);
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.ui.datadriven;
 
-import org.apache.poi.ss.usermodel.*;
 import org.testng.Assert;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
@@ -10,24 +9,22 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.ui.base.BaseTest;
+import com.ui.utilities.ExcelDataProvider;
 import com.ui.utilities.ScreenshotUtilities; // Import the ScreenshotUtilities class
 
 
-import java.io.FileInputStream;
-import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Iterator;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.Site;
 
 public class DataDrivenTestCasesTest extends BaseTest {
 
     ExtentReports extent;
-    ExtentTest test;
 
     @BeforeSuite
     public void setupExtentReport() {
@@ -39,71 +36,18 @@ public class DataDrivenTestCasesTest extends BaseTest {
     }
 
     @DataProvider(name = "testDataFromExcel")
-    public Object[][] getTestData() {
+    public Iterator<Object[]> getTestData() {
         String excelPath = System.getProperty("user.dir") + "/src/test/resources/test case data.xlsx";  
-        List<String[]> data = new ArrayList<>();
-        FileInputStream fis = null;
-        Workbook workbook = null;
-
-        try {
-            fis = new FileInputStream(new File(excelPath));
-            workbook = WorkbookFactory.create(fis);
-            Sheet sheet = workbook.getSheetAt(0);
-
-            Iterator<Row> rows = sheet.iterator();
-
-            // Skip header row
-            if (rows.hasNext()) {
-                rows.next();
-            }
-
-            while (rows.hasNext()) {
-                Row row = rows.next();
-                if (row == null) {
-                    continue;
-                }
-
-                String[] rowData = new String[3];
-                for (int i = 0; i < 3; i++) {
-                    Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                    DataFormatter formatter = new DataFormatter();
-                    rowData[i] = formatter.formatCellValue(cell).trim();
-                }
-                
-                if (!rowData[0].isEmpty() || !rowData[1].isEmpty() || !rowData[2].isEmpty()) {
-                    data.add(rowData);
-                }
-            }
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            // Handle the exception, possibly by returning an empty array or logging
-        } finally {
-            try {
-                if (workbook != null) {
-                    workbook.close();
-                }
-                if (fis != null) {
-                    fis.close();
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
-        
-        Object[][] testData = new Object[data.size()][];
-        for (int i = 0; i < data.size(); i++) {
-            testData[i] = data.get(i);
-        }
-        return testData;
+        // Streams the first three columns; blank rows are skipped
+        return ExcelDataProvider.columns(excelPath, null, 3);
     }
 
     @Test(dataProvider = "testDataFromExcel")
     public void emailSubscriptionTest(String testCaseName, String email, String expectedOutcome) {
-        test = extent.createTest("Test Case - " + testCaseName);
+        TestNode test = ReportFacade.createTest(extent, "Test Case - " + testCaseName, null);
         try {
-            test.log(Status.INFO, "Navigating to URL: https://automationexercise.com/test_cases");
-            driver.get("https://automationexercise.com/test_cases");
+            test.log(Status.INFO, "Navigating to URL: " + Site.url("/test_cases"));
+            driver.get(Site.url("/test_cases"));
             
             WebElement emailField = driver.findElement(By.id("susbscribe_email"));
             WebElement subscribeButton = driver.findElement(By.id("subscribe"));
@@ -120,7 +64,7 @@ public class DataDrivenTestCasesTest extends BaseTest {
             
             subscribeButton.click();
             test.log(Status.INFO, "Clicked the subscribe button.");
-            Thread.sleep(2000); 
+            WaitEngine.pageSettled(driver);
 
             String pageSource = driver.getPageSource().toLowerCase();
             String validationMessage = emailField.getAttribute("validationMessage");
@@ -167,10 +111,8 @@ public class DataDrivenTestCasesTest extends BaseTest {
     }
 
     @AfterSuite
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
-        extent.flush();
+    public void tearDownReport() {
+        // The per-method driver is returned to the pool by BaseTest.tearDown()
+        ReportFacade.flush(extent);
     }
 }
\ No newline at end of file
@@ -2,19 +2,14 @@ package com.ui.datadriven;
 
 import com.ui.base.BaseTest;
 import com.ui.pages.ProductPage;
+import com.ui.utilities.ExcelDataProvider;
 import com.ui.utilities.ScreenshotUtilities;
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
-import org.apache.poi.ss.usermodel.Cell;
-
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.Assert;
@@ -22,13 +17,12 @@ import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import com.ui.utilities.Site;
 
 public class ProductDataDrivenTest extends BaseTest {
     ExtentReports extent;
-    ExtentTest test;
     @BeforeSuite
     public void setupExtentReport() {
         String reportPath = System.getProperty("user.dir") 
@@ -39,9 +33,9 @@ public class ProductDataDrivenTest extends BaseTest {
     }
     @Test(dataProvider = "productData")
     public void productTests(String testCaseId, String input, String expectedResult, String testType) {
-        test = extent.createTest(testCaseId + " - " + testType);
+        TestNode test = ReportFacade.createTest(extent, testCaseId + " - " + testType, null);
         ProductPage productPage = new ProductPage(driver);
-        driver.get("https://automationexercise.com/products");
+        driver.get(Site.url("/products"));
         test.info("Navigated to the products page: " + driver.getCurrentUrl());
 
         try {
@@ -132,55 +126,16 @@ public class ProductDataDrivenTest extends BaseTest {
     }
 
     @DataProvider
-    public Object[][] productData() throws IOException {
+    public Iterator<Object[]> productData() {
         String excelFilePath = System.getProperty("user.dir") + "/src/test/resources/ProductUIData.xlsx";  
-        FileInputStream inputStream = new FileInputStream(excelFilePath);
-        Workbook workbook = new XSSFWorkbook(inputStream);
-        Sheet sheet = workbook.getSheet("SearchTests");
-
-        int rowCount = sheet.getLastRowNum();
-        Object[][] data = new Object[rowCount][4];
-
-        for (int i = 1; i <= rowCount; i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) {
-                continue;
-            }
-            Cell testCaseIdCell = row.getCell(0);
-            Cell inputCell = row.getCell(1);
-            Cell expectedResultCell = row.getCell(2);
-            Cell testTypeCell = row.getCell(3);
-
-            data[i - 1][0] = getCellValue(testCaseIdCell);
-            data[i - 1][1] = getCellValue(inputCell);
-            data[i - 1][2] = getCellValue(expectedResultCell);
-            data[i - 1][3] = getCellValue(testTypeCell);
-        }
-
-        workbook.close();
-        inputStream.close();
-        return data;
+        // Rows reach TestNG while the sheet is still being read; missing cells come back as ""
+        return ExcelDataProvider.columns(excelFilePath, "SearchTests", 4);
     }
 
-    private String getCellValue(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf((int) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return "";
-        }
-    }
     @AfterSuite
     public void tearDownReport() {
         if (extent != null) {
-            extent.flush();
+            ReportFacade.flush(extent);
         }
     }
 }
\ No newline at end of file
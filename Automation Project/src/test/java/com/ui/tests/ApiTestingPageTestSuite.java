@@ -1,15 +1,12 @@
 package com.ui.tests;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.Assert;
 import org.testng.annotations.*;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.base.DriverFactory;
 
 import com.ui.listeners.ApiTestingExtentTestListener;
 import com.ui.listeners.ApiTestingExtentTestListener;
@@ -19,7 +16,10 @@ import com.ui.utilities.ExtentReportManager;
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import com.ui.utilities.TestMeta;
+import com.ui.utilities.Site;
 
+@TestMeta(category = "API Testing Page Tests", author = "QA Team")
 @Listeners({ApiTestingExtentTestListener.class})
 public class ApiTestingPageTestSuite {
 
@@ -27,28 +27,19 @@ public class ApiTestingPageTestSuite {
     WebDriverWait wait;
     Actions actions;
     ApiTestingUIPage apiTestingPage;
-    String apiTestingUrl = "https://automationexercise.com/api_list";
+    String apiTestingUrl = Site.url("/api_list");
 
     @Parameters("browser")
     @BeforeTest
     public void setup(@Optional("chrome") String browser) {
         ExtentReportManager.initializeExtentReport("ApiTestingSuite");
-        if (browser.equalsIgnoreCase("chrome")) {
-            WebDriverManager.chromedriver().setup();
-            driver = new ChromeDriver();
-        } else if (browser.equalsIgnoreCase("edge")) {
-            WebDriverManager.edgedriver().setup();
-            driver = new EdgeDriver();
-        } else {
-            WebDriverManager.firefoxdriver().setup();
-            driver = new FirefoxDriver();
-        }
+        driver = DriverFactory.create(DriverFactory.normalize(browser));
         driver.manage().window().maximize();
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         wait = new WebDriverWait(driver, Duration.ofSeconds(2));
         actions = new Actions(driver);
         apiTestingPage = new ApiTestingUIPage(driver);
-        driver.get("https://automationexercise.com/");
+        driver.get(Site.url("/"));
     }
 
     @BeforeMethod
@@ -75,35 +66,39 @@ public class ApiTestingPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_API_Testing_01", description = "Verify user can navigate to API testing page from home page")
     @Test(priority = 1)
     public void TC_API_Testing_01_NavigateToAPITesting() {
         // Start from home page for this test
-        driver.get("https://automationexercise.com/");
+        driver.get(Site.url("/"));
         apiTestingPage.clickApiTestingIcon();
         boolean status = driver.getCurrentUrl().contains("api_list");
         logResult("TC_API_Testing_01 - Navigate to API Testing page", status);
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_02", description = "Verify clicking the logo redirects to the homepage")
     @Test(priority = 2)
     public void TC_API_Testing_02_LogoRedirect() {
         // Already on API page from @BeforeMethod
         WebElement logo = findElementSafely(apiTestingPage.getLogoLocator());
         if (logo != null) apiTestingPage.clickLogo();
-        boolean status = driver.getCurrentUrl().equals("https://automationexercise.com/");
+        boolean status = driver.getCurrentUrl().equals(Site.url("/"));
         logResult("TC_API_Testing_02 - Logo Redirect to Homepage", status);
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_03", description = "Verify Home icon redirects to the homepage successfully")
     @Test(priority = 3)
     public void TC_API_Testing_03_HomeIconRedirect() {
         // Already on API page from @BeforeMethod
         apiTestingPage.clickHomeIcon();
-        boolean status = driver.getCurrentUrl().equals("https://automationexercise.com/");
+        boolean status = driver.getCurrentUrl().equals(Site.url("/"));
         logResult("TC_API_Testing_03 - Home Icon Redirect", status);
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_04", description = "Verify Products icon redirects to the product listings page")
     @Test(priority = 4)
     public void TC_API_Testing_04_ProductsIconRedirect() {
         // Already on API page from @BeforeMethod
@@ -113,6 +108,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_05", description = "Verify Cart icon redirects to the cart page properly")
     @Test(priority = 5)
     public void TC_API_Testing_05_CartIconRedirect() {
         // Already on API page from @BeforeMethod
@@ -122,6 +118,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_06", description = "Verify Signup/login icon correctly redirects to login page")
     @Test(priority = 6)
     public void TC_API_Testing_06_SignupLoginIcon() {
         // Already on API page from @BeforeMethod
@@ -131,6 +128,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_07", description = "Verify Test Cases icon redirects to the Test Cases listing page")
     @Test(priority = 7)
     public void TC_API_Testing_07_TestCasesIconRedirect() {
         // Already on API page from @BeforeMethod
@@ -140,6 +138,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_08", description = "Verify API Testing icon redirects to the API list page")
     @Test(priority = 8)
     public void TC_API_Testing_08_APITestingIcon() {
         // Already on API page from @BeforeMethod
@@ -149,6 +148,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_09", description = "Verify Video Tutorials icon opens the correct video tutorial resources")
     @Test(priority = 9)
     public void TC_API_Testing_09_VideoTutorialsIcon() {
         // Already on API page from @BeforeMethod
@@ -158,6 +158,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_10", description = "Verify Contact Us icon opens the contact form page successfully")
     @Test(priority = 10)
     public void TC_API_Testing_10_ContactUsIcon() {
         // Already on API page from @BeforeMethod
@@ -167,6 +168,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_11", description = "Verify the subscription section is visible and functional")
     @Test(priority = 11)
     public void TC_API_Testing_11_SubscriptionSection() {
         // Already on API page from @BeforeMethod
@@ -178,6 +180,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_12", description = "Verify each API section expands when clicked")
     @Test(priority = 12)
     public void TC_API_Testing_12_APISectionExpands() {
         // Already on API page from @BeforeMethod
@@ -187,6 +190,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_13", description = "Verify expanded API section collapses when clicked again")
     @Test(priority = 13)
     public void TC_API_Testing_13_APISectionCollapses() {
         // Already on API page from @BeforeMethod
@@ -199,6 +203,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_14", description = "Verify scroll functionality to view all APIs")
     @Test(priority = 14)
     public void TC_API_Testing_14_ScrollFunctionality() {
         // Already on API page from @BeforeMethod
@@ -208,6 +213,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_15", description = "Verify that API URLs are clickable and working")
     @Test(priority = 15)
     public void TC_API_Testing_15_APIURLsClickable() {
         // Already on API page from @BeforeMethod
@@ -217,6 +223,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_16", description = "Verify consistent design across all API blocks")
     @Test(priority = 16)
     public void TC_API_Testing_16_ConsistentDesign() {
         // Already on API page from @BeforeMethod
@@ -225,6 +232,7 @@ public class ApiTestingPageTestSuite {
         Assert.assertTrue(status);
     }
 
+    @TestMeta(id = "TC_API_Testing_17", description = "Verify API section titles support 'Open in new tab' on right click")
     @Test(priority = 17)
     public void TC_API_Testing_17_RightClickNewTab() {
         // Already on API page from @BeforeMethod
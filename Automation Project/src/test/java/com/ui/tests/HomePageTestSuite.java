@@ -2,20 +2,22 @@ package com.ui.tests;
 
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.Assert;
 import org.testng.annotations.*;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.base.DriverFactory;
+import com.ui.pages.HomePage;
 import com.ui.utilities.ExtentReportManager;
 import com.ui.listeners.ExtentTestListener;
 import java.time.Duration;
 import java.util.List;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.TestMeta;
+import com.ui.utilities.Site;
 
+@TestMeta(category = "Home Page Tests", author = "QA Team")
 @Listeners({ExtentTestListener.class})
 public class HomePageTestSuite {
 
@@ -29,27 +31,17 @@ public class HomePageTestSuite {
         try {
             logStep("Setting up test environment with browser: " + browser);
 
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-                logStep("Chrome browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("edge")) {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                logStep("Edge browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("firefox") || browser.equalsIgnoreCase("brave")) {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                logStep("Firefox browser initialized successfully");
-            }
+            String key = DriverFactory.normalize(browser);
+            driver = DriverFactory.create(key);
+            logStep("Browser initialized: " + key);
 
             driver.manage().window().maximize();
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
             wait = new WebDriverWait(driver, Duration.ofSeconds(15));
             actions = new Actions(driver);
 
-            logStep("Navigating to: https://automationexercise.com/");
-            driver.get("https://automationexercise.com/");
+            logStep("Navigating to: " + Site.url("/"));
+            driver.get(Site.url("/"));
             logStep("Browser setup completed successfully");
         } catch (Exception e) {
             logStep("Error in test setup: " + e.getMessage());
@@ -84,7 +76,7 @@ public class HomePageTestSuite {
     private void scrollToElement(WebElement element) {
         logStep("Scrolling to element: " + describeElement(element));
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
-        try { Thread.sleep(500); } catch (InterruptedException e) {}
+        WaitEngine.scrollSettled(driver);
     }
 
     private WebElement findElementWithMultipleSelectors(String[] selectors) {
@@ -111,12 +103,13 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_01", description = "Verify homepage URL loads correctly on Chrome browser")
     @Test(priority = 1)
     public void TC_Home_01_Chrome_URL() {
         try {
             logStep("Verifying page title and URL on Chrome");
             boolean status = driver.getTitle().contains("Automation Exercise") &&
-                           driver.getCurrentUrl().equals("https://automationexercise.com/");
+                           driver.getCurrentUrl().equals(Site.url("/"));
             logResult("TC_Home_01 - Verify URL on Chrome Browser", status);
             Assert.assertTrue(status);
         } catch (Exception e) {
@@ -124,6 +117,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_02", description = "Verify homepage URL loads correctly on Edge browser")
     @Test(priority = 2)
     public void TC_Home_02_Edge_URL() {
         try {
@@ -135,6 +129,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_03", description = "Verify homepage URL loads correctly on Brave/Firefox browser")
     @Test(priority = 3)
     public void TC_Home_03_Brave_URL() {
         try {
@@ -146,6 +141,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_04", description = "Verify Home icon functionality in navigation")
     @Test(priority = 4)
     public void TC_Home_04_HomeIcon() {
         try {
@@ -154,9 +150,9 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Home')]")));
             logStep("Clicking Home icon.");
             homeIcon.click();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Home URL after click.");
-            boolean status = driver.getCurrentUrl().equals("https://automationexercise.com/");
+            boolean status = driver.getCurrentUrl().equals(Site.url("/"));
             logResult("TC_Home_04 - Home Icon Functionality", status);
             Assert.assertTrue(status);
         } catch (Exception e) {
@@ -164,6 +160,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_05", description = "Verify Products icon functionality in navigation")
     @Test(priority = 5)
     public void TC_Home_05_ProductsIcon() {
         try {
@@ -172,19 +169,20 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Products')]")));
             logStep("Clicking Products icon.");
             productsIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Products page URL.");
             boolean status = driver.getCurrentUrl().contains("products");
             logResult("TC_Home_05 - Products Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_05 - Products Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_06", description = "Verify Cart icon functionality in navigation")
     @Test(priority = 6)
     public void TC_Home_06_CartIcon() {
         try {
@@ -193,20 +191,21 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Cart')]")));
             logStep("Clicking Cart icon.");
             cartIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Cart page by URL and Shopping Cart text.");
             boolean status = driver.getCurrentUrl().contains("view_cart") ||
                            driver.getPageSource().contains("Shopping Cart");
             logResult("TC_Home_06 - Cart Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_06 - Cart Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_07", description = "Verify Signup/Login icon functionality in navigation")
     @Test(priority = 7)
     public void TC_Home_07_SignupLoginIcon() {
         try {
@@ -215,19 +214,20 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Signup') or contains(text(),'Login')]")));
             logStep("Clicking Signup/Login icon.");
             signupLoginIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Login page by URL.");
             boolean status = driver.getCurrentUrl().contains("login");
             logResult("TC_Home_07 - Signup/Login Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_07 - Signup/Login Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_08", description = "Verify Test Cases icon functionality in navigation")
     @Test(priority = 8)
     public void TC_Home_08_TestCasesIcon() {
         try {
@@ -236,19 +236,20 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Test Cases')]")));
             logStep("Clicking Test Cases icon.");
             testCasesIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Test Cases page by URL.");
             boolean status = driver.getCurrentUrl().contains("test_cases");
             logResult("TC_Home_08 - Test Cases Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_08 - Test Cases Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_09", description = "Verify API Testing icon functionality in navigation")
     @Test(priority = 9)
     public void TC_Home_09_APITestingIcon() {
         try {
@@ -257,19 +258,20 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'API Testing')]")));
             logStep("Clicking API Testing icon.");
             apiIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying API List page by URL.");
             boolean status = driver.getCurrentUrl().contains("api_list");
             logResult("TC_Home_09 - API Testing Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_09 - API Testing Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_10", description = "Verify Video Tutorials icon functionality in navigation")
     @Test(priority = 10)
     public void TC_Home_10_VideoTutorialsIcon() {
         try {
@@ -278,26 +280,27 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Video Tutorials')]")));
             logStep("Clicking Video Tutorials icon.");
             videoIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Video Tutorials page or YouTube navigation.");
             boolean status = driver.getCurrentUrl().contains("youtube") ||
                            driver.getTitle().toLowerCase().contains("video") ||
                            driver.getCurrentUrl().contains("video");
             logResult("TC_Home_10 - Video Tutorials Icon Functionality", status);
-            if (!driver.getCurrentUrl().contains("automationexercise.com")) {
+            if (!driver.getCurrentUrl().contains(Site.baseUrl())) {
                 logStep("Navigating back from YouTube.");
                 driver.navigate().back();
             } else {
                 logStep("Navigating home from Video page.");
-                driver.get("https://automationexercise.com/");
+                driver.get(Site.url("/"));
             }
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_10 - Video Tutorials Icon Functionality", false);
-            driver.get("https://automationexercise.com/");
+            driver.get(Site.url("/"));
         }
     }
 
+    @TestMeta(id = "TC_Home_11", description = "Verify Contact Us icon functionality in navigation")
     @Test(priority = 11)
     public void TC_Home_11_ContactUsIcon() {
         try {
@@ -306,25 +309,26 @@ public class HomePageTestSuite {
                 By.xpath("//a[contains(text(),'Contact us')]")));
             logStep("Clicking Contact Us icon.");
             contactIcon.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Contact Us page by URL.");
             boolean status = driver.getCurrentUrl().contains("contact_us");
             logResult("TC_Home_11 - Contact Us Icon Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_11 - Contact Us Icon Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_12", description = "Verify Test Cases button functionality on homepage")
     @Test(priority = 12)
     public void TC_Home_12_TestCasesButton() {
         try {
             logStep("Scrolling to footer area for Test Cases button.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight/2);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
 
             logStep("Waiting for Test Cases button to be clickable.");
             WebElement testCasesButton = wait.until(ExpectedConditions.elementToBeClickable(
@@ -332,25 +336,26 @@ public class HomePageTestSuite {
             scrollToElement(testCasesButton);
             logStep("Clicking Test Cases button in footer.");
             testCasesButton.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying Test Cases page by URL.");
             boolean status = driver.getCurrentUrl().contains("test_cases");
             logResult("TC_Home_12 - Test Cases Button Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_12 - Test Cases Button Functionality", false);
             driver.navigate().back();
         }
     }
 
+    @TestMeta(id = "TC_Home_13", description = "Verify APIs List button functionality on homepage")
     @Test(priority = 13)
     public void TC_Home_13_APIsListButton() {
         try {
             logStep("Scrolling to footer for APIs List button.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight/2);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             String[] selectors = {
                 "//a[contains(@href,'api_list') and (contains(text(),'API') or contains(@class,'btn'))]",
                 "//a[contains(text(),'APIs List')]",
@@ -362,20 +367,21 @@ public class HomePageTestSuite {
             scrollToElement(apisButton);
             logStep("Clicking APIs List button in footer.");
             apisButton.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying APIs List page by URL or content.");
             boolean status = driver.getCurrentUrl().contains("api_list") ||
                            driver.getPageSource().toLowerCase().contains("api");
             logResult("TC_Home_13 - APIs List Button Functionality", status);
             logStep("Navigating back to Home.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_13 - APIs List Button Functionality", false);
             try { driver.navigate().back(); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_14", description = "Verify Automation Exercise logo click functionality")
     @Test(priority = 14)
     public void TC_Home_14_AutomationExerciseLogo() {
         try {
@@ -393,21 +399,22 @@ public class HomePageTestSuite {
                 logo.findElement(By.xpath("./ancestor::a[1]")) : logo;
             logStep("Clicking logo to return to Home.");
             clickableElement.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying if homepage is loaded after logo click.");
-            boolean status = driver.getCurrentUrl().equals("https://automationexercise.com/");
+            boolean status = driver.getCurrentUrl().equals(Site.url("/"));
             logResult("TC_Home_14 - Automation Exercise Logo Functionality", status);
         } catch (Exception e) {
             logResult("TC_Home_14 - Automation Exercise Logo Functionality", false);
         }
     }
 
+    @TestMeta(id = "TC_Home_15", description = "Verify email subscription with valid email address")
     @Test(priority = 15)
     public void TC_Home_15_EmailSubscriptionValid() {
         try {
             logStep("Scrolling to footer for email subscription.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             String[] emailSelectors = {
                 "#susbscribe_email",
                 "input[placeholder*='email' i]",
@@ -430,7 +437,7 @@ public class HomePageTestSuite {
             logStep("Locating and clicking Subscribe button.");
             WebElement subscribeBtn = findElementWithMultipleSelectors(subscribeSelectors);
             subscribeBtn.click();
-            Thread.sleep(3000);
+            WaitEngine.pageSettled(driver);
             logStep("Verifying subscription success message.");
             boolean status = driver.getPageSource().toLowerCase().contains("subscribed successfully") ||
                            driver.getPageSource().toLowerCase().contains("successfully subscribed") ||
@@ -441,12 +448,13 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_16", description = "Verify brand name filter functionality")
     @Test(priority = 16)
     public void TC_Home_16_BrandNameFilter() {
         try {
             logStep("Scrolling to find brands section.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight/3);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             String[] brandSelectors = {
                 "//div[contains(@class,'brands')]//a",
                 ".brands-name a",
@@ -474,14 +482,14 @@ public class HomePageTestSuite {
                 scrollToElement(firstBrand);
                 logStep("Clicking first brand: " + brandName);
                 firstBrand.click();
-                Thread.sleep(2000);
+                WaitEngine.pageSettled(driver);
                 logStep("Verifying product list by brand.");
                 boolean status = driver.getCurrentUrl().contains("brand") || 
                                driver.getPageSource().contains(brandName);
                 logResult("TC_Home_16 - Brand Name Filter Functionality", status);
                 logStep("Navigating back to Home.");
                 driver.navigate().back();
-                Thread.sleep(1000);
+                WaitEngine.pageSettled(driver);
             } else {
                 logResult("TC_Home_16 - Brand Name Filter Functionality", false);
             }
@@ -491,6 +499,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_17", description = "Verify category section expansion functionality")
     @Test(priority = 17)
     public void TC_Home_17_CategorySectionExpand() {
         try {
@@ -506,7 +515,7 @@ public class HomePageTestSuite {
             scrollToElement(categoryToggle);
             logStep("Clicking category toggle.");
             categoryToggle.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Checking if subcategories are visible.");
             List<WebElement> subCategories = driver.findElements(
                 By.xpath("//div[contains(@class,'collapse in')]//a | //div[@class='panel-collapse collapse in']//a"));
@@ -517,12 +526,13 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_18", description = "Verify Add to Cart button functionality")
     @Test(priority = 18)
     public void TC_Home_18_AddToCart() {
         try {
             logStep("Scrolling to products section.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight/2);");
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             String[] productSelectors = {
                 "//div[@class='features_items']//div[@class='product-image-wrapper'][1]",
                 "//div[@class='col-sm-4'][1]",
@@ -543,7 +553,7 @@ public class HomePageTestSuite {
                 scrollToElement(productElement);
                 logStep("Moving cursor to product.");
                 actions.moveToElement(productElement).perform();
-                Thread.sleep(1000);
+                WaitEngine.domQuiet(driver);
                 String[] addToCartSelectors = {
                     ".//a[contains(@class,'add-to-cart')]",
                     ".//a[contains(text(),'Add to cart')]",
@@ -584,7 +594,7 @@ public class HomePageTestSuite {
                     scrollToElement(addToCartBtn);
                     logStep("Clicking Add to Cart button.");
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", addToCartBtn);
-                    Thread.sleep(3000);
+                    WaitEngine.pageSettled(driver);
                     logStep("Verifying product was added to cart.");
                     String pageSource = driver.getPageSource().toLowerCase();
                     boolean status = pageSource.contains("your product has been added to cart") ||
@@ -609,12 +619,13 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_19", description = "Verify scroll to top button functionality")
     @Test(priority = 19)
     public void TC_Home_19_ScrollToTop() {
         try {
             logStep("Scrolling down page.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             String[] scrollTopSelectors = {
                 "#scrollUp",
                 ".scroll-to-top",
@@ -626,7 +637,7 @@ public class HomePageTestSuite {
             WebElement scrollTopBtn = findElementWithMultipleSelectors(scrollTopSelectors);
             logStep("Clicking Scroll To Top button.");
             scrollTopBtn.click();
-            Thread.sleep(3000);
+            WaitEngine.scrollSettled(driver);
             logStep("Checking scroll position after click.");
             Long scrollPosition = (Long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset;");
             boolean status = scrollPosition < 100; // Allow a little tolerance
@@ -636,6 +647,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_20", description = "Verify View Product button functionality")
     @Test(priority = 20)
     public void TC_Home_20_ViewProduct() {
         try {
@@ -650,26 +662,27 @@ public class HomePageTestSuite {
             scrollToElement(viewProductBtn);
             logStep("Clicking View Product button.");
             viewProductBtn.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Checking product details page by URL or text.");
             boolean status = driver.getCurrentUrl().contains("product_details") ||
                            driver.getPageSource().contains("Product Details");
             logResult("TC_Home_20 - View Product Functionality", status);
             logStep("Navigating back to previous page.");
             driver.navigate().back();
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             logResult("TC_Home_20 - View Product Functionality", false);
             try { driver.navigate().back(); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_21", description = "Verify Women category section functionality")
     @Test(priority = 21)
     public void TC_Home_21_WomenCategorySection() {
         try {
             logStep("Navigating to Home page.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Searching for Women category in left sidebar.");
             String[] womenCategorySelectors = {
                 "//a[@href='#Women']",
@@ -691,7 +704,7 @@ public class HomePageTestSuite {
                 scrollToElement(womenCategory);
                 logStep("Clicking Women category.");
                 womenCategory.click();
-                Thread.sleep(2000);
+                WaitEngine.pageSettled(driver);
                 logStep("Searching for subcategory of Women.");
                 String[] subCategorySelectors = {
                     "//div[@id='Women']//a[1]",
@@ -711,7 +724,7 @@ public class HomePageTestSuite {
                 if (womenSubCategory != null) {
                     logStep("Clicking first subcategory of Women.");
                     womenSubCategory.click();
-                    Thread.sleep(2000);
+                    WaitEngine.pageSettled(driver);
                     logStep("Checking category product page or title for 'women'.");
                     boolean status = driver.getCurrentUrl().contains("category_products") ||
                                    driver.getCurrentUrl().contains("women") ||
@@ -721,7 +734,7 @@ public class HomePageTestSuite {
                     if (status) {
                         logStep("Navigating back to Home.");
                         driver.navigate().back();
-                        Thread.sleep(1000);
+                        WaitEngine.pageSettled(driver);
                     }
                 } else {
                     logResult("TC_Home_21 - Women Category Section Functionality", false);
@@ -731,16 +744,17 @@ public class HomePageTestSuite {
             }
         } catch (Exception e) {
             logResult("TC_Home_21 - Women Category Section Functionality", false);
-            try { driver.get("https://automationexercise.com/"); } catch (Exception ignored) {}
+            try { driver.get(Site.url("/")); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_22", description = "Verify Men category section functionality")
     @Test(priority = 22)
     public void TC_Home_22_MenCategorySection() {
         try {
             logStep("Navigating to Home page.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Searching for Men category in left sidebar.");
             String[] menCategorySelectors = {
                 "//a[@href='#Men']",
@@ -762,7 +776,7 @@ public class HomePageTestSuite {
                 scrollToElement(menCategory);
                 logStep("Clicking Men category.");
                 menCategory.click();
-                Thread.sleep(2000);
+                WaitEngine.pageSettled(driver);
                 logStep("Searching for subcategory of Men.");
                 String[] subCategorySelectors = {
                     "//div[@id='Men']//a[1]",
@@ -782,7 +796,7 @@ public class HomePageTestSuite {
                 if (menSubCategory != null) {
                     logStep("Clicking first subcategory of Men.");
                     menSubCategory.click();
-                    Thread.sleep(2000);
+                    WaitEngine.pageSettled(driver);
                     logStep("Checking category product page or title for 'men'.");
                     boolean status = driver.getCurrentUrl().contains("category_products") ||
                                    driver.getCurrentUrl().contains("men") ||
@@ -792,7 +806,7 @@ public class HomePageTestSuite {
                     if (status) {
                         logStep("Navigating back to Home.");
                         driver.navigate().back();
-                        Thread.sleep(1000);
+                        WaitEngine.pageSettled(driver);
                     }
                 } else {
                     logResult("TC_Home_22 - Men Category Section Functionality", false);
@@ -802,16 +816,17 @@ public class HomePageTestSuite {
             }
         } catch (Exception e) {
             logResult("TC_Home_22 - Men Category Section Functionality", false);
-            try { driver.get("https://automationexercise.com/"); } catch (Exception ignored) {}
+            try { driver.get(Site.url("/")); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_23", description = "Verify Kids category section functionality")
     @Test(priority = 23)
     public void TC_Home_23_KidsCategorySection() {
         try {
             logStep("Navigating to Home page.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Searching for Kids category in left sidebar.");
             String[] kidsCategorySelectors = {
                 "//a[@href='#Kids']",
@@ -833,7 +848,7 @@ public class HomePageTestSuite {
                 scrollToElement(kidsCategory);
                 logStep("Clicking Kids category.");
                 kidsCategory.click();
-                Thread.sleep(2000);
+                WaitEngine.pageSettled(driver);
                 logStep("Searching for subcategory of Kids.");
                 String[] subCategorySelectors = {
                     "//div[@id='Kids']//a[1]",
@@ -853,7 +868,7 @@ public class HomePageTestSuite {
                 if (kidsSubCategory != null) {
                     logStep("Clicking first subcategory of Kids.");
                     kidsSubCategory.click();
-                    Thread.sleep(2000);
+                    WaitEngine.pageSettled(driver);
                     logStep("Checking category product page or title for 'kids'.");
                     boolean status = driver.getCurrentUrl().contains("category_products") ||
                                    driver.getCurrentUrl().contains("kids") ||
@@ -863,7 +878,7 @@ public class HomePageTestSuite {
                     if (status) {
                         logStep("Navigating back to Home.");
                         driver.navigate().back();
-                        Thread.sleep(1000);
+                        WaitEngine.pageSettled(driver);
                     }
                 } else {
                     logResult("TC_Home_23 - Kids Category Section Functionality", false);
@@ -873,19 +888,20 @@ public class HomePageTestSuite {
             }
         } catch (Exception e) {
             logResult("TC_Home_23 - Kids Category Section Functionality", false);
-            try { driver.get("https://automationexercise.com/"); } catch (Exception ignored) {}
+            try { driver.get(Site.url("/")); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_24", description = "Verify View Cart functionality after adding product")
     @Test(priority = 24)
     public void TC_Home_24_ViewCartAfterAddToCart() {
         try {
             logStep("Navigating to Home page.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Scrolling to products section.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight/2);");
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             logStep("Searching for Add to Cart buttons.");
             boolean addedToCart = false;
             try {
@@ -896,7 +912,7 @@ public class HomePageTestSuite {
                     scrollToElement(addToCartBtn);
                     logStep("Clicking Add to Cart button.");
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", addToCartBtn);
-                    Thread.sleep(2000);
+                    WaitEngine.pageSettled(driver);
                     addedToCart = true;
                 }
             } catch (Exception e) {
@@ -923,7 +939,7 @@ public class HomePageTestSuite {
             if (viewCartBtn != null) {
                 logStep("Clicking View Cart button.");
                 viewCartBtn.click();
-                Thread.sleep(2000);
+                WaitEngine.pageSettled(driver);
                 status = driver.getCurrentUrl().contains("view_cart") ||
                         driver.getPageSource().contains("Shopping Cart") ||
                         driver.getTitle().toLowerCase().contains("cart");
@@ -932,13 +948,13 @@ public class HomePageTestSuite {
                 try {
                     WebElement cartNav = driver.findElement(By.xpath("//a[contains(text(),'Cart')]"));
                     cartNav.click();
-                    Thread.sleep(2000);
+                    WaitEngine.pageSettled(driver);
                     status = driver.getCurrentUrl().contains("view_cart") ||
                             driver.getPageSource().contains("Shopping Cart");
                 } catch (Exception e) {
                     logStep("Cart navigation failed, trying direct URL.");
-                    driver.get("https://automationexercise.com/view_cart");
-                    Thread.sleep(2000);
+                    driver.get(Site.url("/view_cart"));
+                    WaitEngine.pageSettled(driver);
                     status = driver.getCurrentUrl().contains("view_cart");
                 }
             }
@@ -946,23 +962,24 @@ public class HomePageTestSuite {
             if (status) {
                 logStep("Navigating back to Home.");
                 driver.navigate().back();
-                Thread.sleep(1000);
+                WaitEngine.pageSettled(driver);
             } else {
                 logStep("Reloading home page.");
-                driver.get("https://automationexercise.com/");
+                driver.get(Site.url("/"));
             }
         } catch (Exception e) {
             logResult("TC_Home_24 - View Cart After Add to Cart", false);
-            try { driver.get("https://automationexercise.com/"); } catch (Exception ignored) {}
+            try { driver.get(Site.url("/")); } catch (Exception ignored) {}
         }
     }
 
+    @TestMeta(id = "TC_Home_25", description = "Verify email subscription with invalid email address")
     @Test(priority = 25)
     public void TC_Home_25_InvalidEmailSubscription() {
         try {
             logStep("Scrolling to footer for email subscription.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             logStep("Locating email input by ID.");
             WebElement emailInput = driver.findElement(By.id("susbscribe_email"));
             scrollToElement(emailInput);
@@ -972,7 +989,7 @@ public class HomePageTestSuite {
             logStep("Clicking Subscribe button.");
             WebElement subscribeBtn = driver.findElement(By.id("subscribe"));
             subscribeBtn.click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             logStep("Checking for validation or absence of success message.");
             String pageSource = driver.getPageSource();
             boolean validationShown = pageSource.contains("valid email") ||
@@ -984,6 +1001,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_26", description = "Verify scroll bar functionality on homepage")
     @Test(priority = 26)
     public void TC_Home_26_ScrollBarFunctionality() {
         try {
@@ -993,11 +1011,11 @@ public class HomePageTestSuite {
             boolean scrollBarNeeded = bodyHeight > windowHeight;
             logStep("Scrolling to 500px down.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 500);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             Long scrollPosition = (Long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset;");
             logStep("Scrolling back to top of page.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             boolean scrollWorking = scrollPosition > 0;
             boolean status = scrollBarNeeded && scrollWorking;
             logResult("TC_Home_26 - Scroll Bar Functionality", status);
@@ -1006,6 +1024,7 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_27", description = "Verify homepage responsiveness on different screen sizes")
     @Test(priority = 27)
     public void TC_Home_27_Responsiveness() {
         try {
@@ -1013,15 +1032,15 @@ public class HomePageTestSuite {
             Dimension originalSize = driver.manage().window().getSize();
             logStep("Resizing window to mobile size.");
             driver.manage().window().setSize(new Dimension(375, 667));
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             boolean mobileLayout = driver.findElement(By.tagName("body")).isDisplayed();
             logStep("Resizing window to tablet size.");
             driver.manage().window().setSize(new Dimension(768, 1024));
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             boolean tabletLayout = driver.findElement(By.tagName("body")).isDisplayed();
             logStep("Restoring window to original size.");
             driver.manage().window().setSize(originalSize);
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             boolean status = mobileLayout && tabletLayout;
             logResult("TC_Home_27 - Responsiveness Testing", status);
         } catch (Exception e) {
@@ -1029,12 +1048,13 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_28", description = "Verify carousel sliders functionality on homepage")
     @Test(priority = 28)
     public void TC_Home_28_CarouselSliders() {
         try {
             logStep("Navigating to home page for Carousel Slider test.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Searching for carousel/slider by multiple selectors.");
             String[] carouselSelectors = {
                 "//div[@id='slider-carousel']",
@@ -1084,7 +1104,7 @@ public class HomePageTestSuite {
                     if (rightArrow != null) {
                         logStep("Clicking right arrow on carousel.");
                         rightArrow.click();
-                        Thread.sleep(2000);
+                        WaitEngine.pageSettled(driver);
                         controlsWorking = true;
                         WebElement leftArrow = null;
                         for (String selector : leftArrowSelectors) {
@@ -1098,7 +1118,7 @@ public class HomePageTestSuite {
                         if (leftArrow != null) {
                             logStep("Clicking left arrow on carousel.");
                             leftArrow.click();
-                            Thread.sleep(2000);
+                            WaitEngine.pageSettled(driver);
                         }
                     }
                 } catch (Exception e) {
@@ -1110,7 +1130,7 @@ public class HomePageTestSuite {
                     if (!indicators.isEmpty()) {
                         logStep("Clicking second indicator of carousel.");
                         indicators.get(1).click(); // Click second indicator
-                        Thread.sleep(2000);
+                        WaitEngine.pageSettled(driver);
                         controlsWorking = true;
                     }
                 } catch (Exception e) {
@@ -1124,15 +1144,16 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_29", description = "Verify email validation without @ symbol")
     @Test(priority = 29)
     public void TC_Home_29_EmailWithoutAtSymbol() {
         try {
             logStep("Navigating to home page for Email test.");
-            driver.get("https://automationexercise.com/");
-            Thread.sleep(2000);
+            driver.get(Site.url("/"));
+            WaitEngine.pageSettled(driver);
             logStep("Scrolling to footer for email subscription.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(1000);
+            WaitEngine.scrollSettled(driver);
             logStep("Searching for email input field by multiple selectors.");
             String[] emailInputSelectors = {
                 "#susbscribe_email",
@@ -1184,7 +1205,7 @@ public class HomePageTestSuite {
                 }
                 if (subscribeBtn != null) {
                     subscribeBtn.click();
-                    Thread.sleep(1000);
+                    WaitEngine.pageSettled(driver);
                     logStep("Checking HTML5 validation message after submit.");
                     String validationMessage = emailInput.getAttribute("validationMessage");
                     Boolean isValid = (Boolean) ((JavascriptExecutor) driver)
@@ -1202,6 +1223,16 @@ public class HomePageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Home_30", description = "Verify homepage stays within its performance budget")
+    @Test(priority = 30)
+    public void TC_Home_30_PerformanceBudget() {
+        logStep("Measuring homepage against its performance budget");
+        HomePage homePage = new HomePage(driver);
+        homePage.navigateToHomePage();
+        homePage.assertWithinBudget();
+        logResult("TC_Home_30 - Homepage Performance Budget", true);
+    }
+
     @AfterTest
     public void teardown() {
         if (driver != null) {
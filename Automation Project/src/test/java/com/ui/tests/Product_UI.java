@@ -5,6 +5,8 @@ import com.ui.pages.ProductPage;
 import com.ui.utilities.ScreenshotUtilities;
 import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.ExtentReports;
+import com.ui.utilities.ReportFacade;
+import com.ui.utilities.ReportFacade.TestNode;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
@@ -20,6 +22,7 @@ import org.testng.annotations.AfterClass;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import com.ui.utilities.Site;
 
 public class Product_UI extends BaseTest {
     
@@ -60,19 +63,19 @@ public class Product_UI extends BaseTest {
     @AfterClass
     public void tearDownReport() {
         if (customExtent != null) {
-            customExtent.flush();
+            ReportFacade.flush(customExtent);
         }
     }
 
     @Test(dataProvider = "dp")
     public void verifyUICases(Integer n, String s) {
         // Use custom extent instead of the base class extent
-        test = customExtent.createTest("Verify Product Page UI Test Cases");
+        TestNode test = ReportFacade.createTest(customExtent, "Verify Product Page UI Test Cases", null);
         ProductPage productPage = new ProductPage(driver);
 
         // Home Page
-        test.info("Navigating to Automation Exercise home page: https://automationexercise.com/");
-        driver.get("https://automationexercise.com/");
+        test.info("Navigating to Automation Exercise home page: " + Site.url("/"));
+        driver.get(Site.url("/"));
 
         // --- TC_Product_01: Home icon functionality ---
         test.info("Starting Test Case: TC_Product_01 - Verify Home icon functionality.");
@@ -164,7 +167,7 @@ public class Product_UI extends BaseTest {
 
         // --- TC_Product_08: Automation Exercise logo leads to homepage ---
         test.info("Starting Test Case: TC_Product_08 - Verify Automation Exercise logo leads to homepage.");
-        driver.get("https://automationexercise.com/");
+        driver.get(Site.url("/"));
         test.info("Navigated to Automation Exercise home page to start a new test.");
         productPage.clickHeaderLink(ProductPage.PRODUCTS_LINK);
         try {
@@ -306,7 +309,7 @@ public class Product_UI extends BaseTest {
         test.info("Starting Test Case: TC_Product_21 - Verify page scroll bar functionality.");
         try {
             test.info("Navigating to the products page to test scrolling.");
-            driver.get("https://automationexercise.com/products");
+            driver.get(Site.url("/products"));
             test.info("Scrolling down the page by 500 pixels using JavascriptExecutor.");
             ((JavascriptExecutor) driver).executeScript("window.scrollBy(0,500)");
             test.pass("TC_Product_21 passed. Page scroll verified successfully.");
@@ -345,7 +348,7 @@ public class Product_UI extends BaseTest {
         test.info("Starting Test Case: TC_Product_26 - Verify each product has a name, price, and 'Add to Cart' button.");
         try {
             test.info("Navigating to the products page to verify product details.");
-            driver.get("https://automationexercise.com/products");
+            driver.get(Site.url("/products"));
             test.info("Waiting for the first product item to be visible.");
             WebElement firstProduct = wait.until(ExpectedConditions.visibilityOfElementLocated(ProductPage.FIRST_PRODUCT_ITEM));
             test.info("Verifying the product name is displayed.");
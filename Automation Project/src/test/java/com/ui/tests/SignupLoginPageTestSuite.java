@@ -4,18 +4,19 @@ import com.aventstack.extentreports.Status;
 import com.ui.listeners.SignupLoginExtentTestListener;
 import com.ui.pages.SignupLoginPage;
 import com.ui.utilities.ExtentReportManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.base.DriverFactory;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.interactions.Actions;
 
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.*;
 import java.time.Duration;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.TestMeta;
+import com.ui.utilities.Site;
 
+@TestMeta(category = "Signup/Login Page Tests", author = "QA Team")
 @Listeners({SignupLoginExtentTestListener.class})
 public class SignupLoginPageTestSuite {
 
@@ -23,8 +24,8 @@ public class SignupLoginPageTestSuite {
     WebDriverWait wait;
     Actions actions;
     SignupLoginPage signupLoginPage;
-    String signupLoginUrl = "https://automationexercise.com/login";
-    String homeUrl = "https://automationexercise.com/";
+    String signupLoginUrl = Site.url("/login");
+    String homeUrl = Site.url("/");
 
     @Parameters("browser")
     @BeforeTest
@@ -32,19 +33,9 @@ public class SignupLoginPageTestSuite {
         try {
             System.out.println("Setting up test environment with browser: " + browser);
 
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-                System.out.println("Chrome browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("edge")) {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                System.out.println("Edge browser initialized successfully");
-            } else if (browser.equalsIgnoreCase("firefox") || browser.equalsIgnoreCase("brave")) {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                System.out.println("Firefox browser initialized successfully");
-            }
+            String key = DriverFactory.normalize(browser);
+            driver = DriverFactory.create(key);
+            System.out.println("Browser initialized: " + key);
 
             driver.manage().window().maximize();
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
@@ -72,21 +63,22 @@ public class SignupLoginPageTestSuite {
         }
     }
 
-    private void navigateToSignupLogin() throws InterruptedException {
+    private void navigateToSignupLogin() {
         try {
             ExtentReportManager.logInfo("Navigating to the home page.");
             driver.get(homeUrl);
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
             ExtentReportManager.logInfo("Clicking the 'Signup / Login' link.");
             signupLoginPage.clickSignupLoginLink();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
         } catch (Exception e) {
             ExtentReportManager.logInfo("Could not click 'Signup / Login' link, navigating directly to the login page.");
             driver.get(signupLoginUrl);
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_15", description = "Verify and validate the functionality of Home icon on the home page")
     @Test(priority = 15)
     public void TC_Signup_Login_15_HomeIconFunctionality() {
         try {
@@ -95,7 +87,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the Home icon.");
             driver.findElement(SignupLoginPage.HOME_LINK).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the current URL is the Home URL.");
             boolean status = driver.getCurrentUrl().equals(homeUrl);
@@ -115,6 +107,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_16", description = "Verify and validate the functionality of Products icon on the home page")
     @Test(priority = 16)
     public void TC_Signup_Login_16_ProductsIconFunctionality() {
         try {
@@ -123,7 +116,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the Products icon.");
             driver.findElement(SignupLoginPage.PRODUCTS_LINK).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the current URL contains 'products'.");
             boolean status = driver.getCurrentUrl().contains("products");
@@ -143,6 +136,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_17", description = "Verify and validate the functionality of Cart icon on the home page")
     @Test(priority = 17)
     public void TC_Signup_Login_17_CartIconFunctionality() {
         try {
@@ -151,7 +145,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the Cart icon.");
             driver.findElement(SignupLoginPage.CART_LINK).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the current URL contains 'view_cart' or the page source contains 'Shopping Cart'.");
             boolean status = driver.getCurrentUrl().contains("view_cart") || driver.getPageSource().contains("Shopping Cart");
@@ -171,8 +165,9 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_18", description = "Verify and validate the functionality of Test Cases icon on the home page")
     @Test(priority = 18)
-    public void TC_Signup_Login_18_TestCasesIconFunctionality() throws InterruptedException {
+    public void TC_Signup_Login_18_TestCasesIconFunctionality() {
         try {
             ExtentReportManager.getTest().log(Status.INFO, "Pre-condition: Navigating to Signup/Login page.");
             navigateToSignupLogin();
@@ -198,6 +193,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_19", description = "Verify and validate the functionality of API Testing icon on the home page")
     @Test(priority = 19)
     public void TC_Signup_Login_19_APITestingIconFunctionality() {
         try {
@@ -206,7 +202,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the 'API Testing' link.");
             driver.findElement(SignupLoginPage.API_TESTING_LINK).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the URL contains 'api_list'.");
             boolean status = driver.getCurrentUrl().contains("api_list");
@@ -226,6 +222,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_20", description = "Verify and validate the functionality of Video Tutorials icon on the home page")
     @Test(priority = 20)
     public void TC_Signup_Login_20_VideoTutorialsIconFunctionality() {
         try {
@@ -234,7 +231,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the 'Video Tutorials' link.");
             driver.findElement(SignupLoginPage.VIDEO_TUTORIALS_LINK).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the URL or title contains 'youtube' or 'video'.");
             boolean status = driver.getCurrentUrl().contains("youtube") || driver.getTitle().toLowerCase().contains("video") || driver.getCurrentUrl().contains("video");
@@ -254,8 +251,9 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_21", description = "Verify and validate the functionality of Contact Us icon on the home page")
     @Test(priority = 21)
-    public void TC_Signup_Login_21_ContactUsIconFunctionality() throws InterruptedException {
+    public void TC_Signup_Login_21_ContactUsIconFunctionality() {
         try {
             ExtentReportManager.getTest().log(Status.INFO, "Pre-condition: Navigating to Signup/Login page.");
             navigateToSignupLogin();
@@ -281,6 +279,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_25", description = "To verify and validate that the password field is masked")
     @Test(priority = 25)
     public void TC_Signup_Login_25_PasswordFieldMasked() {
         try {
@@ -315,6 +314,7 @@ public class SignupLoginPageTestSuite {
 
     
 
+    @TestMeta(id = "TC_Signup_Login_27", description = "Verify and validate the functionality of the automation exercise on the website leads to homepage")
     @Test(priority = 27)
     public void TC_Signup_Login_27_AutomationExerciseLogoFunctionality() {
         try {
@@ -323,7 +323,7 @@ public class SignupLoginPageTestSuite {
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the website logo.");
             driver.findElement(SignupLoginPage.WEBSITE_LOGO).click();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying if the URL is the home URL.");
             boolean status = driver.getCurrentUrl().equals(homeUrl);
@@ -345,16 +345,17 @@ public class SignupLoginPageTestSuite {
 
     
 
+    @TestMeta(id = "TC_Signup_Login_29", description = "To verify and validate that the Login/SignUp page loads successfully")
     @Test(priority = 29)
     public void TC_Signup_Login_29_LoginSignupPageLoads() {
         try {
             ExtentReportManager.getTest().log(Status.INFO, "Pre-condition: Navigating to the home page.");
             driver.get(homeUrl);
-            Thread.sleep(1000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 1: Clicking the 'Signup / Login' link.");
             signupLoginPage.clickSignupLoginLink();
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             
             ExtentReportManager.getTest().log(Status.INFO, "Step 2: Verifying that the URL contains 'login' and the page contains expected text.");
             boolean status = driver.getCurrentUrl().contains("login") && (driver.getPageSource().contains("Login to your account") || driver.getPageSource().contains("New User Signup"));
@@ -374,6 +375,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_30", description = "To verify and validate the presence of 'Login to your account' section")
     @Test(priority = 30)
     public void TC_Signup_Login_30_LoginAccountSectionPresence() {
         try {
@@ -398,6 +400,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_31", description = "To verify and validate the presence of 'New User Signup!' section")
     @Test(priority = 31)
     public void TC_Signup_Login_31_NewUserSignupSectionPresence() {
         try {
@@ -422,6 +425,7 @@ public class SignupLoginPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Signup_Login_32", description = "To verify and validate the presence of 'OR' separator/logo between login and signup")
     @Test(priority = 32)
     public void TC_Signup_Login_32_ORSeparatorPresence() {
         try {
@@ -3,11 +3,8 @@ package com.ui.tests;
 import com.ui.listeners.TestCasesExtentTestListener;
 import com.ui.pages.TestCasesPage;
 import com.ui.utilities.ExtentReportManager; // Import the manager class
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ui.base.DriverFactory;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
@@ -15,7 +12,11 @@ import org.testng.annotations.*;
 
 import java.time.Duration;
 import java.util.List;
+import com.ui.utilities.WaitEngine;
+import com.ui.utilities.TestMeta;
+import com.ui.utilities.Site;
 
+@TestMeta(category = "Test Cases Page Tests", author = "QA Team")
 @Listeners({TestCasesExtentTestListener.class})
 public class TestCasesPageTestSuite {
 
@@ -31,22 +32,10 @@ public class TestCasesPageTestSuite {
             System.out.println("Setting up test environment with browser: " + browser);
             ExtentReportManager.logInfo("Setting up test environment with browser: " + browser);
 
-            if (browser.equalsIgnoreCase("chrome")) {
-                WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
-                System.out.println("Chrome browser initialized successfully");
-                ExtentReportManager.logInfo("Chrome browser initialized successfully.");
-            } else if (browser.equalsIgnoreCase("edge")) {
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                System.out.println("Edge browser initialized successfully");
-                ExtentReportManager.logInfo("Edge browser initialized successfully.");
-            } else if (browser.equalsIgnoreCase("firefox") || browser.equalsIgnoreCase("brave")) {
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                System.out.println("Firefox browser initialized successfully");
-                ExtentReportManager.logInfo("Firefox browser initialized successfully.");
-            }
+            String key = DriverFactory.normalize(browser);
+            driver = DriverFactory.create(key);
+            System.out.println("Browser initialized: " + key);
+            ExtentReportManager.logInfo("Browser initialized: " + key);
 
             driver.manage().window().maximize();
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
@@ -54,9 +43,9 @@ public class TestCasesPageTestSuite {
             actions = new Actions(driver);
             testCasesPage = new TestCasesPage(driver);
 
-            System.out.println("Navigating to: https://automationexercise.com/");
-            ExtentReportManager.logInfo("Navigating to: https://automationexercise.com/");
-            driver.get("https://automationexercise.com/");
+            System.out.println("Navigating to: " + Site.url("/"));
+            ExtentReportManager.logInfo("Navigating to: " + Site.url("/"));
+            driver.get(Site.url("/"));
             System.out.println("Browser setup completed successfully");
             ExtentReportManager.logInfo("Browser setup completed successfully.");
         } catch (Exception e) {
@@ -77,6 +66,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_01", description = "Verify Test Cases page loads successfully")
     @Test(priority = 1)
     public void TC_Test_Cases_01_PageLoadsSuccessfully() {
         try {
@@ -93,6 +83,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_02", description = "Verify presence of all listed test case links")
     @Test(priority = 2)
     public void TC_Test_Cases_02_AllTestCaseLinksPresent() {
         try {
@@ -111,6 +102,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_03", description = "Verify each test case name/link is visually separated as a row")
     @Test(priority = 3)
     public void TC_Test_Cases_03_TestCasesSeparatedByRows() {
         try {
@@ -143,7 +135,7 @@ public class TestCasesPageTestSuite {
                 String cursor = firstLink.getCssValue("cursor");
                 boolean hasPointerCursor = "pointer".equals(cursor);
                 actions.moveToElement(firstLink).perform();
-                Thread.sleep(500);
+                WaitEngine.domQuiet(driver);
                 status = hasPointerCursor || firstLink.isEnabled();
             }
             logResult("TC_Test_Cases_04 - Test Case Links Clickable", status);
@@ -156,6 +148,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_05", description = "Verify clicking a test case link opens the test step details")
     @Test(priority = 5)
     public void TC_Test_Cases_05_ClickingLinkOpensDetails() {
         try {
@@ -169,7 +162,7 @@ public class TestCasesPageTestSuite {
                 ExtentReportManager.logInfo("Clicking the first test case link: " + firstLink.getText());
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", firstLink);
                 firstLink.click();
-                Thread.sleep(3000);
+                WaitEngine.pageSettled(driver);
                 String newUrl = driver.getCurrentUrl();
                 String pageContent = driver.getPageSource();
                 status = !newUrl.equals(originalUrl) ||
@@ -187,6 +180,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_06", description = "Verify 'Feedback for Us' section is present below test cases")
     @Test(priority = 6)
     public void TC_Test_Cases_06_FeedbackSectionPresent() {
         try {
@@ -220,7 +214,7 @@ public class TestCasesPageTestSuite {
                 ExtentReportManager.logInfo("Verifying href attribute for the first link. Href found: " + href);
                 if (status) {
                     firstLink.click();
-                    Thread.sleep(3000);
+                    WaitEngine.pageSettled(driver);
                     String pageTitle = driver.getTitle();
                     boolean pageLoaded = !pageTitle.toLowerCase().contains("error") &&
                             !driver.getPageSource().contains("404");
@@ -238,6 +232,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_08", description = "Verify clicking feedback email opens mail application prompt")
     @Test(priority = 8)
     public void TC_Test_Cases_08_FeedbackEmailOpensMailApp() {
         try {
@@ -265,10 +260,10 @@ public class TestCasesPageTestSuite {
             testCasesPage.navigateToTestCasesPage();
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the scroll to top button.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             ExtentReportManager.logInfo("Scrolled down to the bottom of the page.");
             testCasesPage.scrollToTop();
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             long scrollPosition = (long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset");
             boolean status = scrollPosition < 100;
             ExtentReportManager.logInfo("Verifying that the page has scrolled to the top.");
@@ -283,6 +278,7 @@ public class TestCasesPageTestSuite {
     }
 
 
+    @TestMeta(id = "TC_Test_Cases_14", description = "Verify 'Home' link navigates to Home page")
     @Test(priority = 14)
     public void TC_Test_Cases_14_HomeLinkNavigation() {
         try {
@@ -290,8 +286,8 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Home link.");
             testCasesPage.clickHeaderLink(TestCasesPage.HOME_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Home' link.");
-            Thread.sleep(2000);
-            boolean status = driver.getCurrentUrl().equals("https://automationexercise.com/");
+            WaitEngine.pageSettled(driver);
+            boolean status = driver.getCurrentUrl().equals(Site.url("/"));
             logResult("TC_Test_Cases_14 - Home Link Navigation", status);
             Assert.assertTrue(status);
             ExtentReportManager.logPass("Home link successfully navigates to the home page.");
@@ -302,6 +298,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_15", description = "Verify 'Products' link navigates to Products page")
     @Test(priority = 15)
     public void TC_Test_Cases_15_ProductsLinkNavigation() {
         try {
@@ -309,7 +306,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Products link.");
             testCasesPage.clickHeaderLink(TestCasesPage.PRODUCTS_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Products' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("products");
             logResult("TC_Test_Cases_15 - Products Link Navigation", status);
             Assert.assertTrue(status);
@@ -321,6 +318,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_16", description = "Verify 'Cart' link navigates to Cart page")
     @Test(priority = 16)
     public void TC_Test_Cases_16_CartLinkNavigation() {
         try {
@@ -328,7 +326,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Cart link.");
             testCasesPage.clickHeaderLink(TestCasesPage.CART_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Cart' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("view_cart");
             logResult("TC_Test_Cases_16 - Cart Link Navigation", status);
             Assert.assertTrue(status);
@@ -347,7 +345,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the SignUp/Login link.");
             testCasesPage.clickHeaderLink(TestCasesPage.SIGNUP_LOGIN_LINK);
             ExtentReportManager.logInfo("Clicked on the 'SignUp/Login' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("login");
             logResult("TC_Test_Cases_17 - SignUp/Login Link Navigation", status);
             Assert.assertTrue(status);
@@ -359,6 +357,7 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_18", description = "Verify 'Test Cases' link navigates to Test Cases page")
     @Test(priority = 18)
     public void TC_Test_Cases_18_TestCasesLinkNavigation() {
         try {
@@ -366,7 +365,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Test Cases link.");
             testCasesPage.clickHeaderLink(TestCasesPage.TEST_CASES_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Test Cases' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("test_cases");
             logResult("TC_Test_Cases_18 - Test Cases Link Navigation", status);
             Assert.assertTrue(status);
@@ -385,7 +384,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the API Testing link.");
             testCasesPage.clickHeaderLink(TestCasesPage.API_TESTING_LINK);
             ExtentReportManager.logInfo("Clicked on the 'API Testing' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("api_list");
             logResult("TC_Test_Cases_19 - API Testing Link Navigation", status);
             Assert.assertTrue(status);
@@ -404,7 +403,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Video Tutorials link.");
             testCasesPage.clickHeaderLink(TestCasesPage.VIDEO_TUTORIALS_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Video Tutorials' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("youtube") || driver.getCurrentUrl().contains("video");
             logResult("TC_Test_Cases_20 - Video Tutorials Link Navigation", status);
             Assert.assertTrue(status);
@@ -423,7 +422,7 @@ public class TestCasesPageTestSuite {
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test the Contact Us link.");
             testCasesPage.clickHeaderLink(TestCasesPage.CONTACT_US_LINK);
             ExtentReportManager.logInfo("Clicked on the 'Contact Us' link.");
-            Thread.sleep(2000);
+            WaitEngine.pageSettled(driver);
             boolean status = driver.getCurrentUrl().contains("contact_us");
             logResult("TC_Test_Cases_21 - Contact Us Link Navigation", status);
             Assert.assertTrue(status);
@@ -435,23 +434,24 @@ public class TestCasesPageTestSuite {
         }
     }
 
+    @TestMeta(id = "TC_Test_Cases_22", description = "Verify appearance and function of the page scroll bar")
     @Test(priority = 22)
     public void TC_Test_Cases_22_ScrollBarFunctionality() {
         try {
             testCasesPage.navigateToTestCasesPage();
             ExtentReportManager.logInfo("Navigated to the Test Cases Page to test scroll bar functionality.");
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(2000);
+            WaitEngine.scrollSettled(driver);
             ExtentReportManager.logInfo("Scrolled down to the bottom to enable scroll bar.");
             long bodyHeight = (long) ((JavascriptExecutor) driver).executeScript("return document.body.scrollHeight");
             long windowHeight = (long) ((JavascriptExecutor) driver).executeScript("return window.innerHeight");
             boolean scrollBarNeeded = bodyHeight > windowHeight;
             if (scrollBarNeeded) {
                 ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 500);");
-                Thread.sleep(1000);
+                WaitEngine.scrollSettled(driver);
                 long scrollPosition = (long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset");
                 ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
-                Thread.sleep(1000);
+                WaitEngine.scrollSettled(driver);
                 boolean scrollWorking = scrollPosition > 0;
                 boolean status = scrollBarNeeded && scrollWorking;
                 logResult("TC_Test_Cases_22 - Scroll Bar Functionality", status);
@@ -477,15 +477,15 @@ public class TestCasesPageTestSuite {
             Dimension originalSize = driver.manage().window().getSize();
             ExtentReportManager.logInfo("Original window size: " + originalSize.width + "x" + originalSize.height);
             driver.manage().window().setSize(new Dimension(375, 667));
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             ExtentReportManager.logInfo("Resized window to mobile dimensions (375x667).");
             boolean mobileLayout = driver.findElement(By.tagName("body")).isDisplayed();
             driver.manage().window().setSize(new Dimension(768, 1024));
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             ExtentReportManager.logInfo("Resized window to tablet dimensions (768x1024).");
             boolean tabletLayout = driver.findElement(By.tagName("body")).isDisplayed();
             driver.manage().window().setSize(originalSize);
-            Thread.sleep(1000);
+            WaitEngine.domQuiet(driver);
             ExtentReportManager.logInfo("Reset window size to original.");
             boolean status = mobileLayout && tabletLayout;
             logResult("TC_Test_Cases_23 - Responsiveness Test Cases", status);